@@ -74,6 +74,7 @@ public class ConfigManager {
         testConfig.setExplicitTimeout(getIntProperty("browser.timeout.explicit", 20));
         testConfig.setWindowWidth(getIntProperty("browser.window.width", 1920));
         testConfig.setWindowHeight(getIntProperty("browser.window.height", 1080));
+        testConfig.setPageLoadStrategy(getProperty("browser.page.load.strategy", "normal"));
         
         // Environment Configuration
         testConfig.setEnvironment(getProperty("environment", "dev"));
@@ -84,6 +85,7 @@ public class ConfigManager {
         // Test Configuration
         testConfig.setParallelExecution(getBooleanProperty("parallel.execution", true));
         testConfig.setThreadCount(getIntProperty("thread.count", 3));
+        testConfig.setExecutionThreadMode(getProperty("execution.thread.mode", "platform"));
         testConfig.setRetryCount(getIntProperty("retry.count", 2));
         testConfig.setScreenshotOnFailure(getBooleanProperty("screenshot.on.failure", true));
         
@@ -99,6 +101,76 @@ public class ConfigManager {
         // API Configuration
         testConfig.setApiBaseUrl(getProperty("api.base.url", ""));
         testConfig.setApiTimeout(getIntProperty("api.timeout", 30));
+        
+        // Driver Pool Configuration
+        testConfig.setDriverPoolEnabled(getBooleanProperty("driver.pool.enabled", false));
+        testConfig.setDriverPoolSize(getIntProperty("driver.pool.size", 2));
+        testConfig.setDriverPoolMaxIdleSeconds(getIntProperty("driver.pool.max.idle.seconds", 300));
+        testConfig.setDriverPoolMaxUses(getIntProperty("driver.pool.max.uses", 50));
+        testConfig.setDriverPoolLeaseTimeout(getIntProperty("driver.pool.lease.timeout", 60));
+        testConfig.setSessionReuseEnabled(getBooleanProperty("session.reuse.enabled", false));
+        
+        // Driver Resolver Configuration
+        testConfig.setDriverResolverCacheFile(getProperty("driver.resolver.cache.file", ""));
+        testConfig.setDriverResolverOffline(getBooleanProperty("driver.resolver.offline", false));
+        testConfig.setDriverServiceShared(getBooleanProperty("driver.service.shared", false));
+        
+        // Driver Shutdown Configuration
+        testConfig.setDriverQuitTimeout(getIntProperty("driver.quit.timeout", 30));
+        testConfig.setDriverShutdownHookEnabled(getBooleanProperty("driver.shutdown.hook.enabled", true));
+        
+        // Session Reaper Configuration
+        testConfig.setSessionReaperEnabled(getBooleanProperty("session.reaper.enabled", false));
+        testConfig.setSessionReaperInterval(getIntProperty("session.reaper.interval", 15));
+        testConfig.setSessionReaperPingTimeout(getIntProperty("session.reaper.ping.timeout", 5));
+        testConfig.setSessionReaperMaxMissedPings(getIntProperty("session.reaper.max.missed.pings", 3));
+        testConfig.setSessionReaperKillOrphans(getBooleanProperty("session.reaper.kill.orphans", false));
+        
+        // Network Blocking Configuration (profiles are read by NetworkBlockingProfile)
+        testConfig.setNetworkBlockingProfile(getProperty("network.blocking.profile", ""));
+        
+        // Page Readiness Configuration (used with the eager and none page load strategies)
+        testConfig.setPageReadinessNetworkIdle(getBooleanProperty("page.readiness.network.idle", false));
+        testConfig.setPageReadinessNetworkIdleMillis(getIntProperty("page.readiness.network.idle.millis", 500));
+        
+        // Browser Profile Template Configuration
+        testConfig.setBrowserProfileTemplateEnabled(getBooleanProperty("browser.profile.template.enabled", false));
+        testConfig.setBrowserProfileTemplateDir(getProperty("browser.profile.template.dir", ""));
+        testConfig.setBrowserProfileTemplateHardlinks(getBooleanProperty("browser.profile.template.hardlinks", false));
+        testConfig.setBrowserProfileCleanupInterval(getIntProperty("browser.profile.cleanup.interval", 30));
+        
+        // Session Admission Control (per-browser memory estimates are read by DriverManager)
+        testConfig.setAdmissionControlEnabled(getBooleanProperty("admission.control.enabled", false));
+        testConfig.setAdmissionMemoryReserveMb(getIntProperty("admission.memory.reserve.mb", 512));
+        testConfig.setAdmissionMaxLoadPerCpu(getDoubleProperty("admission.max.load.per.cpu", 1.5));
+        testConfig.setAdmissionWaitTimeout(getIntProperty("admission.wait.timeout", 300));
+        testConfig.setAdmissionPollIntervalMillis(getIntProperty("admission.poll.interval.millis", 500));
+        
+        // Tab Context Configuration (tab isolation needs a BiDi connection)
+        testConfig.setBrowserBidiEnabled(getBooleanProperty("browser.bidi.enabled", false));
+        testConfig.setTabContextMaxPerBrowser(getIntProperty("tab.context.max.per.browser", 8));
+        testConfig.setTabContextSharedCookies(getBooleanProperty("tab.context.shared.cookies", false));
+        
+        // Wait Configuration (event-driven waits use BiDi when browser.bidi.enabled, else CDP on Chromium)
+        testConfig.setWaitEventDrivenEnabled(getBooleanProperty("wait.event.driven.enabled", false));
+        testConfig.setWaitEventMinIntervalMillis(getIntProperty("wait.event.min.interval.millis", 25));
+        testConfig.setWaitEventFallbackIntervalMillis(getIntProperty("wait.event.fallback.interval.millis", 2000));
+        testConfig.setWaitPollingStrategy(getProperty("wait.polling.strategy", "fixed"));
+        testConfig.setWaitPollingInitialMillis(getIntProperty("wait.polling.initial.millis", 500));
+        testConfig.setWaitPollingMaxMillis(getIntProperty("wait.polling.max.millis", 2000));
+        testConfig.setWaitPollingMultiplier(getDoubleProperty("wait.polling.multiplier", 2.0));
+        testConfig.setWaitPollingJitter(getDoubleProperty("wait.polling.jitter", 0.0));
+        testConfig.setWaitEngine(getProperty("wait.engine", "polling"));
+        testConfig.setWaitBrowserCheckIntervalMillis(getIntProperty("wait.browser.check.interval.millis", 250));
+        testConfig.setWaitImplicitZeroEnabled(getBooleanProperty("wait.implicit.zero.enabled", false));
+        testConfig.setWaitTelemetryEnabled(getBooleanProperty("wait.telemetry.enabled", true));
+        testConfig.setWaitTelemetryReportLimit(getIntProperty("wait.telemetry.report.limit", 25));
+        testConfig.setElementCacheEnabled(getBooleanProperty("element.cache.enabled", true));
+        testConfig.setExtractionChunkSize(getIntProperty("extraction.chunk.size", 500));
+        testConfig.setScreenshotAsyncEnabled(getBooleanProperty("screenshot.async.enabled", true));
+        testConfig.setScreenshotAsyncThreads(getIntProperty("screenshot.async.threads", 2));
+        testConfig.setScreenshotAsyncQueueCapacity(getIntProperty("screenshot.async.queue.capacity", 32));
+        testConfig.setScreenshotAsyncOverflow(getProperty("screenshot.async.overflow", "block"));
     }
     
     /**
@@ -181,6 +253,26 @@ public class ConfigManager {
         }
     }
     
+    /**
+     * Gets a property value as double
+     * @param key property key
+     * @param defaultValue default value if property not found
+     * @return property value as double or default value
+     */
+    public double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid double value for property '" + key + "': " + value + 
+                             ". Using default value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
     /**
      * Gets the TestConfig object with all loaded configuration
      * @return TestConfig object
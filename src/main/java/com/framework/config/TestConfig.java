@@ -17,6 +17,7 @@ public class TestConfig {
     private String baseUrlProd;
     private boolean parallelExecution;
     private int threadCount;
+    private String executionThreadMode;
     private int retryCount;
     private boolean screenshotOnFailure;
     private String reportPath;
@@ -27,6 +28,57 @@ public class TestConfig {
     private String dbPassword;
     private String apiBaseUrl;
     private int apiTimeout;
+    private boolean driverPoolEnabled;
+    private int driverPoolSize;
+    private int driverPoolMaxIdleSeconds;
+    private int driverPoolMaxUses;
+    private int driverPoolLeaseTimeout;
+    private boolean sessionReuseEnabled;
+    private String driverResolverCacheFile;
+    private boolean driverResolverOffline;
+    private boolean driverServiceShared;
+    private int driverQuitTimeout;
+    private boolean driverShutdownHookEnabled;
+    private boolean sessionReaperEnabled;
+    private int sessionReaperInterval;
+    private int sessionReaperPingTimeout;
+    private int sessionReaperMaxMissedPings;
+    private boolean sessionReaperKillOrphans;
+    private String networkBlockingProfile;
+    private String pageLoadStrategy;
+    private boolean pageReadinessNetworkIdle;
+    private int pageReadinessNetworkIdleMillis;
+    private boolean browserProfileTemplateEnabled;
+    private String browserProfileTemplateDir;
+    private boolean browserProfileTemplateHardlinks;
+    private int browserProfileCleanupInterval;
+    private boolean admissionControlEnabled;
+    private int admissionMemoryReserveMb;
+    private double admissionMaxLoadPerCpu;
+    private int admissionWaitTimeout;
+    private int admissionPollIntervalMillis;
+    private boolean browserBidiEnabled;
+    private int tabContextMaxPerBrowser;
+    private boolean tabContextSharedCookies;
+    private boolean waitEventDrivenEnabled;
+    private int waitEventMinIntervalMillis;
+    private int waitEventFallbackIntervalMillis;
+    private String waitPollingStrategy;
+    private int waitPollingInitialMillis;
+    private int waitPollingMaxMillis;
+    private double waitPollingMultiplier;
+    private double waitPollingJitter;
+    private String waitEngine;
+    private int waitBrowserCheckIntervalMillis;
+    private boolean waitImplicitZeroEnabled;
+    private boolean waitTelemetryEnabled;
+    private int waitTelemetryReportLimit;
+    private boolean elementCacheEnabled;
+    private int extractionChunkSize;
+    private boolean screenshotAsyncEnabled;
+    private int screenshotAsyncThreads;
+    private int screenshotAsyncQueueCapacity;
+    private String screenshotAsyncOverflow;
 
     // Default constructor
     public TestConfig() {
@@ -148,6 +200,18 @@ public class TestConfig {
         this.threadCount = threadCount;
     }
 
+    public String getExecutionThreadMode() {
+        return executionThreadMode;
+    }
+
+    public void setExecutionThreadMode(String executionThreadMode) {
+        this.executionThreadMode = executionThreadMode;
+    }
+
+    public boolean isVirtualThreadExecution() {
+        return "virtual".equalsIgnoreCase(executionThreadMode);
+    }
+
     public int getRetryCount() {
         return retryCount;
     }
@@ -231,6 +295,421 @@ public class TestConfig {
         this.apiTimeout = apiTimeout;
     }
 
+    // Driver pool configuration getters and setters
+    public boolean isDriverPoolEnabled() {
+        return driverPoolEnabled;
+    }
+
+    public void setDriverPoolEnabled(boolean driverPoolEnabled) {
+        this.driverPoolEnabled = driverPoolEnabled;
+    }
+
+    public int getDriverPoolSize() {
+        return driverPoolSize;
+    }
+
+    public void setDriverPoolSize(int driverPoolSize) {
+        this.driverPoolSize = driverPoolSize;
+    }
+
+    public int getDriverPoolMaxIdleSeconds() {
+        return driverPoolMaxIdleSeconds;
+    }
+
+    public void setDriverPoolMaxIdleSeconds(int driverPoolMaxIdleSeconds) {
+        this.driverPoolMaxIdleSeconds = driverPoolMaxIdleSeconds;
+    }
+
+    public int getDriverPoolMaxUses() {
+        return driverPoolMaxUses;
+    }
+
+    public void setDriverPoolMaxUses(int driverPoolMaxUses) {
+        this.driverPoolMaxUses = driverPoolMaxUses;
+    }
+
+    public int getDriverPoolLeaseTimeout() {
+        return driverPoolLeaseTimeout;
+    }
+
+    public void setDriverPoolLeaseTimeout(int driverPoolLeaseTimeout) {
+        this.driverPoolLeaseTimeout = driverPoolLeaseTimeout;
+    }
+
+    public boolean isSessionReuseEnabled() {
+        return sessionReuseEnabled;
+    }
+
+    public void setSessionReuseEnabled(boolean sessionReuseEnabled) {
+        this.sessionReuseEnabled = sessionReuseEnabled;
+    }
+
+    // Driver resolver configuration getters and setters
+    public String getDriverResolverCacheFile() {
+        return driverResolverCacheFile;
+    }
+
+    public void setDriverResolverCacheFile(String driverResolverCacheFile) {
+        this.driverResolverCacheFile = driverResolverCacheFile;
+    }
+
+    public boolean isDriverResolverOffline() {
+        return driverResolverOffline;
+    }
+
+    public void setDriverResolverOffline(boolean driverResolverOffline) {
+        this.driverResolverOffline = driverResolverOffline;
+    }
+
+    public boolean isDriverServiceShared() {
+        return driverServiceShared;
+    }
+
+    public void setDriverServiceShared(boolean driverServiceShared) {
+        this.driverServiceShared = driverServiceShared;
+    }
+
+    public int getDriverQuitTimeout() {
+        return driverQuitTimeout;
+    }
+
+    public void setDriverQuitTimeout(int driverQuitTimeout) {
+        this.driverQuitTimeout = driverQuitTimeout;
+    }
+
+    public boolean isDriverShutdownHookEnabled() {
+        return driverShutdownHookEnabled;
+    }
+
+    public void setDriverShutdownHookEnabled(boolean driverShutdownHookEnabled) {
+        this.driverShutdownHookEnabled = driverShutdownHookEnabled;
+    }
+
+    public boolean isSessionReaperEnabled() {
+        return sessionReaperEnabled;
+    }
+
+    public void setSessionReaperEnabled(boolean sessionReaperEnabled) {
+        this.sessionReaperEnabled = sessionReaperEnabled;
+    }
+
+    public int getSessionReaperInterval() {
+        return sessionReaperInterval;
+    }
+
+    public void setSessionReaperInterval(int sessionReaperInterval) {
+        this.sessionReaperInterval = sessionReaperInterval;
+    }
+
+    public int getSessionReaperPingTimeout() {
+        return sessionReaperPingTimeout;
+    }
+
+    public void setSessionReaperPingTimeout(int sessionReaperPingTimeout) {
+        this.sessionReaperPingTimeout = sessionReaperPingTimeout;
+    }
+
+    public int getSessionReaperMaxMissedPings() {
+        return sessionReaperMaxMissedPings;
+    }
+
+    public void setSessionReaperMaxMissedPings(int sessionReaperMaxMissedPings) {
+        this.sessionReaperMaxMissedPings = sessionReaperMaxMissedPings;
+    }
+
+    public boolean isSessionReaperKillOrphans() {
+        return sessionReaperKillOrphans;
+    }
+
+    public void setSessionReaperKillOrphans(boolean sessionReaperKillOrphans) {
+        this.sessionReaperKillOrphans = sessionReaperKillOrphans;
+    }
+
+    public String getNetworkBlockingProfile() {
+        return networkBlockingProfile;
+    }
+
+    public void setNetworkBlockingProfile(String networkBlockingProfile) {
+        this.networkBlockingProfile = networkBlockingProfile;
+    }
+
+    public String getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    public void setPageLoadStrategy(String pageLoadStrategy) {
+        this.pageLoadStrategy = pageLoadStrategy;
+    }
+
+    public boolean isPageReadinessNetworkIdle() {
+        return pageReadinessNetworkIdle;
+    }
+
+    public void setPageReadinessNetworkIdle(boolean pageReadinessNetworkIdle) {
+        this.pageReadinessNetworkIdle = pageReadinessNetworkIdle;
+    }
+
+    public int getPageReadinessNetworkIdleMillis() {
+        return pageReadinessNetworkIdleMillis;
+    }
+
+    public void setPageReadinessNetworkIdleMillis(int pageReadinessNetworkIdleMillis) {
+        this.pageReadinessNetworkIdleMillis = pageReadinessNetworkIdleMillis;
+    }
+
+    public boolean isBrowserProfileTemplateEnabled() {
+        return browserProfileTemplateEnabled;
+    }
+
+    public void setBrowserProfileTemplateEnabled(boolean browserProfileTemplateEnabled) {
+        this.browserProfileTemplateEnabled = browserProfileTemplateEnabled;
+    }
+
+    public String getBrowserProfileTemplateDir() {
+        return browserProfileTemplateDir;
+    }
+
+    public void setBrowserProfileTemplateDir(String browserProfileTemplateDir) {
+        this.browserProfileTemplateDir = browserProfileTemplateDir;
+    }
+
+    public boolean isBrowserProfileTemplateHardlinks() {
+        return browserProfileTemplateHardlinks;
+    }
+
+    public void setBrowserProfileTemplateHardlinks(boolean browserProfileTemplateHardlinks) {
+        this.browserProfileTemplateHardlinks = browserProfileTemplateHardlinks;
+    }
+
+    public int getBrowserProfileCleanupInterval() {
+        return browserProfileCleanupInterval;
+    }
+
+    public void setBrowserProfileCleanupInterval(int browserProfileCleanupInterval) {
+        this.browserProfileCleanupInterval = browserProfileCleanupInterval;
+    }
+
+    public boolean isAdmissionControlEnabled() {
+        return admissionControlEnabled;
+    }
+
+    public void setAdmissionControlEnabled(boolean admissionControlEnabled) {
+        this.admissionControlEnabled = admissionControlEnabled;
+    }
+
+    public int getAdmissionMemoryReserveMb() {
+        return admissionMemoryReserveMb;
+    }
+
+    public void setAdmissionMemoryReserveMb(int admissionMemoryReserveMb) {
+        this.admissionMemoryReserveMb = admissionMemoryReserveMb;
+    }
+
+    public double getAdmissionMaxLoadPerCpu() {
+        return admissionMaxLoadPerCpu;
+    }
+
+    public void setAdmissionMaxLoadPerCpu(double admissionMaxLoadPerCpu) {
+        this.admissionMaxLoadPerCpu = admissionMaxLoadPerCpu;
+    }
+
+    public int getAdmissionWaitTimeout() {
+        return admissionWaitTimeout;
+    }
+
+    public void setAdmissionWaitTimeout(int admissionWaitTimeout) {
+        this.admissionWaitTimeout = admissionWaitTimeout;
+    }
+
+    public int getAdmissionPollIntervalMillis() {
+        return admissionPollIntervalMillis;
+    }
+
+    public void setAdmissionPollIntervalMillis(int admissionPollIntervalMillis) {
+        this.admissionPollIntervalMillis = admissionPollIntervalMillis;
+    }
+
+    public boolean isBrowserBidiEnabled() {
+        return browserBidiEnabled;
+    }
+
+    public void setBrowserBidiEnabled(boolean browserBidiEnabled) {
+        this.browserBidiEnabled = browserBidiEnabled;
+    }
+
+    public int getTabContextMaxPerBrowser() {
+        return tabContextMaxPerBrowser;
+    }
+
+    public void setTabContextMaxPerBrowser(int tabContextMaxPerBrowser) {
+        this.tabContextMaxPerBrowser = tabContextMaxPerBrowser;
+    }
+
+    public boolean isTabContextSharedCookies() {
+        return tabContextSharedCookies;
+    }
+
+    public void setTabContextSharedCookies(boolean tabContextSharedCookies) {
+        this.tabContextSharedCookies = tabContextSharedCookies;
+    }
+
+    // Wait configuration getters and setters
+    public boolean isWaitEventDrivenEnabled() {
+        return waitEventDrivenEnabled;
+    }
+
+    public void setWaitEventDrivenEnabled(boolean waitEventDrivenEnabled) {
+        this.waitEventDrivenEnabled = waitEventDrivenEnabled;
+    }
+
+    public int getWaitEventMinIntervalMillis() {
+        return waitEventMinIntervalMillis;
+    }
+
+    public void setWaitEventMinIntervalMillis(int waitEventMinIntervalMillis) {
+        this.waitEventMinIntervalMillis = waitEventMinIntervalMillis;
+    }
+
+    public int getWaitEventFallbackIntervalMillis() {
+        return waitEventFallbackIntervalMillis;
+    }
+
+    public void setWaitEventFallbackIntervalMillis(int waitEventFallbackIntervalMillis) {
+        this.waitEventFallbackIntervalMillis = waitEventFallbackIntervalMillis;
+    }
+
+    public String getWaitPollingStrategy() {
+        return waitPollingStrategy;
+    }
+
+    public void setWaitPollingStrategy(String waitPollingStrategy) {
+        this.waitPollingStrategy = waitPollingStrategy;
+    }
+
+    public int getWaitPollingInitialMillis() {
+        return waitPollingInitialMillis;
+    }
+
+    public void setWaitPollingInitialMillis(int waitPollingInitialMillis) {
+        this.waitPollingInitialMillis = waitPollingInitialMillis;
+    }
+
+    public int getWaitPollingMaxMillis() {
+        return waitPollingMaxMillis;
+    }
+
+    public void setWaitPollingMaxMillis(int waitPollingMaxMillis) {
+        this.waitPollingMaxMillis = waitPollingMaxMillis;
+    }
+
+    public double getWaitPollingMultiplier() {
+        return waitPollingMultiplier;
+    }
+
+    public void setWaitPollingMultiplier(double waitPollingMultiplier) {
+        this.waitPollingMultiplier = waitPollingMultiplier;
+    }
+
+    public double getWaitPollingJitter() {
+        return waitPollingJitter;
+    }
+
+    public void setWaitPollingJitter(double waitPollingJitter) {
+        this.waitPollingJitter = waitPollingJitter;
+    }
+
+    public String getWaitEngine() {
+        return waitEngine;
+    }
+
+    public void setWaitEngine(String waitEngine) {
+        this.waitEngine = waitEngine;
+    }
+
+    public boolean isInBrowserWaitEngine() {
+        return "browser".equalsIgnoreCase(waitEngine);
+    }
+
+    public int getWaitBrowserCheckIntervalMillis() {
+        return waitBrowserCheckIntervalMillis;
+    }
+
+    public void setWaitBrowserCheckIntervalMillis(int waitBrowserCheckIntervalMillis) {
+        this.waitBrowserCheckIntervalMillis = waitBrowserCheckIntervalMillis;
+    }
+
+    public boolean isWaitImplicitZeroEnabled() {
+        return waitImplicitZeroEnabled;
+    }
+
+    public void setWaitImplicitZeroEnabled(boolean waitImplicitZeroEnabled) {
+        this.waitImplicitZeroEnabled = waitImplicitZeroEnabled;
+    }
+
+    public boolean isWaitTelemetryEnabled() {
+        return waitTelemetryEnabled;
+    }
+
+    public void setWaitTelemetryEnabled(boolean waitTelemetryEnabled) {
+        this.waitTelemetryEnabled = waitTelemetryEnabled;
+    }
+
+    public int getWaitTelemetryReportLimit() {
+        return waitTelemetryReportLimit;
+    }
+
+    public void setWaitTelemetryReportLimit(int waitTelemetryReportLimit) {
+        this.waitTelemetryReportLimit = waitTelemetryReportLimit;
+    }
+
+    public boolean isElementCacheEnabled() {
+        return elementCacheEnabled;
+    }
+
+    public void setElementCacheEnabled(boolean elementCacheEnabled) {
+        this.elementCacheEnabled = elementCacheEnabled;
+    }
+
+    public int getExtractionChunkSize() {
+        return extractionChunkSize;
+    }
+
+    public void setExtractionChunkSize(int extractionChunkSize) {
+        this.extractionChunkSize = extractionChunkSize;
+    }
+
+    public boolean isScreenshotAsyncEnabled() {
+        return screenshotAsyncEnabled;
+    }
+
+    public void setScreenshotAsyncEnabled(boolean screenshotAsyncEnabled) {
+        this.screenshotAsyncEnabled = screenshotAsyncEnabled;
+    }
+
+    public int getScreenshotAsyncThreads() {
+        return screenshotAsyncThreads;
+    }
+
+    public void setScreenshotAsyncThreads(int screenshotAsyncThreads) {
+        this.screenshotAsyncThreads = screenshotAsyncThreads;
+    }
+
+    public int getScreenshotAsyncQueueCapacity() {
+        return screenshotAsyncQueueCapacity;
+    }
+
+    public void setScreenshotAsyncQueueCapacity(int screenshotAsyncQueueCapacity) {
+        this.screenshotAsyncQueueCapacity = screenshotAsyncQueueCapacity;
+    }
+
+    public String getScreenshotAsyncOverflow() {
+        return screenshotAsyncOverflow;
+    }
+
+    public void setScreenshotAsyncOverflow(String screenshotAsyncOverflow) {
+        this.screenshotAsyncOverflow = screenshotAsyncOverflow;
+    }
+
     @Override
     public String toString() {
         return "TestConfig{" +
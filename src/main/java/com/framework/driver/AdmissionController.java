@@ -0,0 +1,306 @@
+package com.framework.driver;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AdmissionController holds back new browser sessions while the machine lacks memory or CPU for them,
+ * so an oversized thread count queues sessions instead of driving the agent into swap.
+ * Available memory is the lower of MemAvailable in /proc/meminfo and the cgroup limit headroom;
+ * CPU load is the one-minute load average per available processor.
+ * Memory of sessions that are still starting is reserved until their startup finishes.
+ */
+public class AdmissionController {
+
+    private static final Logger logger = LogManager.getLogger(AdmissionController.class);
+    private static final Path PROC = Paths.get("/proc");
+    private static final Path CGROUP = Paths.get("/sys/fs/cgroup");
+    private static final long MB = 1024L * 1024L;
+
+    private final Map<BrowserType, Long> memoryEstimates;
+    private final long memoryReserveBytes;
+    private final double maxLoadPerCpu;
+    private final long waitTimeoutMillis;
+    private final long pollIntervalMillis;
+    private final DriverRegistry registry;
+
+    private final Object monitor = new Object();
+    private long startingBytes;
+    private int startingSessions;
+
+    private final AtomicLong granted = new AtomicLong();
+    private final AtomicLong waited = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /**
+     * Creates an admission controller
+     * @param memoryEstimatesMb expected memory per session in MB, by base browser type
+     * @param memoryReserveMb memory in MB that must stay free after a session is admitted
+     * @param maxLoadPerCpu load average per processor above which no session is admitted
+     * @param waitTimeout how long a session may wait for capacity before it is rejected
+     * @param pollInterval how often waiting sessions re-check capacity
+     * @param registry registry of running sessions
+     */
+    public AdmissionController(Map<BrowserType, Integer> memoryEstimatesMb, int memoryReserveMb, double maxLoadPerCpu,
+                               Duration waitTimeout, Duration pollInterval, DriverRegistry registry) {
+        this.memoryEstimates = new EnumMap<>(BrowserType.class);
+        for (Map.Entry<BrowserType, Integer> entry : memoryEstimatesMb.entrySet()) {
+            memoryEstimates.put(entry.getKey().getBaseBrowser(), entry.getValue() * MB);
+        }
+        this.memoryReserveBytes = memoryReserveMb * MB;
+        this.maxLoadPerCpu = maxLoadPerCpu;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.pollIntervalMillis = Math.max(10, pollInterval.toMillis());
+        this.registry = registry;
+    }
+
+    /**
+     * Waits until there is capacity for a new session of the given browser type
+     * Close the returned grant once the session has started (or failed to start).
+     * @param browserType browser type to start
+     * @return grant holding the memory reservation of the starting session
+     * @throws FrameworkException if capacity does not become available within the wait timeout
+     */
+    public Grant acquire(BrowserType browserType) {
+        long estimate = getMemoryEstimate(browserType);
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+        boolean hadToWait = false;
+
+        synchronized (monitor) {
+            while (true) {
+                String shortage = findShortage(estimate);
+                if (shortage == null) {
+                    break;
+                }
+                if (startingSessions == 0 && registry.size() == 0) {
+                    // Nothing of ours is running; waiting would not free anything up
+                    logger.warn("Admitting {} session without capacity: {}", browserType, shortage);
+                    break;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    rejected.incrementAndGet();
+                    totalWaitNanos.addAndGet(System.nanoTime() - start);
+                    throw new FrameworkException("No capacity for a " + browserType + " session after " +
+                            waitTimeoutMillis + " ms: " + shortage, "ADMISSION_REJECTED");
+                }
+                if (!hadToWait) {
+                    hadToWait = true;
+                    logger.info("Holding back {} session: {}", browserType, shortage);
+                }
+                try {
+                    monitor.wait(Math.min(remaining, pollIntervalMillis));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FrameworkException("Interrupted while waiting for session capacity", e);
+                }
+            }
+            startingBytes += estimate;
+            startingSessions++;
+        }
+
+        granted.incrementAndGet();
+        if (hadToWait) {
+            waited.incrementAndGet();
+            totalWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+        return new Grant(estimate);
+    }
+
+    /**
+     * Checks current resources against a new session's needs
+     * @return reason the session cannot be admitted, or null if it can
+     */
+    private String findShortage(long estimate) {
+        long available = readAvailableMemory();
+        if (available >= 0) {
+            long free = available - startingBytes - estimate;
+            if (free < memoryReserveBytes) {
+                return String.format("%d MB available, %d MB reserved for starting sessions, %d MB needed",
+                        available / MB, startingBytes / MB, (estimate + memoryReserveBytes) / MB);
+            }
+        }
+        double load = readLoadPerCpu();
+        if (maxLoadPerCpu > 0 && load > maxLoadPerCpu) {
+            return String.format("load %.2f per CPU exceeds %.2f", load, maxLoadPerCpu);
+        }
+        return null;
+    }
+
+    private void release(long estimate) {
+        synchronized (monitor) {
+            startingBytes -= estimate;
+            startingSessions--;
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the memory estimate for a browser type
+     * @param browserType browser type
+     * @return estimated bytes per session
+     */
+    public long getMemoryEstimate(BrowserType browserType) {
+        return memoryEstimates.getOrDefault(browserType.getBaseBrowser(), 0L);
+    }
+
+    /**
+     * Reads available memory
+     * @return available bytes, or -1 if unknown
+     */
+    protected long readAvailableMemory() {
+        return readAvailableMemory(PROC, CGROUP);
+    }
+
+    /**
+     * Reads the load average per available processor
+     * @return load per CPU, or -1 if unknown
+     */
+    protected double readLoadPerCpu() {
+        double load = readLoadAverage(PROC);
+        if (load < 0) {
+            load = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        }
+        return load < 0 ? -1 : load / Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Reads available memory from /proc/meminfo and the cgroup (v2 or v1) memory limit
+     * @param procRoot /proc mount
+     * @param cgroupRoot cgroup file system mount
+     * @return lower of the two, or -1 if neither is readable
+     */
+    static long readAvailableMemory(Path procRoot, Path cgroupRoot) {
+        long available = -1;
+        for (String line : readLines(procRoot.resolve("meminfo"))) {
+            if (line.startsWith("MemAvailable:")) {
+                // "MemAvailable:   12345678 kB"
+                available = Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                break;
+            }
+        }
+
+        long cgroupHeadroom = readCgroupHeadroom(cgroupRoot.resolve("memory.max"), cgroupRoot.resolve("memory.current"));
+        if (cgroupHeadroom < 0) {
+            cgroupHeadroom = readCgroupHeadroom(cgroupRoot.resolve("memory").resolve("memory.limit_in_bytes"),
+                    cgroupRoot.resolve("memory").resolve("memory.usage_in_bytes"));
+        }
+        if (cgroupHeadroom >= 0 && (available < 0 || cgroupHeadroom < available)) {
+            return cgroupHeadroom;
+        }
+        return available;
+    }
+
+    private static long readCgroupHeadroom(Path limitFile, Path usageFile) {
+        List<String> limit = readLines(limitFile);
+        List<String> usage = readLines(usageFile);
+        if (limit.isEmpty() || usage.isEmpty()) {
+            return -1;
+        }
+        try {
+            long limitBytes = Long.parseLong(limit.get(0).trim());
+            // cgroup v1 reports "no limit" as a huge page-aligned number
+            if (limitBytes >= Long.MAX_VALUE / 2) {
+                return -1;
+            }
+            return Math.max(0, limitBytes - Long.parseLong(usage.get(0).trim()));
+        } catch (NumberFormatException e) {
+            // "max" means unlimited in cgroup v2
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the one-minute load average from /proc/loadavg
+     * @param procRoot /proc mount
+     * @return load average, or -1 if unreadable
+     */
+    static double readLoadAverage(Path procRoot) {
+        List<String> lines = readLines(procRoot.resolve("loadavg"));
+        if (lines.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Double.parseDouble(lines.get(0).trim().split("\\s+")[0]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    public long getGrantedCount() {
+        return granted.get();
+    }
+
+    public long getWaitedCount() {
+        return waited.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Gets total time sessions spent waiting for capacity
+     * @return wait time in milliseconds
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get());
+    }
+
+    /**
+     * Gets a summary of admission decisions
+     * @return summary string
+     */
+    public String getSummary() {
+        return String.format("Session admission: %d granted, %d waited (%d ms total), %d rejected",
+                getGrantedCount(), getWaitedCount(), getTotalWaitMillis(), getRejectedCount());
+    }
+
+    /**
+     * Memory reservation of a session that is starting
+     */
+    public final class Grant implements AutoCloseable {
+        private final long estimate;
+        private boolean closed;
+
+        private Grant(long estimate) {
+            this.estimate = estimate;
+        }
+
+        /**
+         * Releases the reservation; from now on the session's memory shows up in the readings
+         */
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release(estimate);
+            }
+        }
+    }
+}
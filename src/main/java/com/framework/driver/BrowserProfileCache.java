@@ -0,0 +1,461 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * BrowserProfileCache builds a "golden" browser profile once per browser type and options hash
+ * and gives every session its own clone of it, so first-run profile creation is paid once.
+ * Templates live under templates/ and are kept across runs; session clones live under
+ * sessions/&lt;pid&gt;/ and are deleted in the background once their session is no longer registered.
+ * The root directory defaults to tmpfs (/dev/shm) when it is available and has room. /dev/shm is
+ * often small in containers and browsers use it too, so a clone that would leave too little of it
+ * free goes to the system temp directory instead.
+ */
+public class BrowserProfileCache {
+
+    private static final Logger logger = LogManager.getLogger(BrowserProfileCache.class);
+    private static final Path SHARED_MEMORY = Paths.get("/dev/shm");
+    private static final String DIRECTORY_NAME = "framework-profiles";
+    // Below this, /dev/shm is too small to hold templates, e.g. Docker's 64 MB default
+    static final long MIN_SHARED_MEMORY_BYTES = 512L * 1024 * 1024;
+    // Left free for the browsers, which keep their own shared memory there
+    static final long SHARED_MEMORY_RESERVE_BYTES = 128L * 1024 * 1024;
+    // Lock files a browser leaves behind would make a clone look like a profile in use
+    private static final Set<String> LOCK_FILES = new HashSet<>(Arrays.asList(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "lock", ".parentlock", "parent.lock"));
+
+    private final Path templatesDir;
+    private final Path sessionsDir;
+    private final Path fallbackSessionsDir;
+    private final boolean hardlinks;
+    private final DriverRegistry registry;
+
+    private final ConcurrentMap<String, Object> templateLocks = new ConcurrentHashMap<>();
+    private final Set<String> failedTemplates = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Path, WebDriver> sessionProfiles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Path, Long> templateSizes = new ConcurrentHashMap<>();
+    private final AtomicInteger templatesBuilt = new AtomicInteger();
+    private final AtomicInteger profilesCloned = new AtomicInteger();
+    private final AtomicInteger profilesDeleted = new AtomicInteger();
+    private final AtomicInteger fallbackClones = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a profile cache and removes session clones left behind by JVMs that are no longer running
+     * @param rootDir directory holding templates and session clones
+     * @param hardlinks if true, clone files as hardlinks to the template instead of copying them
+     * @param registry registry used to find sessions that have ended
+     */
+    public BrowserProfileCache(Path rootDir, boolean hardlinks, DriverRegistry registry) {
+        this(rootDir, rootDir.toAbsolutePath().startsWith(SHARED_MEMORY) ? getTempRootDir() : null,
+                hardlinks, registry);
+    }
+
+    /**
+     * Creates a profile cache with a directory for clones that do not fit under the root directory
+     * @param rootDir directory holding templates and session clones
+     * @param fallbackDir directory for session clones when the root directory is short of space, or null
+     * @param hardlinks if true, clone files as hardlinks to the template instead of copying them
+     * @param registry registry used to find sessions that have ended
+     */
+    BrowserProfileCache(Path rootDir, Path fallbackDir, boolean hardlinks, DriverRegistry registry) {
+        String pid = String.valueOf(ProcessHandle.current().pid());
+        this.templatesDir = rootDir.resolve("templates");
+        this.sessionsDir = rootDir.resolve("sessions").resolve(pid);
+        this.fallbackSessionsDir = fallbackDir == null ? null : fallbackDir.resolve("sessions").resolve(pid);
+        this.hardlinks = hardlinks;
+        this.registry = registry;
+        deleteStaleSessions(rootDir.resolve("sessions"));
+        if (fallbackDir != null) {
+            deleteStaleSessions(fallbackDir.resolve("sessions"));
+        }
+    }
+
+    /**
+     * Gets the default root directory: /dev/shm when writable and large enough, otherwise the
+     * system temp directory
+     * @return root directory for profile templates
+     */
+    public static Path getDefaultRootDir() {
+        if (Files.isDirectory(SHARED_MEMORY) && Files.isWritable(SHARED_MEMORY)
+                && usableSpace(SHARED_MEMORY) >= MIN_SHARED_MEMORY_BYTES) {
+            return SHARED_MEMORY.resolve(DIRECTORY_NAME);
+        }
+        return getTempRootDir();
+    }
+
+    private static Path getTempRootDir() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), DIRECTORY_NAME);
+    }
+
+    /**
+     * Starts deleting ended session clones in the background
+     * @param interval time between cleanup passes
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                cleanUp();
+            } catch (RuntimeException e) {
+                logger.warn("Profile cleanup pass failed: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops background cleanup and deletes every session clone of this JVM
+     * Call after all sessions have been quit; templates are kept for the next run.
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        sessionProfiles.clear();
+        for (Path dir : new Path[] {sessionsDir, fallbackSessionsDir}) {
+            if (dir != null && !deleteRecursively(dir)) {
+                logger.warn("Could not delete session profiles under {}", dir);
+            }
+        }
+    }
+
+    /**
+     * Gets the template for a browser type and options, building it on first use
+     * The builder must start the browser with the given directory as its profile and quit it.
+     * @param browserType browser type
+     * @param optionsKey string form of the browser options the template is built with
+     * @param builder populates a profile directory
+     * @return template directory, or null if it could not be built
+     */
+    public Path getTemplate(BrowserType browserType, String optionsKey, Consumer<Path> builder) {
+        String name = browserType.getBaseBrowser().name().toLowerCase() + "-" + hash(optionsKey);
+        Path template = templatesDir.resolve(name);
+        if (Files.isDirectory(template)) {
+            return template;
+        }
+        if (failedTemplates.contains(name)) {
+            return null;
+        }
+
+        synchronized (templateLocks.computeIfAbsent(name, key -> new Object())) {
+            if (Files.isDirectory(template)) {
+                return template;
+            }
+            if (failedTemplates.contains(name)) {
+                return null;
+            }
+            Path buildDir = templatesDir.resolve(".build-" + name + "-" + ProcessHandle.current().pid());
+            long start = System.currentTimeMillis();
+            try {
+                deleteRecursively(buildDir);
+                Files.createDirectories(buildDir);
+                builder.accept(buildDir);
+                removeLockFiles(buildDir);
+                Files.move(buildDir, template, StandardCopyOption.ATOMIC_MOVE);
+                templatesBuilt.incrementAndGet();
+                logger.info("Built {} profile template {} in {} ms", browserType.getDisplayName(), template,
+                        System.currentTimeMillis() - start);
+            } catch (IOException | RuntimeException e) {
+                deleteRecursively(buildDir);
+                if (Files.isDirectory(template)) {
+                    // Another JVM finished the same template first
+                    return template;
+                }
+                failedTemplates.add(name);
+                logger.warn("Could not build {} profile template, sessions start with fresh profiles: {}",
+                        browserType.getDisplayName(), e.getMessage());
+                return null;
+            }
+            return template;
+        }
+    }
+
+    /**
+     * Creates an isolated session profile from a template
+     * @param template template directory from getTemplate
+     * @return session profile directory, or null if the clone failed
+     */
+    public Path createSessionProfile(Path template) {
+        Path parent = chooseSessionsDir(template);
+        Path target = parent.resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(parent);
+            copyTree(template, target);
+            profilesCloned.incrementAndGet();
+            return target;
+        } catch (IOException e) {
+            deleteRecursively(target);
+            logger.warn("Could not clone profile template {}: {}", template, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Associates a session profile with the session using it
+     * The profile is deleted once the session is no longer registered.
+     * @param sessionProfile session profile directory
+     * @param driver session started with the profile
+     */
+    public void bind(Path sessionProfile, WebDriver driver) {
+        sessionProfiles.put(sessionProfile, driver);
+    }
+
+    /**
+     * Deletes a session profile whose session failed to start
+     * @param sessionProfile session profile directory
+     */
+    public void discard(Path sessionProfile) {
+        sessionProfiles.remove(sessionProfile);
+        if (deleteRecursively(sessionProfile)) {
+            profilesDeleted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Deletes the profiles of sessions that have ended
+     * Profiles that cannot be deleted yet, e.g. while the browser is still exiting, are retried next pass.
+     * @return number of profiles deleted
+     */
+    public int cleanUp() {
+        int deleted = 0;
+        for (Map.Entry<Path, WebDriver> entry : sessionProfiles.entrySet()) {
+            if (registry.isRegistered(entry.getValue())) {
+                continue;
+            }
+            if (deleteRecursively(entry.getKey())) {
+                sessionProfiles.remove(entry.getKey());
+                profilesDeleted.incrementAndGet();
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            logger.debug("Deleted {} ended session profiles", deleted);
+        }
+        return deleted;
+    }
+
+    public int getTemplatesBuilt() {
+        return templatesBuilt.get();
+    }
+
+    public int getProfilesCloned() {
+        return profilesCloned.get();
+    }
+
+    public int getProfilesDeleted() {
+        return profilesDeleted.get();
+    }
+
+    /**
+     * Gets the number of clones made in the fallback directory for lack of space
+     * @return fallback clone count
+     */
+    public int getFallbackClones() {
+        return fallbackClones.get();
+    }
+
+    /**
+     * Gets the number of session profiles not yet deleted
+     * @return live session profile count
+     */
+    public int getSessionProfileCount() {
+        return sessionProfiles.size();
+    }
+
+    /**
+     * Gets the directory for a new clone: the root's sessions directory if the clone leaves the
+     * reserve free there, otherwise the fallback directory
+     */
+    private Path chooseSessionsDir(Path template) {
+        if (fallbackSessionsDir == null) {
+            return sessionsDir;
+        }
+        // Hardlinked clones share the template's blocks until the browser rewrites a file
+        long cloneBytes = hardlinks ? 0 : templateSizes.computeIfAbsent(template, BrowserProfileCache::treeSize);
+        long available = getUsableSpace(templatesDir);
+        if (available >= cloneBytes + SHARED_MEMORY_RESERVE_BYTES) {
+            return sessionsDir;
+        }
+        if (fallbackClones.getAndIncrement() == 0) {
+            logger.warn("Only {} MB free under {}, cloning profiles into {} instead",
+                    available / (1024 * 1024), templatesDir, fallbackSessionsDir);
+        }
+        return fallbackSessionsDir;
+    }
+
+    /**
+     * Gets the space available to this JVM on the file system holding a directory
+     * @param dir directory, or a directory below one that exists
+     * @return usable bytes, or Long.MAX_VALUE if unknown
+     */
+    protected long getUsableSpace(Path dir) {
+        return usableSpace(dir);
+    }
+
+    private static long usableSpace(Path dir) {
+        for (Path current = dir.toAbsolutePath(); current != null; current = current.getParent()) {
+            if (Files.exists(current)) {
+                try {
+                    return Files.getFileStore(current).getUsableSpace();
+                } catch (IOException e) {
+                    return Long.MAX_VALUE;
+                }
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static long treeSize(Path root) {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    private void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Path destination = target.resolve(source.relativize(file).toString());
+                if (attrs.isSymbolicLink()) {
+                    Files.copy(file, destination, LinkOption.NOFOLLOW_LINKS);
+                    return FileVisitResult.CONTINUE;
+                }
+                if (hardlinks) {
+                    try {
+                        Files.createLink(destination, file);
+                        return FileVisitResult.CONTINUE;
+                    } catch (IOException | UnsupportedOperationException e) {
+                        // Different file system or no link support; fall back to a copy
+                    }
+                }
+                Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void removeLockFiles(Path profile) throws IOException {
+        Files.walkFileTree(profile, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (LOCK_FILES.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Deletes session directories of processes that are no longer running
+     */
+    private static void deleteStaleSessions(Path sessionsRoot) {
+        if (!Files.isDirectory(sessionsRoot)) {
+            return;
+        }
+        try (DirectoryStream<Path> owners = Files.newDirectoryStream(sessionsRoot)) {
+            for (Path owner : owners) {
+                long pid;
+                try {
+                    pid = Long.parseLong(owner.getFileName().toString());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (!ProcessHandle.of(pid).isPresent() && deleteRecursively(owner)) {
+                    logger.debug("Deleted stale session profiles of process {}", pid);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not scan {} for stale session profiles: {}", sessionsRoot, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes a directory tree
+     * @return true if the directory no longer exists
+     */
+    static boolean deleteRecursively(Path root) {
+        if (!Files.exists(root)) {
+            return true;
+        }
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 6; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.framework.driver;
+
+import com.framework.exceptions.ConfigurationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BrowserTabHost runs several TabContexts as tabs of one browser session,
+ * so light read-only checks share a browser process instead of starting one each.
+ * WebDriver has a single current window per session, so commands of all tabs are serialized
+ * through one lock and the browser is switched to the calling tab before each command.
+ * Tabs get their own cookie jar through BiDi user contexts when the session has BiDi enabled;
+ * otherwise tabs share cookies and must be allowed to explicitly.
+ * Frame selection is not kept when another tab runs a command in between.
+ */
+public class BrowserTabHost {
+
+    private static final Logger logger = LogManager.getLogger(BrowserTabHost.class);
+
+    private final WebDriver browser;
+    private final BrowserType browserType;
+    private final int maxTabs;
+    private final boolean supportsUserContexts;
+    private final String homeHandle;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Set<TabContext> tabs = ConcurrentHashMap.newKeySet();
+    private String activeHandle;
+
+    /**
+     * Creates a host on a running browser session
+     * @param browser browser session that hosts the tabs; its current window is kept open as the home tab
+     * @param browserType browser type of the session
+     * @param maxTabs maximum number of open tabs
+     * @param allowSharedCookies if true, tabs may share cookies when the browser cannot isolate them
+     * @throws ConfigurationException if tabs cannot be isolated and shared cookies are not allowed
+     */
+    public BrowserTabHost(WebDriver browser, BrowserType browserType, int maxTabs, boolean allowSharedCookies) {
+        this.browser = browser;
+        this.browserType = browserType;
+        this.maxTabs = Math.max(1, maxTabs);
+        this.supportsUserContexts = browser instanceof HasBiDi && ((HasBiDi) browser).maybeGetBiDi().isPresent();
+        if (!supportsUserContexts && !allowSharedCookies) {
+            throw new ConfigurationException("tab.context.shared.cookies", browserType +
+                    " session has no BiDi connection, so its tabs would share cookies. " +
+                    "Set browser.bidi.enabled=true or allow shared cookies with tab.context.shared.cookies=true");
+        }
+        this.homeHandle = browser.getWindowHandle();
+        this.activeHandle = homeHandle;
+    }
+
+    /**
+     * Opens a tab
+     * @return new tab, or null if the host already has the maximum number of tabs
+     */
+    public TabContext openTab() {
+        lock.lock();
+        try {
+            if (tabs.size() >= maxTabs) {
+                return null;
+            }
+            TabContext tab;
+            if (supportsUserContexts) {
+                String userContext = new Browser(browser).createUserContext();
+                String handle = new BrowsingContext(browser,
+                        new CreateContextParameters(WindowType.TAB).userContext(userContext)).getId();
+                tab = new TabContext(this, handle, userContext);
+            } else {
+                browser.switchTo().newWindow(WindowType.TAB);
+                activeHandle = browser.getWindowHandle();
+                tab = new TabContext(this, activeHandle, null);
+            }
+            tab.setDriver((WebDriver) proxy(tab, browser, WrapsDriver.class));
+            tabs.add(tab);
+            logger.debug("Opened {} tab {} ({} of {})", browserType, tab.getMainHandle(), tabs.size(), maxTabs);
+            return tab;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes a tab and, for isolated tabs, its user context
+     */
+    void closeTab(TabContext tab) {
+        lock.lock();
+        try {
+            tabs.remove(tab);
+            if (tab.getUserContext() != null) {
+                // Removing the user context closes every window opened in it
+                new Browser(browser).removeUserContext(tab.getUserContext());
+            } else {
+                for (String handle : new LinkedHashSet<>(Arrays.asList(tab.getCurrentHandle(), tab.getMainHandle()))) {
+                    if (browser.getWindowHandles().contains(handle)) {
+                        browser.switchTo().window(handle);
+                        browser.close();
+                    }
+                }
+            }
+            browser.switchTo().window(homeHandle);
+            activeHandle = homeHandle;
+        } catch (WebDriverException e) {
+            activeHandle = null;
+            logger.debug("Could not close tab {}: {}", tab.getMainHandle(), e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WebDriver getBrowser() {
+        return browser;
+    }
+
+    public BrowserType getBrowserType() {
+        return browserType;
+    }
+
+    public int getOpenTabCount() {
+        return tabs.size();
+    }
+
+    public boolean isIsolated() {
+        return supportsUserContexts;
+    }
+
+    /**
+     * Runs one command of a tab against the shared browser
+     */
+    private Object execute(TabContext tab, Object target, Method method, Object[] args) throws Throwable {
+        lock.lock();
+        try {
+            if (tab.isClosed()) {
+                throw new NoSuchWindowException("Tab " + tab.getMainHandle() + " has been closed");
+            }
+            if (!tab.getCurrentHandle().equals(activeHandle)) {
+                browser.switchTo().window(tab.getCurrentHandle());
+                activeHandle = tab.getCurrentHandle();
+            }
+            DriverRegistry.getInstance().touch(browser);
+
+            Object result;
+            try {
+                result = method.invoke(target, unwrapAll(args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (target instanceof WebDriver.TargetLocator
+                    && (method.getName().equals("window") || method.getName().equals("newWindow"))) {
+                // The tab follows windows it switches to, e.g. popups opened by the page
+                activeHandle = browser.getWindowHandle();
+                tab.setCurrentHandle(activeHandle);
+            }
+            return wrap(tab, result);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the tab's current window; closing its main window closes the whole tab
+     */
+    private void closeWindow(TabContext tab) throws Throwable {
+        if (tab.getCurrentHandle().equals(tab.getMainHandle())) {
+            tab.close();
+            return;
+        }
+        execute(tab, browser, WebDriver.class.getMethod("close"), null);
+        lock.lock();
+        try {
+            activeHandle = null;
+            tab.setCurrentHandle(tab.getMainHandle());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the windows of a tab: its main window first, then windows not owned by other tabs
+     */
+    private Set<String> getWindowHandles(TabContext tab) throws Throwable {
+        @SuppressWarnings("unchecked")
+        Set<String> all = (Set<String>) execute(tab, browser, WebDriver.class.getMethod("getWindowHandles"), null);
+        Set<String> handles = new LinkedHashSet<>();
+        handles.add(tab.getMainHandle());
+        for (String handle : all) {
+            if (!handle.equals(homeHandle) && !isOwnedByOtherTab(tab, handle)) {
+                handles.add(handle);
+            }
+        }
+        return handles;
+    }
+
+    private boolean isOwnedByOtherTab(TabContext tab, String handle) {
+        for (TabContext other : tabs) {
+            if (other != tab && (handle.equals(other.getMainHandle()) || handle.equals(other.getCurrentHandle()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object wrap(TabContext tab, Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result == browser) {
+            return tab.getDriver();
+        }
+        if (result instanceof WebElement) {
+            return proxy(tab, result, WrapsElement.class);
+        }
+        if (result instanceof List) {
+            List<Object> wrapped = new ArrayList<>();
+            for (Object item : (List<?>) result) {
+                wrapped.add(wrap(tab, item));
+            }
+            return wrapped;
+        }
+        if (result instanceof Map) {
+            Map<Object, Object> wrapped = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                wrapped.put(entry.getKey(), wrap(tab, entry.getValue()));
+            }
+            return wrapped;
+        }
+        if (result instanceof WebDriver.Navigation || result instanceof WebDriver.Options
+                || result instanceof WebDriver.TargetLocator || result instanceof WebDriver.Window
+                || result instanceof WebDriver.Timeouts || result instanceof Alert) {
+            return proxy(tab, result, null);
+        }
+        return result;
+    }
+
+    private static Object[] unwrapAll(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] unwrapped = Arrays.copyOf(args, args.length);
+        for (int i = 0; i < unwrapped.length; i++) {
+            unwrapped[i] = unwrap(unwrapped[i]);
+        }
+        return unwrapped;
+    }
+
+    private static Object unwrap(Object value) {
+        if (value != null && Proxy.isProxyClass(value.getClass())
+                && Proxy.getInvocationHandler(value) instanceof TabCommandHandler) {
+            return ((TabCommandHandler) Proxy.getInvocationHandler(value)).target;
+        }
+        if (value instanceof Object[]) {
+            return unwrapAll((Object[]) value);
+        }
+        if (value instanceof List) {
+            List<Object> unwrapped = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                unwrapped.add(unwrap(item));
+            }
+            return unwrapped;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> unwrapped = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                unwrapped.put(entry.getKey(), unwrap(entry.getValue()));
+            }
+            return unwrapped;
+        }
+        return value;
+    }
+
+    private Object proxy(TabContext tab, Object target, Class<?> extraInterface) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        collectSeleniumInterfaces(target.getClass(), interfaces);
+        if (extraInterface != null) {
+            interfaces.add(extraInterface);
+        }
+        return Proxy.newProxyInstance(BrowserTabHost.class.getClassLoader(), interfaces.toArray(new Class<?>[0]),
+                new TabCommandHandler(tab, target));
+    }
+
+    private static void collectSeleniumInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> candidate : current.getInterfaces()) {
+                if (Modifier.isPublic(candidate.getModifiers())
+                        && candidate.getName().startsWith("org.openqa.selenium.")) {
+                    interfaces.add(candidate);
+                }
+                collectSeleniumInterfaces(candidate, interfaces);
+            }
+        }
+    }
+
+    /**
+     * Routes calls on a tab's driver, elements and helper objects through the host
+     */
+    private final class TabCommandHandler implements InvocationHandler {
+        private final TabContext tab;
+        private final Object target;
+
+        private TabCommandHandler(TabContext tab, Object target) {
+            this.tab = tab;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            int argCount = args == null ? 0 : args.length;
+            if (method.getDeclaringClass() == Object.class) {
+                switch (name) {
+                    case "equals":
+                        return target.equals(unwrap(args[0]));
+                    case "hashCode":
+                        return target.hashCode();
+                    default:
+                        return target.toString();
+                }
+            }
+            if (name.equals("getWrappedDriver") && argCount == 0) {
+                return browser;
+            }
+            if (name.equals("getWrappedElement") && argCount == 0) {
+                return target;
+            }
+            if (target == browser && argCount == 0) {
+                switch (name) {
+                    case "quit":
+                        tab.close();
+                        return null;
+                    case "close":
+                        closeWindow(tab);
+                        return null;
+                    case "getWindowHandles":
+                        return getWindowHandles(tab);
+                    default:
+                        break;
+                }
+            }
+            return execute(tab, target, method, args);
+        }
+    }
+}
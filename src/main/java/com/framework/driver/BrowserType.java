@@ -87,6 +87,15 @@ public enum BrowserType {
         }
     }
 
+    /**
+     * Checks if the browser is Chromium-based and supports the Chrome DevTools Protocol
+     * @return true for Chrome and Edge variants
+     */
+    public boolean supportsCdp() {
+        BrowserType base = getBaseBrowser();
+        return base == CHROME || base == EDGE;
+    }
+    
     @Override
     public String toString() {
         return displayName;
@@ -0,0 +1,320 @@
+package com.framework.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaryResolver resolves the driver binary for each browser once per JVM
+ * and persists the result in a local index file, so later runs skip
+ * WebDriverManager version detection and network lookups.
+ * WebDriverManager setup() is only used on a cache miss or when the installed
+ * browser's major version no longer matches the cached one.
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+    private static final Duration VERSION_COMMAND_TIMEOUT = Duration.ofSeconds(5);
+    // Selenium passes SE_* system properties to Selenium Manager as environment variables
+    static final String SELENIUM_MANAGER_OFFLINE = "SE_OFFLINE";
+
+    private final Path indexFile;
+    private final boolean offline;
+    private final ConcurrentMap<BrowserType, Optional<ResolvedDriver>> resolved = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+
+    /**
+     * Creates a resolver backed by the given index file
+     * @param indexFile properties file holding resolved driver paths and browser versions
+     * @param offline if true, never call WebDriverManager and keep Selenium Manager offline too;
+     *                only cached entries and drivers on the PATH are used
+     */
+    public DriverBinaryResolver(Path indexFile, boolean offline) {
+        this.indexFile = indexFile;
+        this.offline = offline;
+    }
+
+    /**
+     * Gets the default index file location under the user's cache directory
+     * @return default index file path
+     */
+    public static Path getDefaultIndexFile() {
+        return Paths.get(System.getProperty("user.home"), ".cache", "selenium-test-framework",
+                "driver-index.properties");
+    }
+
+    /**
+     * Resolves the driver binary for a browser type and exports it as the Selenium system property
+     * @param browserType browser type (headless variants share the base browser's driver)
+     * @return resolved driver, or null if the browser needs no managed binary or none could be resolved offline
+     */
+    public ResolvedDriver resolve(BrowserType browserType) {
+        BrowserType baseBrowser = browserType.getBaseBrowser();
+        if (getDriverSystemProperty(baseBrowser) == null) {
+            return null;
+        }
+        if (offline && System.getProperty(SELENIUM_MANAGER_OFFLINE) == null) {
+            // Without a cached binary Selenium falls back to Selenium Manager, which would download one
+            System.setProperty(SELENIUM_MANAGER_OFFLINE, "true");
+        }
+        ResolvedDriver driver = resolved.computeIfAbsent(baseBrowser, this::resolveOnce).orElse(null);
+        if (driver != null) {
+            System.setProperty(getDriverSystemProperty(baseBrowser), driver.getDriverPath());
+        }
+        return driver;
+    }
+
+    private Optional<ResolvedDriver> resolveOnce(BrowserType baseBrowser) {
+        ResolvedDriver cached = readIndexEntry(baseBrowser);
+
+        if (cached != null && Files.isExecutable(Paths.get(cached.getDriverPath()))) {
+            if (offline) {
+                logger.info("Using cached {} driver (offline): {}", baseBrowser, cached.getDriverPath());
+                return Optional.of(cached);
+            }
+
+            String installedVersion = detectInstalledBrowserVersion(baseBrowser);
+            if (installedVersion == null || cached.getBrowserVersion() == null
+                    || majorVersion(installedVersion).equals(majorVersion(cached.getBrowserVersion()))) {
+                logger.info("Using cached {} driver: {}", baseBrowser, cached.getDriverPath());
+                return Optional.of(cached);
+            }
+            logger.info("{} browser version changed from {} to {}, resolving driver again",
+                    baseBrowser, cached.getBrowserVersion(), installedVersion);
+        } else if (offline) {
+            logger.warn("No cached {} driver and offline mode is enabled; relying on a driver in the PATH "
+                    + "or the Selenium Manager cache, without downloads", baseBrowser);
+            return Optional.empty();
+        }
+
+        ResolvedDriver fresh = setupWithWebDriverManager(baseBrowser);
+        if (fresh.getDriverPath() == null) {
+            logger.warn("WebDriverManager did not report a {} driver path; it will not be cached", baseBrowser);
+            return Optional.empty();
+        }
+        writeIndexEntry(baseBrowser, fresh);
+        logger.info("Resolved {} driver {} for browser {}: {}", baseBrowser,
+                fresh.getDriverVersion(), fresh.getBrowserVersion(), fresh.getDriverPath());
+        return Optional.of(fresh);
+    }
+
+    /**
+     * Resolves the driver through WebDriverManager (may use the network)
+     * @param baseBrowser base browser type
+     * @return resolved driver
+     */
+    protected ResolvedDriver setupWithWebDriverManager(BrowserType baseBrowser) {
+        WebDriverManager manager = getWebDriverManager(baseBrowser);
+        manager.setup();
+
+        String browserVersion = manager.getResolvedBrowserVersion();
+        if (browserVersion == null) {
+            browserVersion = detectInstalledBrowserVersion(baseBrowser);
+        }
+        return new ResolvedDriver(manager.getDownloadedDriverPath(), manager.getDownloadedDriverVersion(),
+                browserVersion);
+    }
+
+    /**
+     * Detects the installed browser version locally by running the browser binary with --version
+     * @param baseBrowser base browser type
+     * @return browser version, or null if it could not be detected
+     */
+    protected String detectInstalledBrowserVersion(BrowserType baseBrowser) {
+        try {
+            Optional<Path> browserPath = getWebDriverManager(baseBrowser).getBrowserPath();
+            return browserPath.isPresent()
+                    ? runVersionCommand(browserPath.get().toString(), VERSION_COMMAND_TIMEOUT) : null;
+        } catch (RuntimeException e) {
+            logger.debug("Could not detect {} browser version: {}", baseBrowser, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Runs an executable with --version and parses the first line it prints
+     * The output goes to a temp file instead of a pipe, so a browser that hangs, or opens a window
+     * and keeps running, is killed after the timeout instead of blocking on a read.
+     * @param executable browser binary
+     * @param timeout maximum time to wait for the process to exit
+     * @return version, or null if it could not be read in time
+     */
+    static String runVersionCommand(String executable, Duration timeout) {
+        Path output = null;
+        Process process = null;
+        try {
+            output = Files.createTempFile("browser-version", ".txt");
+            process = new ProcessBuilder(executable, "--version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("{} --version did not exit within {} ms", executable, timeout.toMillis());
+                return null;
+            }
+            List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+            return lines.isEmpty() ? null : parseVersion(lines.get(0));
+        } catch (IOException e) {
+            logger.debug("Could not run {} --version: {}", executable, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    // Left in the temp directory
+                }
+            }
+        }
+    }
+
+    private WebDriverManager getWebDriverManager(BrowserType baseBrowser) {
+        switch (baseBrowser) {
+            case CHROME:
+                return WebDriverManager.chromedriver();
+            case FIREFOX:
+                return WebDriverManager.firefoxdriver();
+            case EDGE:
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("No managed driver binary for browser: " + baseBrowser);
+        }
+    }
+
+    private static String getDriverSystemProperty(BrowserType baseBrowser) {
+        switch (baseBrowser) {
+            case CHROME:
+                return "webdriver.chrome.driver";
+            case FIREFOX:
+                return "webdriver.gecko.driver";
+            case EDGE:
+                return "webdriver.edge.driver";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Extracts the first dotted version number from a string
+     * @param text text such as "Google Chrome 120.0.6099.109"
+     * @return version string or null
+     */
+    static String parseVersion(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = VERSION_PATTERN.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String majorVersion(String version) {
+        int dot = version.indexOf('.');
+        return dot > 0 ? version.substring(0, dot) : version;
+    }
+
+    private ResolvedDriver readIndexEntry(BrowserType baseBrowser) {
+        synchronized (indexLock) {
+            Properties index = loadIndex();
+            String prefix = baseBrowser.getBrowserName() + ".";
+            String driverPath = index.getProperty(prefix + "driver.path");
+            if (driverPath == null || driverPath.isEmpty()) {
+                return null;
+            }
+            return new ResolvedDriver(driverPath, index.getProperty(prefix + "driver.version"),
+                    index.getProperty(prefix + "browser.version"));
+        }
+    }
+
+    private void writeIndexEntry(BrowserType baseBrowser, ResolvedDriver driver) {
+        synchronized (indexLock) {
+            Properties index = loadIndex();
+            String prefix = baseBrowser.getBrowserName() + ".";
+            index.setProperty(prefix + "driver.path", driver.getDriverPath());
+            setIfPresent(index, prefix + "driver.version", driver.getDriverVersion());
+            setIfPresent(index, prefix + "browser.version", driver.getBrowserVersion());
+
+            try {
+                Files.createDirectories(indexFile.toAbsolutePath().getParent());
+                // Write to a temp file and move it so concurrent JVMs never read a partial index
+                Path tempFile = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "driver-index", ".tmp");
+                try (OutputStream out = Files.newOutputStream(tempFile)) {
+                    index.store(out, "Resolved WebDriver binaries");
+                }
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.warn("Failed to write driver index {}: {}", indexFile, e.getMessage());
+            }
+        }
+    }
+
+    private Properties loadIndex() {
+        Properties index = new Properties();
+        if (Files.exists(indexFile)) {
+            try (InputStream in = Files.newInputStream(indexFile)) {
+                index.load(in);
+            } catch (IOException e) {
+                logger.warn("Failed to read driver index {}: {}", indexFile, e.getMessage());
+            }
+        }
+        return index;
+    }
+
+    private static void setIfPresent(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    /**
+     * A resolved driver binary and the browser version it was resolved for
+     */
+    public static final class ResolvedDriver {
+        private final String driverPath;
+        private final String driverVersion;
+        private final String browserVersion;
+
+        public ResolvedDriver(String driverPath, String driverVersion, String browserVersion) {
+            this.driverPath = driverPath;
+            this.driverVersion = driverVersion;
+            this.browserVersion = browserVersion;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        public String getDriverVersion() {
+            return driverVersion;
+        }
+
+        public String getBrowserVersion() {
+            return browserVersion;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.framework.driver;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * DriverBootstrap starts a WebDriver session in the background so the test thread
+ * can overlap browser startup with its own setup work.
+ * Records how long the bootstrap took and how long the test thread actually blocked on it.
+ */
+public class DriverBootstrap {
+
+    private static final AtomicLong totalBootstrapNanos = new AtomicLong();
+    private static final AtomicLong totalWaitNanos = new AtomicLong();
+    private static final AtomicLong completedCount = new AtomicLong();
+
+    private final BrowserType browserType;
+    private final CompletableFuture<WebDriver> future;
+    private final long startNanos;
+    private final AtomicBoolean awaited = new AtomicBoolean();
+    private volatile long readyNanos;
+    private volatile long waitNanos;
+
+    /**
+     * Starts creating a driver on the given executor
+     * @param browserType browser type being started
+     * @param driverCreator creates the driver; runs on the executor
+     * @param executor executor for the bootstrap
+     */
+    DriverBootstrap(BrowserType browserType, Supplier<WebDriver> driverCreator, Executor executor) {
+        this.browserType = browserType;
+        this.startNanos = System.nanoTime();
+        this.future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return driverCreator.get();
+            } finally {
+                readyNanos = System.nanoTime();
+            }
+        }, executor);
+    }
+
+    /**
+     * Blocks until the driver is ready
+     * The time spent blocking on the first call is recorded as the test thread's wait time.
+     * @return WebDriver instance
+     * @throws RuntimeException if the driver could not be created
+     */
+    public WebDriver await() {
+        boolean firstAwait = awaited.compareAndSet(false, true);
+        long waitStart = System.nanoTime();
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed to create WebDriver for browser: " + browserType, cause);
+        } finally {
+            if (firstAwait) {
+                waitNanos = System.nanoTime() - waitStart;
+                totalBootstrapNanos.addAndGet(readyNanos - startNanos);
+                totalWaitNanos.addAndGet(waitNanos);
+                completedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns a WebDriver handle that resolves the session on first use
+     * Page objects and waits can be built from the handle before the browser is up.
+     * @return lazy WebDriver proxy
+     */
+    public WebDriver asLazyDriver() {
+        return (WebDriver) Proxy.newProxyInstance(
+                DriverBootstrap.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                        Interactive.class, HasCapabilities.class, WrapsDriver.class},
+                (proxy, method, args) -> invokeLazily(proxy, method, args));
+    }
+
+    private Object invokeLazily(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return isDone() && !future.isCompletedExceptionally()
+                        ? future.join().toString() : "LazyWebDriver(" + browserType + ")";
+            case "getWrappedDriver":
+                return await();
+            default:
+                break;
+        }
+
+        WebDriver driver = await();
+        DriverRegistry.getInstance().touch(driver);
+        if (!method.getDeclaringClass().isInstance(driver)) {
+            throw new UnsupportedOperationException(driver.getClass().getSimpleName() +
+                    " does not implement " + method.getDeclaringClass().getSimpleName());
+        }
+        try {
+            return method.invoke(driver, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Gets the underlying future
+     * @return future completing with the WebDriver
+     */
+    public CompletableFuture<WebDriver> getFuture() {
+        return future;
+    }
+
+    /**
+     * Checks if the bootstrap has finished (successfully or not)
+     * @return true if finished
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Gets the browser type being started
+     * @return BrowserType
+     */
+    public BrowserType getBrowserType() {
+        return browserType;
+    }
+
+    /**
+     * Gets the time taken to create the driver
+     * @return bootstrap time in milliseconds, or -1 if still running
+     */
+    public long getBootstrapMillis() {
+        return isDone() ? TimeUnit.NANOSECONDS.toMillis(readyNanos - startNanos) : -1;
+    }
+
+    /**
+     * Gets how long the test thread blocked waiting for the driver
+     * @return wait time in milliseconds (0 if the driver was never awaited)
+     */
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * Gets the setup time saved by overlapping the bootstrap with other work
+     * @return saved time in milliseconds, or -1 if still running
+     */
+    public long getOverlapSavedMillis() {
+        long bootstrapMillis = getBootstrapMillis();
+        return bootstrapMillis < 0 ? -1 : Math.max(0, bootstrapMillis - getWaitMillis());
+    }
+
+    /**
+     * Gets a summary of all awaited bootstraps in this JVM
+     * @return summary string
+     */
+    public static String getSummary() {
+        long count = completedCount.get();
+        long bootstrapMillis = TimeUnit.NANOSECONDS.toMillis(totalBootstrapNanos.get());
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get());
+        return String.format("%d async driver bootstraps: %d ms total startup, %d ms blocked, %d ms saved by overlap",
+                count, bootstrapMillis, waitMillis, Math.max(0, bootstrapMillis - waitMillis));
+    }
+}
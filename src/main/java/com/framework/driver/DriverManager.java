@@ -2,42 +2,84 @@ package com.framework.driver;
 
 import com.framework.config.ConfigManager;
 import com.framework.config.TestConfig;
+import com.framework.driver.DriverStartupMetrics.Phase;
 import com.framework.exceptions.ConfigurationException;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.framework.exceptions.FrameworkException;
+import com.framework.utils.ExecutionContext;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.remote.service.DriverService;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * DriverManager handles WebDriver lifecycle and provides thread-safe access
- * Uses ThreadLocal to manage WebDriver instances for parallel test execution
+ * Keeps each test's WebDriver in its ExecutionContext for parallel test execution
  */
 public class DriverManager implements DriverFactory {
     
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    private static final ConcurrentMap<Long, String> threadBrowserMap = new ConcurrentHashMap<>();
+    private static final ExecutionContext.ContextLocal<WebDriver> currentDriver = new ExecutionContext.ContextLocal<>("driver");
+    private static final ExecutionContext.ContextLocal<String> currentBrowser = new ExecutionContext.ContextLocal<>("browser");
+    private static final ExecutionContext.ContextLocal<DriverBootstrap> pendingBootstrap =
+            new ExecutionContext.ContextLocal<>("pendingBootstrap");
+    private static final ExecutionContext.ContextLocal<DriverBootstrap> lastBootstrap =
+            new ExecutionContext.ContextLocal<>("lastBootstrap");
+    private static final AtomicInteger bootstrapThreadCounter = new AtomicInteger();
+    private static final ExecutorService bootstrapExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-bootstrap-" + bootstrapThreadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
     private static DriverManager instance;
     private static final Object lock = new Object();
     
     private final ConfigManager configManager;
     private final TestConfig testConfig;
+    private volatile DriverPool driverPool;
+    private volatile DriverBinaryResolver binaryResolver;
+    private volatile DriverServiceManager serviceManager;
+    private volatile SessionReaper sessionReaper;
+    private volatile NetworkBlockingProfile networkBlockingProfile;
+    private volatile BrowserProfileCache profileCache;
+    private volatile AdmissionController admissionController;
+    private final List<BrowserTabHost> tabHosts = new ArrayList<>();
     
     // Private constructor for singleton pattern
     private DriverManager() {
         this.configManager = ConfigManager.getInstance();
         this.testConfig = configManager.getTestConfig();
+        if (testConfig.isDriverShutdownHookEnabled()) {
+            // Browsers left behind by an aborted suite are quit when the JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::quitAllDrivers, "driver-shutdown-hook"));
+        }
     }
     
     /**
@@ -60,10 +102,458 @@ public class DriverManager implements DriverFactory {
      * @return WebDriver instance
      */
     public WebDriver initializeDriver() {
-        if (driverThreadLocal.get() != null) {
-            return driverThreadLocal.get();
+        if (isDriverInitialized()) {
+            return getDriver();
+        }
+        
+        BrowserType browserType = resolveConfiguredBrowserType();
+        
+        WebDriver driver = acquireDriver(browserType);
+        
+        setDriver(driver);
+        currentBrowser.set(browserType.getDisplayName());
+        
+        return driver;
+    }
+    
+    /**
+     * Initializes WebDriver with specific browser type
+     * @param browserType the browser type to initialize
+     * @return WebDriver instance
+     */
+    public WebDriver initializeDriver(BrowserType browserType) {
+        if (isDriverInitialized()) {
+            // A reused session of the same browser type can be handed straight back
+            if (canReuseCurrentDriver(browserType)) {
+                return getDriver();
+            }
+            quitDriver();
         }
         
+        WebDriver driver = acquireDriver(browserType);
+        
+        setDriver(driver);
+        currentBrowser.set(browserType.getDisplayName());
+        
+        return driver;
+    }
+    
+    /**
+     * Leases a warm session from the driver pool for the current thread
+     * Works regardless of driver.pool.enabled; the session goes back to the pool on quitDriver()
+     * @param browserType the browser type to lease
+     * @return WebDriver instance
+     */
+    public WebDriver leaseDriver(BrowserType browserType) {
+        if (isDriverInitialized()) {
+            quitDriver();
+        }
+        
+        WebDriver driver = getDriverPool().lease(browserType);
+        
+        setDriver(driver);
+        currentBrowser.set(browserType.getDisplayName());
+        
+        return driver;
+    }
+    
+    /**
+     * Opens a tab context in a shared browser of the configured type for the current thread
+     * @return WebDriver bound to the new tab
+     */
+    public WebDriver initializeTabContext() {
+        return initializeTabContext(resolveConfiguredBrowserType());
+    }
+    
+    /**
+     * Opens a tab context in a shared browser for the current thread
+     * The returned driver behaves like a dedicated session; quitDriver() closes only the tab.
+     * Meant for light read-only checks: commands of all tabs in a browser run one at a time.
+     * @param browserType the browser type to share
+     * @return WebDriver bound to the new tab
+     */
+    public WebDriver initializeTabContext(BrowserType browserType) {
+        if (isDriverInitialized()) {
+            quitDriver();
+        }
+        
+        TabContext tab = openTab(browserType);
+        
+        setDriver(tab.getDriver());
+        currentBrowser.set(browserType.getDisplayName());
+        
+        return tab.getDriver();
+    }
+    
+    /**
+     * Opens a tab in a host browser with room for it, starting a new host browser if none has
+     */
+    private TabContext openTab(BrowserType browserType) {
+        synchronized (tabHosts) {
+            // Hosts whose browser was quit or reaped are no longer registered
+            tabHosts.removeIf(host -> !DriverRegistry.getInstance().isRegistered(host.getBrowser()));
+            for (BrowserTabHost host : tabHosts) {
+                if (host.getBrowserType() == browserType) {
+                    TabContext tab = host.openTab();
+                    if (tab != null) {
+                        return tab;
+                    }
+                }
+            }
+            
+            WebDriver browser = createConfiguredDriver(browserType);
+            BrowserTabHost host;
+            try {
+                host = new BrowserTabHost(browser, browserType, testConfig.getTabContextMaxPerBrowser(),
+                        testConfig.isTabContextSharedCookies());
+            } catch (RuntimeException e) {
+                DriverRegistry.getInstance().unregister(browser);
+                browser.quit();
+                throw e;
+            }
+            DriverRegistry.getInstance().assignToTabHost(browser);
+            tabHosts.add(host);
+            return host.openTab();
+        }
+    }
+    
+    /**
+     * Starts the configured browser in the background for the current thread
+     * @return future completing with the WebDriver
+     */
+    public CompletableFuture<WebDriver> initializeDriverAsync() {
+        return initializeDriverAsync(resolveConfiguredBrowserType());
+    }
+    
+    /**
+     * Starts a browser in the background for the current thread
+     * The driver is bound to the calling thread; getDriver() and the handle from getLazyDriver()
+     * block only when the driver is first used, so test setup can overlap browser startup.
+     * @param browserType the browser type to initialize
+     * @return future completing with the WebDriver
+     */
+    public CompletableFuture<WebDriver> initializeDriverAsync(BrowserType browserType) {
+        if (isDriverInitialized()) {
+            if (canReuseCurrentDriver(browserType)) {
+                lastBootstrap.remove();
+                return CompletableFuture.completedFuture(getDriver());
+            }
+            quitDriver();
+        }
+        
+        DriverBootstrap bootstrap = new DriverBootstrap(browserType, 
+                () -> acquireDriver(browserType), bootstrapExecutor);
+        pendingBootstrap.set(bootstrap);
+        lastBootstrap.set(bootstrap);
+        currentBrowser.set(browserType.getDisplayName());
+        
+        return bootstrap.getFuture();
+    }
+    
+    /**
+     * Gets a WebDriver handle for the current thread that does not block while the browser is starting
+     * @return lazy handle if a bootstrap is pending, otherwise the current driver (or null)
+     */
+    public WebDriver getLazyDriver() {
+        DriverBootstrap bootstrap = pendingBootstrap.get();
+        return bootstrap != null ? bootstrap.asLazyDriver() : currentDriver.get();
+    }
+    
+    /**
+     * Gets the most recent async bootstrap started on the current thread
+     * @return DriverBootstrap with timing information, or null if none was started
+     */
+    public DriverBootstrap getLastBootstrap() {
+        return lastBootstrap.get();
+    }
+    
+    /**
+     * Pre-starts pooled sessions for a browser type so the first tests don't pay startup cost
+     * @param browserType the browser type to warm up
+     */
+    public void warmUpPool(BrowserType browserType) {
+        getDriverPool().warmUp(browserType, testConfig.getDriverPoolSize());
+    }
+    
+    /**
+     * Gets the driver pool, creating it from configuration on first use
+     * @return DriverPool instance
+     */
+    public DriverPool getDriverPool() {
+        if (driverPool == null) {
+            synchronized (lock) {
+                if (driverPool == null) {
+                    driverPool = new DriverPool(this::createConfiguredDriver,
+                            testConfig.getDriverPoolSize(),
+                            testConfig.getDriverPoolMaxIdleSeconds(),
+                            testConfig.getDriverPoolMaxUses(),
+                            testConfig.getDriverPoolLeaseTimeout());
+                }
+            }
+        }
+        return driverPool;
+    }
+    
+    /**
+     * Gets the driver binary resolver, creating it from configuration on first use
+     * @return DriverBinaryResolver instance
+     */
+    public DriverBinaryResolver getBinaryResolver() {
+        if (binaryResolver == null) {
+            synchronized (lock) {
+                if (binaryResolver == null) {
+                    String indexFile = testConfig.getDriverResolverCacheFile();
+                    binaryResolver = new DriverBinaryResolver(
+                            indexFile == null || indexFile.isEmpty() 
+                                    ? DriverBinaryResolver.getDefaultIndexFile() : Paths.get(indexFile),
+                            testConfig.isDriverResolverOffline());
+                }
+            }
+        }
+        return binaryResolver;
+    }
+    
+    /**
+     * Gets the shared driver service manager, creating it on first use
+     * @return DriverServiceManager instance
+     */
+    public DriverServiceManager getServiceManager() {
+        if (serviceManager == null) {
+            synchronized (lock) {
+                if (serviceManager == null) {
+                    serviceManager = new DriverServiceManager();
+                }
+            }
+        }
+        return serviceManager;
+    }
+    
+    /**
+     * Gets the configured page load strategy
+     * @return PageLoadStrategy for new sessions
+     * @throws ConfigurationException if the configured value is not normal, eager or none
+     */
+    public PageLoadStrategy getPageLoadStrategy() {
+        String strategy = testConfig.getPageLoadStrategy();
+        if (strategy == null || strategy.isEmpty()) {
+            return PageLoadStrategy.NORMAL;
+        }
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy.toLowerCase());
+        if (pageLoadStrategy == null) {
+            throw new ConfigurationException("browser.page.load.strategy", "Expected normal, eager or none but was: " + strategy);
+        }
+        return pageLoadStrategy;
+    }
+    
+    /**
+     * Applies the configured network blocking profile to a new Chromium session
+     */
+    private void applyNetworkBlocking(WebDriver driver, BrowserType browserType) {
+        String profileName = testConfig.getNetworkBlockingProfile();
+        if (profileName == null || profileName.isEmpty() || !browserType.supportsCdp()) {
+            return;
+        }
+        if (networkBlockingProfile == null || !networkBlockingProfile.getName().equals(profileName)) {
+            networkBlockingProfile = NetworkBlockingProfile.fromConfig(profileName, configManager);
+        }
+        try {
+            NetworkBlocker.attach(driver, networkBlockingProfile);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to apply network blocking profile '" + profileName + "': " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the session reaper, starting it on first use
+     * @return SessionReaper instance
+     */
+    public SessionReaper getSessionReaper() {
+        if (sessionReaper == null) {
+            synchronized (lock) {
+                if (sessionReaper == null) {
+                    SessionReaper reaper = new SessionReaper(DriverRegistry.getInstance(),
+                            Duration.ofSeconds(testConfig.getSessionReaperPingTimeout()),
+                            testConfig.getSessionReaperMaxMissedPings(),
+                            testConfig.isSessionReaperKillOrphans(),
+                            this::disposeDeadDriver);
+                    reaper.start(Duration.ofSeconds(testConfig.getSessionReaperInterval()));
+                    sessionReaper = reaper;
+                }
+            }
+        }
+        return sessionReaper;
+    }
+    
+    /**
+     * Quits a session found dead by the reaper without blocking the reaper thread
+     */
+    private void disposeDeadDriver(WebDriver driver) {
+        bootstrapExecutor.execute(() -> {
+            DriverPool pool = driverPool;
+            if (pool != null) {
+                // Frees the pool slot; does nothing for sessions the pool does not own
+                pool.invalidate(driver);
+            }
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                // The session is already gone
+            }
+        });
+    }
+    
+    /**
+     * Drops the current thread's driver if the reaper found it dead
+     * @return true if the driver was evicted
+     */
+    private boolean evictDeadDriver() {
+        WebDriver driver = currentDriver.get();
+        SessionReaper reaper = sessionReaper;
+        if (driver == null || reaper == null || !reaper.consumeDead(driver)) {
+            return false;
+        }
+        System.err.println("WebDriver session for " + getCurrentBrowser() + " is dead, discarding it");
+        currentDriver.remove();
+        currentBrowser.remove();
+        return true;
+    }
+    
+    /**
+     * Resolves the driver executable for a browser
+     * @param browserType browser type
+     * @param headless headless flag, for startup metrics
+     * @return driver executable, or null to let Selenium locate the driver itself
+     */
+    private File getDriverExecutable(BrowserType browserType, boolean headless) {
+        DriverBinaryResolver.ResolvedDriver resolved = DriverStartupMetrics.time(browserType, headless,
+                Phase.BINARY_RESOLUTION, () -> getBinaryResolver().resolve(browserType));
+        return resolved == null ? null : new File(resolved.getDriverPath());
+    }
+    
+    /**
+     * Starts a driver process for a single session; it is stopped when the session quits
+     */
+    private <S extends DriverService> S startDedicatedService(S service) {
+        try {
+            service.start();
+            return service;
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start driver service", "DRIVER_SERVICE_START_FAILED", e);
+        }
+    }
+    
+    /**
+     * Gives back a driver service whose session failed to start
+     */
+    private void releaseService(DriverService service) {
+        if (testConfig.isDriverServiceShared()) {
+            getServiceManager().release(service);
+        } else {
+            service.stop();
+        }
+    }
+    
+    /**
+     * Gets the session admission controller, creating it from configuration on first use
+     * @return AdmissionController instance
+     */
+    public AdmissionController getAdmissionController() {
+        if (admissionController == null) {
+            synchronized (lock) {
+                if (admissionController == null) {
+                    Map<BrowserType, Integer> memoryEstimates = new EnumMap<>(BrowserType.class);
+                    memoryEstimates.put(BrowserType.CHROME, configManager.getIntProperty("admission.memory.estimate.chrome", 600));
+                    memoryEstimates.put(BrowserType.FIREFOX, configManager.getIntProperty("admission.memory.estimate.firefox", 700));
+                    memoryEstimates.put(BrowserType.EDGE, configManager.getIntProperty("admission.memory.estimate.edge", 600));
+                    memoryEstimates.put(BrowserType.SAFARI, configManager.getIntProperty("admission.memory.estimate.safari", 800));
+                    admissionController = new AdmissionController(memoryEstimates,
+                            testConfig.getAdmissionMemoryReserveMb(),
+                            testConfig.getAdmissionMaxLoadPerCpu(),
+                            Duration.ofSeconds(testConfig.getAdmissionWaitTimeout()),
+                            Duration.ofMillis(testConfig.getAdmissionPollIntervalMillis()),
+                            DriverRegistry.getInstance());
+                }
+            }
+        }
+        return admissionController;
+    }
+    
+    /**
+     * Waits for capacity to start a session when admission control is enabled
+     * @return grant to close once the session has started, or null if admission control is disabled
+     */
+    private AdmissionController.Grant admit(BrowserType browserType, boolean headless) {
+        if (!testConfig.isAdmissionControlEnabled()) {
+            return null;
+        }
+        return DriverStartupMetrics.time(browserType, headless, Phase.ADMISSION,
+                () -> getAdmissionController().acquire(browserType));
+    }
+    
+    /**
+     * Gets the browser profile cache, creating it from configuration on first use
+     * @return BrowserProfileCache instance
+     */
+    public BrowserProfileCache getProfileCache() {
+        if (profileCache == null) {
+            synchronized (lock) {
+                if (profileCache == null) {
+                    String rootDir = testConfig.getBrowserProfileTemplateDir();
+                    BrowserProfileCache cache = new BrowserProfileCache(
+                            rootDir == null || rootDir.isEmpty() 
+                                    ? BrowserProfileCache.getDefaultRootDir() : Paths.get(rootDir),
+                            testConfig.isBrowserProfileTemplateHardlinks(),
+                            DriverRegistry.getInstance());
+                    cache.start(Duration.ofSeconds(testConfig.getBrowserProfileCleanupInterval()));
+                    profileCache = cache;
+                }
+            }
+        }
+        return profileCache;
+    }
+    
+    /**
+     * Clones the profile template for a browser and its options when profile templates are enabled
+     * @param browserType browser type
+     * @param headless headless flag, for startup metrics
+     * @param options options the session is started with, before any profile argument
+     * @param templateBuilder starts the browser once against a template directory
+     * @return session profile directory, or null to let the browser create a fresh profile
+     */
+    private Path cloneProfileTemplate(BrowserType browserType, boolean headless, Capabilities options, 
+                                      Consumer<Path> templateBuilder) {
+        if (!testConfig.isBrowserProfileTemplateEnabled()) {
+            return null;
+        }
+        return DriverStartupMetrics.time(browserType, headless, Phase.PROFILE_PREPARATION, () -> {
+            BrowserProfileCache cache = getProfileCache();
+            Path template = cache.getTemplate(browserType, options.asMap().toString(), templateBuilder);
+            return template == null ? null : cache.createSessionProfile(template);
+        });
+    }
+    
+    /**
+     * Starts a session on a cloned profile, deleting the clone if the session fails to start
+     */
+    private WebDriver withSessionProfile(Path sessionProfile, Supplier<WebDriver> starter) {
+        if (sessionProfile == null) {
+            return starter.get();
+        }
+        try {
+            WebDriver driver = starter.get();
+            getProfileCache().bind(sessionProfile, driver);
+            return driver;
+        } catch (RuntimeException e) {
+            getProfileCache().discard(sessionProfile);
+            throw e;
+        }
+    }
+    
+    /**
+     * Resolves the configured browser, switching to the headless variant when headless is set
+     * @return BrowserType to use for new sessions
+     */
+    public BrowserType resolveConfiguredBrowserType() {
         String browserName = testConfig.getBrowser();
         BrowserType browserType = BrowserType.fromString(browserName);
         
@@ -81,33 +571,34 @@ public class DriverManager implements DriverFactory {
                     break;
             }
         }
-        
-        WebDriver driver = createDriver(browserType, testConfig.isHeadless(), 
-                                      testConfig.getWindowWidth(), testConfig.getWindowHeight());
-        
-        setDriver(driver);
-        threadBrowserMap.put(Thread.currentThread().getId(), browserType.getDisplayName());
-        
-        return driver;
+        return browserType;
     }
     
     /**
-     * Initializes WebDriver with specific browser type
-     * @param browserType the browser type to initialize
+     * Checks if the current thread's session can be handed back for the given browser type
+     */
+    private boolean canReuseCurrentDriver(BrowserType browserType) {
+        return testConfig.isSessionReuseEnabled() 
+                && browserType.getDisplayName().equals(getCurrentBrowser());
+    }
+    
+    /**
+     * Gets a driver from the pool when pooling is enabled, otherwise starts a new one
+     */
+    private WebDriver acquireDriver(BrowserType browserType) {
+        return testConfig.isDriverPoolEnabled()
+                ? getDriverPool().lease(browserType)
+                : createConfiguredDriver(browserType);
+    }
+    
+    /**
+     * Creates a driver using the configured headless flag and window size
+     * @param browserType the browser type to create
      * @return WebDriver instance
      */
-    public WebDriver initializeDriver(BrowserType browserType) {
-        if (driverThreadLocal.get() != null) {
-            quitDriver();
-        }
-        
-        WebDriver driver = createDriver(browserType, testConfig.isHeadless(), 
-                                      testConfig.getWindowWidth(), testConfig.getWindowHeight());
-        
-        setDriver(driver);
-        threadBrowserMap.put(Thread.currentThread().getId(), browserType.getDisplayName());
-        
-        return driver;
+    private WebDriver createConfiguredDriver(BrowserType browserType) {
+        return createDriver(browserType, testConfig.isHeadless(), 
+                          testConfig.getWindowWidth(), testConfig.getWindowHeight());
     }
     
     @Override
@@ -119,50 +610,105 @@ public class DriverManager implements DriverFactory {
     public WebDriver createDriver(BrowserType browserType, boolean headless, int windowWidth, 
                                 int windowHeight, String... additionalArguments) {
         WebDriver driver;
+        boolean runHeadless = headless || browserType.isHeadless();
+        long start = System.nanoTime();
+        AdmissionController.Grant admission = admit(browserType, runHeadless);
         
         try {
             switch (browserType.getBaseBrowser()) {
                 case CHROME:
-                    driver = createChromeDriver(headless || browserType.isHeadless(), 
+                    driver = createChromeDriver(browserType, runHeadless, 
                                               windowWidth, windowHeight, additionalArguments);
                     break;
                 case FIREFOX:
-                    driver = createFirefoxDriver(headless || browserType.isHeadless(), 
+                    driver = createFirefoxDriver(browserType, runHeadless, 
                                                windowWidth, windowHeight, additionalArguments);
                     break;
                 case EDGE:
-                    driver = createEdgeDriver(headless, windowWidth, windowHeight, additionalArguments);
+                    driver = createEdgeDriver(browserType, headless, windowWidth, windowHeight, additionalArguments);
                     break;
                 case SAFARI:
-                    driver = createSafariDriver(windowWidth, windowHeight, additionalArguments);
+                    driver = DriverStartupMetrics.time(browserType, false, Phase.SESSION_CREATION,
+                            () -> createSafariDriver(windowWidth, windowHeight, additionalArguments));
                     break;
                 default:
                     throw new ConfigurationException("Unsupported browser type: " + browserType);
             }
+            DriverRegistry.getInstance().register(driver, browserType);
+            if (testConfig.isSessionReaperEnabled()) {
+                // Record the new browser while its driver is still its parent
+                getSessionReaper().trackOwnedBrowsers();
+            }
+            applyNetworkBlocking(driver, browserType);
             
-            // Set implicit timeout
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(testConfig.getImplicitTimeout()));
+            // Set implicit timeout; in zero-implicit-wait mode only explicit waits wait for elements
+            driver.manage().timeouts().implicitlyWait(testConfig.isWaitImplicitZeroEnabled()
+                    ? Duration.ZERO : Duration.ofSeconds(testConfig.getImplicitTimeout()));
             
             // Set window size if not headless
-            if (!headless && !browserType.isHeadless()) {
+            if (!runHeadless) {
+                long sizingStart = System.nanoTime();
                 driver.manage().window().setSize(new Dimension(windowWidth, windowHeight));
+                DriverStartupMetrics.record(browserType, false, Phase.WINDOW_SIZING, System.nanoTime() - sizingStart);
             }
             
             return driver;
             
         } catch (Exception e) {
             throw new RuntimeException("Failed to create WebDriver for browser: " + browserType, e);
+        } finally {
+            if (admission != null) {
+                admission.close();
+            }
+            DriverStartupMetrics.record(browserType, runHeadless, Phase.TOTAL, System.nanoTime() - start);
         }
     }
     
     /**
      * Creates Chrome WebDriver with specified options
      */
-    private WebDriver createChromeDriver(boolean headless, int windowWidth, int windowHeight, 
+    private WebDriver createChromeDriver(BrowserType browserType, boolean headless, int windowWidth, int windowHeight, 
                                        String... additionalArguments) {
-        WebDriverManager.chromedriver().setup();
+        File driverExecutable = getDriverExecutable(browserType, headless);
+        
+        ChromeOptions options = buildChromeOptions(headless, windowWidth, windowHeight, additionalArguments);
+        Path sessionProfile = cloneProfileTemplate(browserType, headless, options, template -> {
+            ChromeOptions templateOptions = buildChromeOptions(headless, windowWidth, windowHeight, additionalArguments);
+            templateOptions.addArguments("--user-data-dir=" + template);
+            new ChromeDriver(templateOptions).quit();
+        });
+        if (sessionProfile != null) {
+            options.addArguments("--user-data-dir=" + sessionProfile);
+        }
         
+        if (driverExecutable == null) {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new ChromeDriver(options)));
+        }
+        ChromeDriverService service = DriverStartupMetrics.time(browserType, headless, Phase.SERVICE_START,
+                () -> testConfig.isDriverServiceShared()
+                        ? getServiceManager().acquireChromeService(driverExecutable)
+                        : startDedicatedService(new ChromeDriverService.Builder()
+                                .usingDriverExecutable(driverExecutable).usingAnyFreePort().build()));
+        try {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new ChromeDriver(service, options)));
+        } catch (RuntimeException e) {
+            releaseService(service);
+            throw e;
+        }
+    }
+    
+    /**
+     * Builds Chrome options for the given settings
+     */
+    private ChromeOptions buildChromeOptions(boolean headless, int windowWidth, int windowHeight, 
+                                             String... additionalArguments) {
         ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        if (testConfig.isBrowserBidiEnabled()) {
+            options.enableBiDi();
+        }
         
         // Basic Chrome options
         options.addArguments("--no-sandbox");
@@ -184,17 +730,54 @@ public class DriverManager implements DriverFactory {
             options.addArguments(Arrays.asList(additionalArguments));
         }
         
-        return new ChromeDriver(options);
+        return options;
     }
     
     /**
      * Creates Firefox WebDriver with specified options
      */
-    private WebDriver createFirefoxDriver(boolean headless, int windowWidth, int windowHeight, 
+    private WebDriver createFirefoxDriver(BrowserType browserType, boolean headless, int windowWidth, int windowHeight, 
                                         String... additionalArguments) {
-        WebDriverManager.firefoxdriver().setup();
+        File driverExecutable = getDriverExecutable(browserType, headless);
         
+        FirefoxOptions options = buildFirefoxOptions(headless, windowWidth, windowHeight, additionalArguments);
+        Path sessionProfile = cloneProfileTemplate(browserType, headless, options, template -> {
+            FirefoxOptions templateOptions = buildFirefoxOptions(headless, windowWidth, windowHeight, additionalArguments);
+            templateOptions.addArguments("-profile", template.toString());
+            new FirefoxDriver(templateOptions).quit();
+        });
+        if (sessionProfile != null) {
+            options.addArguments("-profile", sessionProfile.toString());
+        }
+        
+        if (driverExecutable == null) {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new FirefoxDriver(options)));
+        }
+        GeckoDriverService service = DriverStartupMetrics.time(browserType, headless, Phase.SERVICE_START,
+                () -> testConfig.isDriverServiceShared()
+                        ? getServiceManager().acquireGeckoService(driverExecutable)
+                        : startDedicatedService(new GeckoDriverService.Builder()
+                                .usingDriverExecutable(driverExecutable).usingAnyFreePort().build()));
+        try {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new FirefoxDriver(service, options)));
+        } catch (RuntimeException e) {
+            releaseService(service);
+            throw e;
+        }
+    }
+    
+    /**
+     * Builds Firefox options for the given settings
+     */
+    private FirefoxOptions buildFirefoxOptions(boolean headless, int windowWidth, int windowHeight, 
+                                               String... additionalArguments) {
         FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        if (testConfig.isBrowserBidiEnabled()) {
+            options.enableBiDi();
+        }
         
         if (headless) {
             options.addArguments("--headless");
@@ -208,17 +791,54 @@ public class DriverManager implements DriverFactory {
             options.addArguments(Arrays.asList(additionalArguments));
         }
         
-        return new FirefoxDriver(options);
+        return options;
     }
     
     /**
      * Creates Edge WebDriver with specified options
      */
-    private WebDriver createEdgeDriver(boolean headless, int windowWidth, int windowHeight, 
+    private WebDriver createEdgeDriver(BrowserType browserType, boolean headless, int windowWidth, int windowHeight, 
                                      String... additionalArguments) {
-        WebDriverManager.edgedriver().setup();
+        File driverExecutable = getDriverExecutable(browserType, headless);
+        
+        EdgeOptions options = buildEdgeOptions(headless, windowWidth, windowHeight, additionalArguments);
+        Path sessionProfile = cloneProfileTemplate(browserType, headless, options, template -> {
+            EdgeOptions templateOptions = buildEdgeOptions(headless, windowWidth, windowHeight, additionalArguments);
+            templateOptions.addArguments("--user-data-dir=" + template);
+            new EdgeDriver(templateOptions).quit();
+        });
+        if (sessionProfile != null) {
+            options.addArguments("--user-data-dir=" + sessionProfile);
+        }
         
+        if (driverExecutable == null) {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new EdgeDriver(options)));
+        }
+        EdgeDriverService service = DriverStartupMetrics.time(browserType, headless, Phase.SERVICE_START,
+                () -> testConfig.isDriverServiceShared()
+                        ? getServiceManager().acquireEdgeService(driverExecutable)
+                        : startDedicatedService(new EdgeDriverService.Builder()
+                                .usingDriverExecutable(driverExecutable).usingAnyFreePort().build()));
+        try {
+            return withSessionProfile(sessionProfile, () -> DriverStartupMetrics.time(browserType, headless,
+                    Phase.SESSION_CREATION, () -> new EdgeDriver(service, options)));
+        } catch (RuntimeException e) {
+            releaseService(service);
+            throw e;
+        }
+    }
+    
+    /**
+     * Builds Edge options for the given settings
+     */
+    private EdgeOptions buildEdgeOptions(boolean headless, int windowWidth, int windowHeight, 
+                                         String... additionalArguments) {
         EdgeOptions options = new EdgeOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        if (testConfig.isBrowserBidiEnabled()) {
+            options.enableBiDi();
+        }
         
         // Basic Edge options
         options.addArguments("--no-sandbox");
@@ -237,7 +857,7 @@ public class DriverManager implements DriverFactory {
             options.addArguments(Arrays.asList(additionalArguments));
         }
         
-        return new EdgeDriver(options);
+        return options;
     }
     
     /**
@@ -247,6 +867,7 @@ public class DriverManager implements DriverFactory {
     private WebDriver createSafariDriver(int windowWidth, int windowHeight, 
                                        String... additionalArguments) {
         SafariOptions options = new SafariOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
         
         // Safari has limited options compared to other browsers
         // Additional arguments are not supported in the same way
@@ -264,7 +885,23 @@ public class DriverManager implements DriverFactory {
      * @return WebDriver instance or null if not initialized
      */
     public WebDriver getDriver() {
-        return driverThreadLocal.get();
+        DriverBootstrap bootstrap = pendingBootstrap.get();
+        if (bootstrap != null) {
+            try {
+                setDriver(bootstrap.await());
+            } catch (RuntimeException e) {
+                currentBrowser.remove();
+                throw e;
+            } finally {
+                pendingBootstrap.remove();
+            }
+        }
+        if (evictDeadDriver()) {
+            return null;
+        }
+        WebDriver driver = currentDriver.get();
+        DriverRegistry.getInstance().touch(driver);
+        return driver;
     }
     
     /**
@@ -272,32 +909,88 @@ public class DriverManager implements DriverFactory {
      * @param driver WebDriver instance to set
      */
     public void setDriver(WebDriver driver) {
-        driverThreadLocal.set(driver);
+        currentDriver.set(driver);
+        DriverRegistry.getInstance().assignToCurrentThread(driver);
     }
     
     /**
-     * Quits the WebDriver and removes it from ThreadLocal
+     * Quits the WebDriver and removes it from the execution context
+     * Pooled sessions are returned to the pool instead of being quit
      */
     public void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        DriverBootstrap bootstrap = pendingBootstrap.get();
+        if (bootstrap != null) {
+            pendingBootstrap.remove();
+            if (!bootstrap.isDone()) {
+                // Don't block on a browser nobody used; dispose of it once it is up
+                bootstrap.getFuture().thenAccept(this::disposeDriver);
+                currentBrowser.remove();
+                return;
+            }
+            if (bootstrap.getFuture().isCompletedExceptionally()) {
+                currentBrowser.remove();
+                return;
+            }
+            setDriver(bootstrap.getFuture().join());
+        }
+        
+        WebDriver driver = currentDriver.get();
         if (driver != null) {
             try {
-                driver.quit();
+                disposeDriver(driver);
             } catch (Exception e) {
                 System.err.println("Error while quitting WebDriver: " + e.getMessage());
             } finally {
-                driverThreadLocal.remove();
-                threadBrowserMap.remove(Thread.currentThread().getId());
+                currentDriver.remove();
+                currentBrowser.remove();
             }
         }
     }
     
     /**
-     * Gets the browser name for current thread
+     * Returns a pooled driver to its pool or quits it
+     */
+    private void disposeDriver(WebDriver driver) {
+        DriverPool pool = driverPool;
+        if (pool != null && pool.isLeased(driver)) {
+            pool.release(driver);
+        } else {
+            DriverRegistry.getInstance().unregister(driver);
+            driver.quit();
+        }
+    }
+    
+    /**
+     * Releases the current thread's driver at the end of a test
+     * With session reuse enabled a Chromium session is reset and kept for the next test on this thread;
+     * otherwise, or if the reset fails, the driver is quit.
+     */
+    public void releaseDriver() {
+        DriverBootstrap bootstrap = pendingBootstrap.get();
+        if (bootstrap != null && !bootstrap.isDone()) {
+            quitDriver();
+            return;
+        }
+        WebDriver driver = getDriver();
+        if (driver == null) {
+            return;
+        }
+        
+        if (testConfig.isSessionReuseEnabled() && SessionResetter.canReset(driver)) {
+            if (SessionResetter.resetSession(driver)) {
+                return;
+            }
+            System.err.println("Session reset failed, quitting WebDriver instead");
+        }
+        quitDriver();
+    }
+    
+    /**
+     * Gets the browser name for the current execution context, like getDriver()
      * @return browser name string
      */
     public String getCurrentBrowser() {
-        return threadBrowserMap.get(Thread.currentThread().getId());
+        return currentBrowser.get();
     }
     
     /**
@@ -305,18 +998,44 @@ public class DriverManager implements DriverFactory {
      * @return true if driver is initialized, false otherwise
      */
     public boolean isDriverInitialized() {
-        return driverThreadLocal.get() != null;
+        evictDeadDriver();
+        return currentDriver.get() != null || pendingBootstrap.get() != null;
     }
     
     /**
      * Quits all WebDriver instances and cleans up resources
-     * Should be called during framework shutdown
+     * Sessions owned by every thread are quit in parallel, bounded by driver.quit.timeout.
+     * Should be called during framework shutdown; also runs from the JVM shutdown hook.
      */
     public static void quitAllDrivers() {
-        // This method can be enhanced to track all driver instances if needed
-        // For now, it ensures current thread's driver is cleaned up
         if (instance != null) {
             instance.quitDriver();
+            DriverRegistry.getInstance().quitAll(Duration.ofSeconds(instance.testConfig.getDriverQuitTimeout()));
+            if (instance.driverPool != null) {
+                instance.driverPool.shutdown();
+                instance.driverPool = null;
+            }
+            SessionReaper reaper = instance.sessionReaper;
+            if (reaper != null) {
+                reaper.trackOwnedBrowsers();
+                reaper.shutdown();
+                instance.sessionReaper = null;
+            }
+            synchronized (instance.tabHosts) {
+                instance.tabHosts.clear();
+            }
+            if (instance.serviceManager != null) {
+                instance.serviceManager.shutdown();
+                instance.serviceManager = null;
+            }
+            if (reaper != null) {
+                // Browsers that did not quit within the timeout outlive their stopped driver
+                reaper.killOrphanedBrowsers();
+            }
+            if (instance.profileCache != null) {
+                instance.profileCache.shutdown();
+                instance.profileCache = null;
+            }
         }
     }
     
@@ -325,6 +1044,6 @@ public class DriverManager implements DriverFactory {
      * @return number of active drivers
      */
     public int getActiveDriverCount() {
-        return threadBrowserMap.size();
+        return DriverRegistry.getInstance().size();
     }
 }
\ No newline at end of file
@@ -0,0 +1,400 @@
+package com.framework.driver;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * DriverPool keeps a bounded set of warm WebDriver sessions per BrowserType
+ * and hands them out with lease/return semantics.
+ * Sessions are reset on return and recycled after a configurable number of uses
+ * or when they have been idle for too long.
+ * Only Chromium sessions can be reset, so other browsers are started on lease and quit on release.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final Function<BrowserType, WebDriver> driverCreator;
+    private final int maxSize;
+    private final long maxIdleMillis;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+
+    private final Map<BrowserType, Slot> slots = new EnumMap<>(BrowserType.class);
+    private final ConcurrentMap<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final Set<WebDriver> unpooled = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new driver pool
+     * @param driverCreator function that starts a new session for a browser type
+     * @param maxSize maximum number of sessions per browser type
+     * @param maxIdleSeconds idle time after which a session is discarded (0 disables)
+     * @param maxUses number of leases after which a session is recycled (0 disables)
+     * @param leaseTimeoutSeconds how long lease() waits for a free session
+     */
+    public DriverPool(Function<BrowserType, WebDriver> driverCreator, int maxSize,
+                      int maxIdleSeconds, int maxUses, int leaseTimeoutSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1: " + maxSize);
+        }
+        this.driverCreator = driverCreator;
+        this.maxSize = maxSize;
+        this.maxIdleMillis = TimeUnit.SECONDS.toMillis(Math.max(0, maxIdleSeconds));
+        this.maxUses = Math.max(0, maxUses);
+        this.leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(0, leaseTimeoutSeconds));
+        for (BrowserType type : BrowserType.values()) {
+            slots.put(type, new Slot());
+        }
+    }
+
+    /**
+     * Pre-starts sessions for a browser type until the pool is full
+     * @param browserType browser type to warm up
+     * @param count number of sessions to start (capped at pool size)
+     */
+    public void warmUp(BrowserType browserType, int count) {
+        if (!SessionResetter.canReset(browserType)) {
+            logger.debug("{} sessions cannot be reset for reuse, not warming up the pool", browserType);
+            return;
+        }
+        Slot slot = slots.get(browserType);
+        int target = Math.min(count, maxSize);
+        while (true) {
+            slot.lock.lock();
+            try {
+                if (shutdown || slot.total >= target) {
+                    return;
+                }
+                slot.total++;
+            } finally {
+                slot.lock.unlock();
+            }
+
+            PooledSession session;
+            try {
+                session = new PooledSession(browserType, driverCreator.apply(browserType));
+            } catch (RuntimeException e) {
+                releaseCapacity(slot);
+                throw e;
+            }
+
+            slot.lock.lock();
+            try {
+                slot.idle.add(session);
+                slot.available.signal();
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Leases a session for the given browser type, starting one if the pool is not full
+     * Browsers whose sessions cannot be reset get a new session that is quit on release.
+     * @param browserType browser type to lease
+     * @return WebDriver owned by the caller until returned
+     * @throws FrameworkException if no session becomes available within the lease timeout
+     */
+    public WebDriver lease(BrowserType browserType) {
+        if (!SessionResetter.canReset(browserType)) {
+            if (shutdown) {
+                throw new FrameworkException("Driver pool has been shut down", "DRIVER_POOL_CLOSED");
+            }
+            logger.debug("{} sessions cannot be reset for reuse, starting one outside the pool", browserType);
+            WebDriver driver = driverCreator.apply(browserType);
+            unpooled.add(driver);
+            return driver;
+        }
+        Slot slot = slots.get(browserType);
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+        List<PooledSession> expired = new ArrayList<>();
+        boolean create = false;
+        PooledSession session = null;
+
+        slot.lock.lock();
+        try {
+            while (session == null && !create) {
+                if (shutdown) {
+                    throw new FrameworkException("Driver pool has been shut down", "DRIVER_POOL_CLOSED");
+                }
+
+                // Drop sessions that sat idle for too long
+                Iterator<PooledSession> iterator = slot.idle.iterator();
+                while (iterator.hasNext()) {
+                    PooledSession candidate = iterator.next();
+                    if (isIdleExpired(candidate)) {
+                        iterator.remove();
+                        slot.total--;
+                        expired.add(candidate);
+                    }
+                }
+
+                if (!slot.idle.isEmpty()) {
+                    session = slot.idle.remove(slot.idle.size() - 1);
+                } else if (slot.total < maxSize) {
+                    slot.total++;
+                    create = true;
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new FrameworkException("Timed out after " + leaseTimeoutMillis +
+                                " ms waiting for a pooled " + browserType + " session", "DRIVER_POOL_EXHAUSTED");
+                    }
+                    try {
+                        slot.available.await(remaining, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new FrameworkException("Interrupted while waiting for a pooled session", e);
+                    }
+                }
+            }
+        } finally {
+            slot.lock.unlock();
+        }
+
+        for (PooledSession stale : expired) {
+            logger.debug("Discarding idle {} session after {} uses", stale.browserType, stale.useCount);
+            quitQuietly(stale.driver);
+        }
+
+        if (create) {
+            try {
+                session = new PooledSession(browserType, driverCreator.apply(browserType));
+                logger.info("Started pooled {} session ({} of {})", browserType, slot.total, maxSize);
+            } catch (RuntimeException e) {
+                releaseCapacity(slot);
+                throw e;
+            }
+        }
+
+        session.useCount++;
+        leased.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Returns a leased session to the pool
+     * The session is reset before it is handed out again; sessions that fail the reset
+     * or reached the max-uses limit are quit and their slot is freed.
+     * @param driver WebDriver previously obtained from lease()
+     */
+    public void release(WebDriver driver) {
+        if (unpooled.remove(driver)) {
+            logger.debug("Quitting session started outside the pool");
+            quitQuietly(driver);
+            return;
+        }
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            throw new IllegalArgumentException("WebDriver was not leased from this pool");
+        }
+        Slot slot = slots.get(session.browserType);
+
+        boolean recycle = shutdown || (maxUses > 0 && session.useCount >= maxUses);
+        if (!recycle && !resetSession(driver)) {
+            logger.warn("Reset of pooled {} session failed, recycling it", session.browserType);
+            recycle = true;
+        }
+
+        if (recycle) {
+            logger.debug("Recycling pooled {} session after {} uses", session.browserType, session.useCount);
+            quitQuietly(driver);
+            releaseCapacity(slot);
+            return;
+        }
+
+        session.lastReturnedAt = System.currentTimeMillis();
+        DriverRegistry.getInstance().assignToPool(driver);
+        slot.lock.lock();
+        try {
+            slot.idle.add(session);
+            slot.available.signal();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * Quits a leased or idle session without returning it to the pool
+     * @param driver WebDriver owned by this pool
+     */
+    public void invalidate(WebDriver driver) {
+        if (unpooled.remove(driver)) {
+            quitQuietly(driver);
+            return;
+        }
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            session = removeIdle(driver);
+            if (session == null) {
+                return;
+            }
+        }
+        quitQuietly(driver);
+        releaseCapacity(slots.get(session.browserType));
+    }
+
+    private PooledSession removeIdle(WebDriver driver) {
+        for (Slot slot : slots.values()) {
+            slot.lock.lock();
+            try {
+                Iterator<PooledSession> iterator = slot.idle.iterator();
+                while (iterator.hasNext()) {
+                    PooledSession session = iterator.next();
+                    if (session.driver == driver) {
+                        iterator.remove();
+                        return session;
+                    }
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the driver is currently leased from this pool
+     * @param driver WebDriver to check
+     * @return true if leased from this pool
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && (leased.containsKey(driver) || unpooled.contains(driver));
+    }
+
+    /**
+     * Gets the number of idle sessions for a browser type
+     * @param browserType browser type
+     * @return idle session count
+     */
+    public int getIdleCount(BrowserType browserType) {
+        Slot slot = slots.get(browserType);
+        slot.lock.lock();
+        try {
+            return slot.idle.size();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of sessions (idle and leased) for a browser type
+     * @param browserType browser type
+     * @return total session count
+     */
+    public int getTotalCount(BrowserType browserType) {
+        Slot slot = slots.get(browserType);
+        slot.lock.lock();
+        try {
+            return slot.total;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of sessions currently leased across all browser types
+     * @return leased session count
+     */
+    public int getLeasedCount() {
+        return leased.size() + unpooled.size();
+    }
+
+    /**
+     * Quits all idle sessions and refuses new leases
+     * Leased sessions are quit when they are returned.
+     */
+    public void shutdown() {
+        shutdown = true;
+        List<PooledSession> toQuit = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            slot.lock.lock();
+            try {
+                toQuit.addAll(slot.idle);
+                slot.total -= slot.idle.size();
+                slot.idle.clear();
+                slot.available.signalAll();
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        for (PooledSession session : toQuit) {
+            quitQuietly(session.driver);
+        }
+        logger.info("Driver pool shut down, quit {} idle sessions", toQuit.size());
+    }
+
+    /**
+     * Resets browser state so the next lease starts from a clean session
+     * @param driver WebDriver to reset
+     * @return true if reset succeeded
+     */
+    protected boolean resetSession(WebDriver driver) {
+        return SessionResetter.resetSession(driver);
+    }
+
+    private boolean isIdleExpired(PooledSession session) {
+        return maxIdleMillis > 0 && System.currentTimeMillis() - session.lastReturnedAt > maxIdleMillis;
+    }
+
+    private void releaseCapacity(Slot slot) {
+        slot.lock.lock();
+        try {
+            slot.total--;
+            slot.available.signal();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        DriverRegistry.getInstance().unregister(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error while quitting pooled WebDriver: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Idle sessions and capacity accounting for one browser type
+     */
+    private static final class Slot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final List<PooledSession> idle = new ArrayList<>();
+        private int total;
+    }
+
+    /**
+     * A pooled WebDriver session with usage bookkeeping
+     */
+    private static final class PooledSession {
+        private final BrowserType browserType;
+        private final WebDriver driver;
+        private long lastReturnedAt;
+        private int useCount;
+
+        private PooledSession(BrowserType browserType, WebDriver driver) {
+            this.browserType = browserType;
+            this.driver = driver;
+            this.lastReturnedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverRegistry tracks every live WebDriver session in the JVM, whichever thread owns it,
+ * so all sessions can be shut down together when a suite ends or aborts.
+ * Each entry records the owning thread, browser type, start time and last access time.
+ */
+public class DriverRegistry {
+
+    private static final Logger logger = LogManager.getLogger(DriverRegistry.class);
+    private static final String POOL_OWNER = "driver-pool";
+    private static final String TAB_HOST_OWNER = "tab-host";
+
+    private static DriverRegistry instance;
+    private static final Object lock = new Object();
+
+    private final ConcurrentMap<WebDriver, RegisteredDriver> drivers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty registry
+     * Use getInstance() for the JVM-wide registry.
+     */
+    DriverRegistry() {
+    }
+
+    /**
+     * Gets the JVM-wide registry instance
+     * @return DriverRegistry instance
+     */
+    public static DriverRegistry getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new DriverRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a newly created session, owned by the current thread
+     * @param driver WebDriver instance
+     * @param browserType browser type of the session
+     */
+    public void register(WebDriver driver, BrowserType browserType) {
+        drivers.put(driver, new RegisteredDriver(driver, browserType, Thread.currentThread()));
+    }
+
+    /**
+     * Marks the current thread as the owner of a registered session
+     * @param driver WebDriver instance
+     */
+    public void assignToCurrentThread(WebDriver driver) {
+        RegisteredDriver entry = driver == null ? null : drivers.get(driver);
+        if (entry != null) {
+            entry.setOwner(Thread.currentThread().getName(), Thread.currentThread().getId());
+        }
+    }
+
+    /**
+     * Marks a registered session as idle in the driver pool
+     * @param driver WebDriver instance
+     */
+    public void assignToPool(WebDriver driver) {
+        RegisteredDriver entry = driver == null ? null : drivers.get(driver);
+        if (entry != null) {
+            entry.setOwner(POOL_OWNER, -1);
+        }
+    }
+
+    /**
+     * Marks a registered session as a browser shared by tab contexts
+     * @param driver WebDriver instance
+     */
+    public void assignToTabHost(WebDriver driver) {
+        RegisteredDriver entry = driver == null ? null : drivers.get(driver);
+        if (entry != null) {
+            entry.setOwner(TAB_HOST_OWNER, -1);
+        }
+    }
+
+    /**
+     * Records that a session was accessed: handed out by DriverManager.getDriver(), or sent a
+     * command through a framework proxy (lazy driver, tab context)
+     * Commands page objects send through their own driver reference are not seen.
+     * @param driver WebDriver instance
+     */
+    public void touch(WebDriver driver) {
+        RegisteredDriver entry = driver == null ? null : drivers.get(driver);
+        if (entry != null) {
+            entry.lastAccessAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Removes a session that has been quit
+     * @param driver WebDriver instance
+     * @return true if the session was registered
+     */
+    public boolean unregister(WebDriver driver) {
+        return driver != null && drivers.remove(driver) != null;
+    }
+
+    /**
+     * Checks if a session is registered
+     * @param driver WebDriver instance
+     * @return true if registered
+     */
+    public boolean isRegistered(WebDriver driver) {
+        return driver != null && drivers.containsKey(driver);
+    }
+
+    /**
+     * Gets the registry entry for a session
+     * @param driver WebDriver instance
+     * @return entry or null if not registered
+     */
+    public RegisteredDriver getEntry(WebDriver driver) {
+        return driver == null ? null : drivers.get(driver);
+    }
+
+    /**
+     * Gets a snapshot of all live sessions
+     * @return unmodifiable list of registry entries
+     */
+    public List<RegisteredDriver> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(drivers.values()));
+    }
+
+    /**
+     * Gets the number of live sessions
+     * @return session count
+     */
+    public int size() {
+        return drivers.size();
+    }
+
+    /**
+     * Quits every registered session in parallel
+     * Sessions that have not quit when the timeout expires are abandoned and reported in the log.
+     * @param timeout maximum time to wait for all sessions to quit
+     * @return number of sessions that quit within the timeout
+     */
+    public int quitAll(Duration timeout) {
+        List<RegisteredDriver> entries = new ArrayList<>(drivers.values());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        entries.forEach(entry -> drivers.remove(entry.getDriver()));
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(entries.size(), runnable -> {
+            Thread thread = new Thread(runnable, "driver-quit-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<CompletableFuture<Void>> quits = new ArrayList<>();
+            for (RegisteredDriver entry : entries) {
+                quits.add(CompletableFuture.runAsync(() -> entry.getDriver().quit(), executor));
+            }
+
+            try {
+                CompletableFuture.allOf(quits.toArray(new CompletableFuture<?>[0]))
+                        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // Individual results are inspected below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            int quit = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                CompletableFuture<Void> future = quits.get(i);
+                RegisteredDriver entry = entries.get(i);
+                if (!future.isDone()) {
+                    logger.warn("Timed out quitting {}", entry);
+                } else if (future.isCompletedExceptionally()) {
+                    logger.debug("Error while quitting {}", entry);
+                } else {
+                    quit++;
+                }
+            }
+            logger.info("Quit {} of {} registered WebDriver sessions", quit, entries.size());
+            return quit;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets a description of all live sessions for logging
+     * @return one line per session
+     */
+    public String describe() {
+        Collection<RegisteredDriver> entries = drivers.values();
+        StringBuilder summary = new StringBuilder(entries.size() + " live WebDriver sessions");
+        for (RegisteredDriver entry : entries) {
+            summary.append(System.lineSeparator()).append("  ").append(entry);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * A live session and its ownership and activity details
+     */
+    public static final class RegisteredDriver {
+        private final WebDriver driver;
+        private final BrowserType browserType;
+        private final Instant startedAt;
+        private volatile String ownerThreadName;
+        private volatile long ownerThreadId;
+        private volatile long lastAccessAt;
+
+        private RegisteredDriver(WebDriver driver, BrowserType browserType, Thread owner) {
+            this.driver = driver;
+            this.browserType = browserType;
+            this.startedAt = Instant.now();
+            this.ownerThreadName = owner.getName();
+            this.ownerThreadId = owner.getId();
+            this.lastAccessAt = startedAt.toEpochMilli();
+        }
+
+        private void setOwner(String threadName, long threadId) {
+            this.ownerThreadName = threadName;
+            this.ownerThreadId = threadId;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public BrowserType getBrowserType() {
+            return browserType;
+        }
+
+        public Instant getStartedAt() {
+            return startedAt;
+        }
+
+        public String getOwnerThreadName() {
+            return ownerThreadName;
+        }
+
+        /**
+         * Gets the owning thread id
+         * @return thread id, or -1 while the session is idle in the driver pool or hosts tab contexts
+         */
+        public long getOwnerThreadId() {
+            return ownerThreadId;
+        }
+
+        public Instant getLastAccessAt() {
+            return Instant.ofEpochMilli(lastAccessAt);
+        }
+
+        /**
+         * Gets the time since the session was last accessed
+         * @return idle time in milliseconds
+         */
+        public long getIdleMillis() {
+            return Math.max(0, System.currentTimeMillis() - lastAccessAt);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s session owned by %s, started %s, idle %d ms",
+                    browserType, ownerThreadName, startedAt, getIdleMillis());
+        }
+    }
+}
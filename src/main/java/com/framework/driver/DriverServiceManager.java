@@ -0,0 +1,303 @@
+package com.framework.driver;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.net.PortProber;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverServiceManager owns long-lived driver service processes (chromedriver,
+ * geckodriver, msedgedriver) and opens many sessions against each one instead
+ * of spawning a new driver process per session.
+ * chromedriver and msedgedriver serve any number of concurrent sessions from one process;
+ * geckodriver serves one session at a time, so one process is kept per concurrently active session
+ * and reused for later sessions.
+ * Dead processes are detected and replaced on the next session request.
+ */
+public class DriverServiceManager {
+
+    private static final Logger logger = LogManager.getLogger(DriverServiceManager.class);
+    private static final Duration SERVICE_START_TIMEOUT = Duration.ofSeconds(20);
+
+    private final Map<BrowserType, List<SharedService>> services = new EnumMap<>(BrowserType.class);
+    private final AtomicInteger startCount = new AtomicInteger();
+    private final AtomicInteger restartCount = new AtomicInteger();
+
+    /**
+     * Gets a running shared chromedriver service
+     * @param executable chromedriver binary
+     * @return ChromeDriverService to pass to the ChromeDriver constructor
+     */
+    public ChromeDriverService acquireChromeService(File executable) {
+        return (ChromeDriverService) acquire(BrowserType.CHROME, executable);
+    }
+
+    /**
+     * Gets a running geckodriver service with no active session
+     * @param executable geckodriver binary
+     * @return GeckoDriverService to pass to the FirefoxDriver constructor
+     */
+    public GeckoDriverService acquireGeckoService(File executable) {
+        return (GeckoDriverService) acquire(BrowserType.FIREFOX, executable);
+    }
+
+    /**
+     * Gets a running shared msedgedriver service
+     * @param executable msedgedriver binary
+     * @return EdgeDriverService to pass to the EdgeDriver constructor
+     */
+    public EdgeDriverService acquireEdgeService(File executable) {
+        return (EdgeDriverService) acquire(BrowserType.EDGE, executable);
+    }
+
+    /**
+     * Releases a session slot when session creation failed
+     * Sessions that were created successfully release their slot on quit().
+     * @param service service returned by one of the acquire methods
+     */
+    public void release(DriverService service) {
+        if (service instanceof SharedService) {
+            sessionEnded((SharedService) service);
+        }
+    }
+
+    private synchronized DriverService acquire(BrowserType baseBrowser, File executable) {
+        List<SharedService> running = services.computeIfAbsent(baseBrowser, key -> new ArrayList<>());
+
+        // Replace processes that crashed since the last request
+        Iterator<SharedService> iterator = running.iterator();
+        while (iterator.hasNext()) {
+            SharedService service = iterator.next();
+            if (!service.asDriverService().isRunning()) {
+                iterator.remove();
+                restartCount.incrementAndGet();
+                logger.warn("{} driver service at {} is no longer running, starting a new one",
+                        baseBrowser, service.asDriverService().getUrl());
+                try {
+                    service.shutdown();
+                } catch (RuntimeException e) {
+                    logger.debug("Ignoring failure to stop dead driver service: {}", e.getMessage());
+                }
+            }
+        }
+
+        int capacity = baseBrowser == BrowserType.FIREFOX ? 1 : Integer.MAX_VALUE;
+        for (SharedService service : running) {
+            if (service.activeSessions().get() < capacity) {
+                service.activeSessions().incrementAndGet();
+                return service.asDriverService();
+            }
+        }
+
+        SharedService service = startService(baseBrowser, executable);
+        running.add(service);
+        service.activeSessions().incrementAndGet();
+        return service.asDriverService();
+    }
+
+    private SharedService startService(BrowserType baseBrowser, File executable) {
+        int port = PortProber.findFreePort();
+        try {
+            SharedService service;
+            switch (baseBrowser) {
+                case CHROME:
+                    service = new SharedChromeService(this, executable, port);
+                    break;
+                case FIREFOX:
+                    service = new SharedGeckoService(this, executable, port);
+                    break;
+                case EDGE:
+                    service = new SharedEdgeService(this, executable, port);
+                    break;
+                default:
+                    throw new IllegalArgumentException("No driver service for browser: " + baseBrowser);
+            }
+            service.asDriverService().start();
+            startCount.incrementAndGet();
+            logger.info("Started shared {} driver service on port {}", baseBrowser, port);
+            return service;
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start " + baseBrowser + " driver service: " + executable,
+                    "DRIVER_SERVICE_START_FAILED", e);
+        }
+    }
+
+    private synchronized void sessionEnded(SharedService service) {
+        if (service.activeSessions().get() > 0) {
+            service.activeSessions().decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of driver service processes started so far
+     * @return start count including restarts
+     */
+    public int getStartCount() {
+        return startCount.get();
+    }
+
+    /**
+     * Gets the number of services replaced after they died
+     * @return restart count
+     */
+    public int getRestartCount() {
+        return restartCount.get();
+    }
+
+    /**
+     * Gets the number of running service processes for a browser type
+     * @param browserType browser type
+     * @return running service count
+     */
+    public synchronized int getServiceCount(BrowserType browserType) {
+        List<SharedService> running = services.get(browserType.getBaseBrowser());
+        return running == null ? 0 : running.size();
+    }
+
+    /**
+     * Stops all driver service processes
+     * Sessions still open on them are terminated with the process.
+     */
+    public synchronized void shutdown() {
+        int stopped = 0;
+        for (List<SharedService> running : services.values()) {
+            for (SharedService service : running) {
+                try {
+                    service.shutdown();
+                    stopped++;
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to stop driver service at {}: {}",
+                            service.asDriverService().getUrl(), e.getMessage());
+                }
+            }
+            running.clear();
+        }
+        logger.info("Stopped {} shared driver services", stopped);
+    }
+
+    /**
+     * A driver service whose process outlives individual sessions
+     * WebDriver.quit() calls stop() on the service; shared services treat that as "session ended".
+     */
+    private interface SharedService {
+        AtomicInteger activeSessions();
+
+        DriverService asDriverService();
+
+        void shutdown();
+    }
+
+    private static List<String> portArgs(int port, String... extra) {
+        List<String> args = new ArrayList<>(Arrays.asList(extra));
+        args.add(0, "--port=" + port);
+        return args;
+    }
+
+    private static final class SharedChromeService extends ChromeDriverService implements SharedService {
+        private final DriverServiceManager owner;
+        private final AtomicInteger activeSessions = new AtomicInteger();
+
+        private SharedChromeService(DriverServiceManager owner, File executable, int port) throws IOException {
+            super(executable, port, SERVICE_START_TIMEOUT, portArgs(port), Collections.emptyMap());
+            this.owner = owner;
+        }
+
+        @Override
+        public void stop() {
+            owner.sessionEnded(this);
+        }
+
+        @Override
+        public AtomicInteger activeSessions() {
+            return activeSessions;
+        }
+
+        @Override
+        public DriverService asDriverService() {
+            return this;
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedGeckoService extends GeckoDriverService implements SharedService {
+        private final DriverServiceManager owner;
+        private final AtomicInteger activeSessions = new AtomicInteger();
+
+        private SharedGeckoService(DriverServiceManager owner, File executable, int port) throws IOException {
+            // Let the OS pick the BiDi port so several geckodriver processes can run side by side
+            super(executable, port, SERVICE_START_TIMEOUT, portArgs(port, "--websocket-port=0"),
+                    Collections.emptyMap());
+            this.owner = owner;
+        }
+
+        @Override
+        public void stop() {
+            owner.sessionEnded(this);
+        }
+
+        @Override
+        public AtomicInteger activeSessions() {
+            return activeSessions;
+        }
+
+        @Override
+        public DriverService asDriverService() {
+            return this;
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedEdgeService extends EdgeDriverService implements SharedService {
+        private final DriverServiceManager owner;
+        private final AtomicInteger activeSessions = new AtomicInteger();
+
+        private SharedEdgeService(DriverServiceManager owner, File executable, int port) throws IOException {
+            super(executable, port, SERVICE_START_TIMEOUT, portArgs(port), Collections.emptyMap());
+            this.owner = owner;
+        }
+
+        @Override
+        public void stop() {
+            owner.sessionEnded(this);
+        }
+
+        @Override
+        public AtomicInteger activeSessions() {
+            return activeSessions;
+        }
+
+        @Override
+        public DriverService asDriverService() {
+            return this;
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.framework.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * DriverStartupMetrics records how long each phase of driver creation takes,
+ * keyed by browser type and headless flag, so slow startups can be traced to a phase.
+ * Samples are kept at nanosecond resolution and reported as p50/p90/p99/max.
+ */
+public final class DriverStartupMetrics {
+
+    private static final Logger logger = LogManager.getLogger(DriverStartupMetrics.class);
+    private static final ConcurrentMap<StartupKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Phases of driver creation
+     */
+    public enum Phase {
+        ADMISSION("admission"),
+        BINARY_RESOLUTION("binary resolution"),
+        PROFILE_PREPARATION("profile preparation"),
+        SERVICE_START("service start"),
+        SESSION_CREATION("session creation"),
+        WINDOW_SIZING("window sizing"),
+        TOTAL("total");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private DriverStartupMetrics() {
+    }
+
+    /**
+     * Times a phase; the sample is recorded whether or not the phase succeeds
+     * @param browserType browser type being started
+     * @param headless whether the browser runs headless
+     * @param phase phase being timed
+     * @param action phase to run
+     * @return result of the action
+     */
+    public static <T> T time(BrowserType browserType, boolean headless, Phase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(browserType, headless, phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records one phase duration
+     * @param browserType browser type being started
+     * @param headless whether the browser runs headless
+     * @param phase phase the duration belongs to
+     * @param nanos duration in nanoseconds
+     */
+    public static void record(BrowserType browserType, boolean headless, Phase phase, long nanos) {
+        histograms.computeIfAbsent(new StartupKey(browserType, headless, phase), key -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Gets the histogram for a phase
+     * @param browserType browser type
+     * @param headless headless flag
+     * @param phase phase
+     * @return histogram, empty if nothing was recorded
+     */
+    public static LatencyHistogram getHistogram(BrowserType browserType, boolean headless, Phase phase) {
+        LatencyHistogram histogram = histograms.get(new StartupKey(browserType, headless, phase));
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    /**
+     * Clears all recorded samples
+     */
+    public static void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Formats the recorded phases as a text table in milliseconds
+     * @return table, one row per browser, headless flag and phase
+     */
+    public static String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-18s %-9s %-20s %6s %10s %10s %10s %10s%n",
+                "Browser", "Headless", "Phase", "Count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<StartupKey, LatencyHistogram> entry : sortedEntries()) {
+            StartupKey key = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            table.append(String.format("%-18s %-9s %-20s %6d %10.1f %10.1f %10.1f %10.1f%n",
+                    key.browserType.getDisplayName(), key.headless, key.phase.getDisplayName(), histogram.getCount(),
+                    toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(90)),
+                    toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Formats the recorded phases as JSON
+     * @return JSON array with one object per browser, headless flag and phase
+     */
+    public static String toJson() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<StartupKey, LatencyHistogram> entry : sortedEntries()) {
+            StartupKey key = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("browser", key.browserType.name());
+            row.put("headless", key.headless);
+            row.put("phase", key.phase.name());
+            row.put("count", histogram.getCount());
+            row.put("p50Millis", toMillis(histogram.getPercentile(50)));
+            row.put("p90Millis", toMillis(histogram.getPercentile(90)));
+            row.put("p99Millis", toMillis(histogram.getPercentile(99)));
+            row.put("maxMillis", toMillis(histogram.getMax()));
+            rows.add(row);
+        }
+        try {
+            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(rows);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize startup metrics", e);
+        }
+    }
+
+    /**
+     * Writes driver-startup.json and driver-startup.txt to a directory
+     * @param directory output directory, created if missing
+     * @return true if both files were written
+     */
+    public static boolean export(Path directory) {
+        if (histograms.isEmpty()) {
+            return false;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("driver-startup.json"), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("driver-startup.txt"), toTable().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            logger.warn("Could not export driver startup metrics to {}: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private static List<Map.Entry<StartupKey, LatencyHistogram>> sortedEntries() {
+        List<Map.Entry<StartupKey, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Map.Entry.comparingByKey(Comparator
+                .comparing((StartupKey key) -> key.browserType)
+                .thenComparing(key -> key.headless)
+                .thenComparing(key -> key.phase)));
+        return entries;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    /**
+     * Histogram key: browser type, headless flag and phase
+     */
+    private static final class StartupKey {
+        private final BrowserType browserType;
+        private final boolean headless;
+        private final Phase phase;
+
+        private StartupKey(BrowserType browserType, boolean headless, Phase phase) {
+            this.browserType = browserType;
+            this.headless = headless;
+            this.phase = phase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StartupKey)) return false;
+            StartupKey other = (StartupKey) o;
+            return browserType == other.browserType && headless == other.headless && phase == other.phase;
+        }
+
+        @Override
+        public int hashCode() {
+            return (browserType.hashCode() * 31 + Boolean.hashCode(headless)) * 31 + phase.hashCode();
+        }
+    }
+
+    /**
+     * Latency samples of one phase
+     * Every sample is kept, so percentiles are exact; driver startups are few enough for this.
+     */
+    public static final class LatencyHistogram {
+        private long[] samples = new long[16];
+        private int count;
+
+        synchronized void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        /**
+         * Gets a percentile using the nearest-rank method
+         * @param percentile percentile between 0 and 100
+         * @return latency in nanoseconds, 0 if there are no samples
+         */
+        public synchronized long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count);
+            return sorted[Math.min(count, Math.max(1, rank)) - 1];
+        }
+
+        public synchronized long getMax() {
+            long max = 0;
+            for (int i = 0; i < count; i++) {
+                max = Math.max(max, samples[i]);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkBlocker applies a NetworkBlockingProfile to a Chromium session through the Chrome DevTools Protocol.
+ * URL patterns are blocked with Network.setBlockedURLs before the request is sent.
+ * Resource types are blocked with Fetch interception once response headers arrive, so the body is never
+ * downloaded and its Content-Length can be counted as blocked bytes.
+ * Counters are kept per profile name across all sessions in the JVM.
+ */
+public class NetworkBlocker {
+
+    private static final Logger logger = LogManager.getLogger(NetworkBlocker.class);
+    private static final ConcurrentMap<String, BlockingStats> statsByProfile = new ConcurrentHashMap<>();
+
+    private final DevTools devTools;
+    private final NetworkBlockingProfile profile;
+    private final BlockingStats stats;
+
+    /**
+     * Creates a blocker on an open DevTools session
+     * @param devTools DevTools connection with a created session
+     * @param profile profile to apply
+     */
+    NetworkBlocker(DevTools devTools, NetworkBlockingProfile profile) {
+        this.devTools = devTools;
+        this.profile = profile;
+        this.stats = getStats(profile.getName());
+    }
+
+    /**
+     * Applies a blocking profile to a session
+     * @param driver WebDriver session
+     * @param profile profile to apply
+     * @return the attached blocker, or null if the browser does not support DevTools
+     */
+    public static NetworkBlocker attach(WebDriver driver, NetworkBlockingProfile profile) {
+        WebDriver target = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (!(target instanceof HasDevTools)) {
+            logger.debug("{} does not support DevTools; network blocking profile '{}' not applied",
+                    target.getClass().getSimpleName(), profile.getName());
+            return null;
+        }
+
+        DevTools devTools = ((HasDevTools) target).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        NetworkBlocker blocker = new NetworkBlocker(devTools, profile);
+        blocker.enable();
+        return blocker;
+    }
+
+    /**
+     * Enables blocking on the DevTools session
+     */
+    void enable() {
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                this::onLoadingFailed);
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+        if (!profile.getUrlPatterns().isEmpty()) {
+            devTools.send(new Command<Void>("Network.setBlockedURLs",
+                    Collections.singletonMap("urls", profile.getUrlPatterns())));
+        }
+
+        if (!profile.getResourceTypes().isEmpty()) {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String resourceType : profile.getResourceTypes()) {
+                Map<String, Object> pattern = new HashMap<>();
+                pattern.put("urlPattern", "*");
+                pattern.put("resourceType", resourceType);
+                pattern.put("requestStage", "Response");
+                patterns.add(pattern);
+            }
+            devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                    this::onRequestPaused);
+            devTools.send(new Command<Void>("Fetch.enable", Collections.singletonMap("patterns", patterns)));
+        }
+        logger.debug("Applied network blocking profile {}", profile);
+    }
+
+    /**
+     * Counts requests blocked by URL pattern
+     * @param event Network.loadingFailed parameters
+     */
+    void onLoadingFailed(Map<String, Object> event) {
+        // blockedReason is only set for requests blocked by the browser, e.g. "inspector" for setBlockedURLs
+        if (event.get("blockedReason") != null) {
+            stats.blockedRequests.incrementAndGet();
+        }
+    }
+
+    /**
+     * Fails an intercepted response of a blocked resource type and counts its size
+     * @param event Fetch.requestPaused parameters
+     */
+    void onRequestPaused(Map<String, Object> event) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("requestId", event.get("requestId"));
+        params.put("errorReason", "BlockedByClient");
+        try {
+            devTools.send(new Command<Void>("Fetch.failRequest", params));
+            stats.blockedRequests.incrementAndGet();
+            stats.blockedBytes.addAndGet(getContentLength(event));
+        } catch (RuntimeException e) {
+            logger.debug("Could not block request {}: {}", event.get("requestId"), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long getContentLength(Map<String, Object> event) {
+        Object headers = event.get("responseHeaders");
+        if (!(headers instanceof List)) {
+            return 0;
+        }
+        for (Object header : (List<Object>) headers) {
+            Map<String, Object> entry = (Map<String, Object>) header;
+            if ("content-length".equalsIgnoreCase(String.valueOf(entry.get("name")))) {
+                try {
+                    return Long.parseLong(String.valueOf(entry.get("value")).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the profile applied by this blocker
+     * @return NetworkBlockingProfile
+     */
+    public NetworkBlockingProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Gets the counters for a profile
+     * @param profileName profile name
+     * @return counters shared by all sessions using the profile
+     */
+    public static BlockingStats getStats(String profileName) {
+        return statsByProfile.computeIfAbsent(profileName, key -> new BlockingStats());
+    }
+
+    /**
+     * Gets a summary of blocked requests per profile
+     * @return summary string
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder("Network blocking:");
+        if (statsByProfile.isEmpty()) {
+            return summary.append(" no profiles applied").toString();
+        }
+        for (Map.Entry<String, BlockingStats> entry : new TreeMap<>(statsByProfile).entrySet()) {
+            summary.append(String.format(" [%s: %d requests, %d KB]", entry.getKey(),
+                    entry.getValue().getBlockedRequests(), entry.getValue().getBlockedBytes() / 1024));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Blocked request and byte counters for one profile
+     * Bytes are only known for resource-type blocks; URL-pattern blocks stop the request before it is sent.
+     */
+    public static final class BlockingStats {
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final AtomicLong blockedBytes = new AtomicLong();
+
+        public long getBlockedRequests() {
+            return blockedRequests.get();
+        }
+
+        public long getBlockedBytes() {
+            return blockedBytes.get();
+        }
+    }
+}
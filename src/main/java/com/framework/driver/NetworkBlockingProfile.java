@@ -0,0 +1,110 @@
+package com.framework.driver;
+
+import com.framework.config.ConfigManager;
+import com.framework.exceptions.ConfigurationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * NetworkBlockingProfile is a named set of URL patterns and resource types
+ * that are blocked in the browser to speed up page loads.
+ * Profiles are defined in config.properties:
+ * <pre>
+ * network.blocking.profile.&lt;name&gt;.urls=*google-analytics.com*,*doubleclick.net*
+ * network.blocking.profile.&lt;name&gt;.resource.types=Image,Font,Media
+ * </pre>
+ * Resource types use Chrome DevTools names (Image, Font, Media, Stylesheet, Script, ...).
+ */
+public class NetworkBlockingProfile {
+
+    private static final Set<String> RESOURCE_TYPES = new LinkedHashSet<>(Arrays.asList(
+            "Document", "Stylesheet", "Image", "Media", "Font", "Script", "TextTrack", "XHR", "Fetch",
+            "Prefetch", "EventSource", "WebSocket", "Manifest", "SignedExchange", "Ping",
+            "CSPViolationReport", "Preflight", "Other"));
+
+    private final String name;
+    private final List<String> urlPatterns;
+    private final Set<String> resourceTypes;
+
+    /**
+     * Creates a blocking profile
+     * @param name profile name
+     * @param urlPatterns URL patterns as accepted by Network.setBlockedURLs ('*' wildcards)
+     * @param resourceTypes DevTools resource types to block
+     */
+    public NetworkBlockingProfile(String name, List<String> urlPatterns, Set<String> resourceTypes) {
+        this.name = name;
+        this.urlPatterns = Collections.unmodifiableList(new ArrayList<>(urlPatterns));
+        this.resourceTypes = Collections.unmodifiableSet(new LinkedHashSet<>(resourceTypes));
+    }
+
+    /**
+     * Loads a profile from configuration
+     * @param name profile name
+     * @param configManager configuration source
+     * @return NetworkBlockingProfile
+     * @throws ConfigurationException if the profile is not defined or names an unknown resource type
+     */
+    public static NetworkBlockingProfile fromConfig(String name, ConfigManager configManager) {
+        String prefix = "network.blocking.profile." + name + ".";
+        List<String> urlPatterns = splitList(configManager.getProperty(prefix + "urls", ""));
+        List<String> typeNames = splitList(configManager.getProperty(prefix + "resource.types", ""));
+
+        if (urlPatterns.isEmpty() && typeNames.isEmpty()) {
+            throw new ConfigurationException("network.blocking.profile",
+                    "Blocking profile '" + name + "' has no " + prefix + "urls or " + prefix + "resource.types");
+        }
+
+        Set<String> resourceTypes = new LinkedHashSet<>();
+        for (String typeName : typeNames) {
+            resourceTypes.add(normalizeResourceType(typeName, prefix + "resource.types"));
+        }
+        return new NetworkBlockingProfile(name, urlPatterns, resourceTypes);
+    }
+
+    private static String normalizeResourceType(String typeName, String propertyName) {
+        for (String type : RESOURCE_TYPES) {
+            if (type.equalsIgnoreCase(typeName)) {
+                return type;
+            }
+        }
+        throw new ConfigurationException(propertyName, "Unknown resource type '" + typeName +
+                "'. Supported types: " + String.join(", ", RESOURCE_TYPES));
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getUrlPatterns() {
+        return urlPatterns;
+    }
+
+    public Set<String> getResourceTypes() {
+        return resourceTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkBlockingProfile{" +
+                "name='" + name + '\'' +
+                ", urlPatterns=" + urlPatterns +
+                ", resourceTypes=" + resourceTypes +
+                '}';
+    }
+}
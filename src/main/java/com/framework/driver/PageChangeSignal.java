@@ -0,0 +1,254 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.bidi.script.ChannelValue;
+import org.openqa.selenium.bidi.script.LocalValue;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PageChangeSignal wakes waiting threads when the page of a session may have changed.
+ * A MutationObserver in every document reports DOM changes, and navigation and network events
+ * come from WebDriver BiDi or, on Chromium sessions without BiDi, the Chrome DevTools Protocol.
+ * Waits sleep on the signal instead of a fixed interval, re-checking their condition as soon as
+ * something happens and falling back to their polling interval when nothing does.
+ */
+public class PageChangeSignal {
+
+    private static final Logger logger = LogManager.getLogger(PageChangeSignal.class);
+    private static final ConcurrentMap<WebDriver, PageChangeSignal> signals = new ConcurrentHashMap<>();
+    private static final PageChangeSignal UNSUPPORTED = new PageChangeSignal("none", 0);
+
+    static final String CHANNEL = "framework-page-change";
+    static final String BINDING = "__frameworkPageChanged";
+
+    // Runs once per document with a notify(kind) callback; installs before the document element exists
+    static final String OBSERVER_SCRIPT =
+            "function (notify) {" +
+            "  if (window.__frameworkChangeObserver) { return; }" +
+            "  window.__frameworkChangeObserver = new MutationObserver(function () { notify('dom'); });" +
+            "  window.__frameworkChangeObserver.observe(document," +
+            "      { subtree: true, childList: true, attributes: true, characterData: true });" +
+            "  ['transitionend', 'animationend', 'input', 'change'].forEach(function (type) {" +
+            "    document.addEventListener(type, function () { notify(type); }, true);" +
+            "  });" +
+            "}";
+
+    private static final List<String> DEVTOOLS_EVENTS = Arrays.asList(
+            "Page.frameNavigated", "Page.navigatedWithinDocument", "Page.domContentEventFired",
+            "Page.loadEventFired", "Page.javascriptDialogOpening", "Network.loadingFinished",
+            "Network.loadingFailed");
+
+    private final String transport;
+    private final long minCheckIntervalMillis;
+    private final Object monitor = new Object();
+    private long generation;
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong eventWakeups = new AtomicLong();
+    private final AtomicLong timeoutWakeups = new AtomicLong();
+
+    /**
+     * Creates a signal that is fed through signal()
+     * @param transport name of the event source, for logging
+     * @param minCheckIntervalMillis minimum time between two wake-ups of one wait, to ride out mutation bursts
+     */
+    PageChangeSignal(String transport, long minCheckIntervalMillis) {
+        this.transport = transport;
+        this.minCheckIntervalMillis = minCheckIntervalMillis;
+    }
+
+    /**
+     * Gets the signal of a session, subscribing to its events on first use
+     * @param driver WebDriver session
+     * @param minCheckIntervalMillis minimum time between two wake-ups of one wait
+     * @return signal, or null if the session supports neither BiDi nor DevTools
+     */
+    public static PageChangeSignal forDriver(WebDriver driver, long minCheckIntervalMillis) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        // Drop signals of quit sessions
+        signals.keySet().removeIf(session -> session instanceof RemoteWebDriver
+                && ((RemoteWebDriver) session).getSessionId() == null);
+        PageChangeSignal signal = signals.computeIfAbsent(target, session -> attach(session, minCheckIntervalMillis));
+        return signal != UNSUPPORTED ? signal : null;
+    }
+
+    private static PageChangeSignal attach(WebDriver driver, long minCheckIntervalMillis) {
+        try {
+            if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                return attachBiDi(driver, minCheckIntervalMillis);
+            }
+            if (driver instanceof HasDevTools) {
+                return attachDevTools(((HasDevTools) driver).getDevTools(), minCheckIntervalMillis);
+            }
+            logger.debug("{} supports neither BiDi nor DevTools; waits keep polling", driver.getClass().getSimpleName());
+        } catch (RuntimeException e) {
+            logger.warn("Could not subscribe to page events, waits keep polling: {}", e.getMessage());
+        }
+        return UNSUPPORTED;
+    }
+
+    private static PageChangeSignal attachBiDi(WebDriver driver, long minCheckIntervalMillis) {
+        PageChangeSignal signal = new PageChangeSignal("BiDi", minCheckIntervalMillis);
+        Script script = new Script(driver);
+        script.onMessage(message -> {
+            if (CHANNEL.equals(message.getChannel())) {
+                signal.signal();
+            }
+        });
+        script.addPreloadScript(OBSERVER_SCRIPT, Collections.singletonList(new ChannelValue(CHANNEL)));
+        List<LocalValue> arguments = Collections.singletonList(new ChannelValue(CHANNEL));
+        script.callFunctionInBrowsingContext(driver.getWindowHandle(), OBSERVER_SCRIPT, false,
+                Optional.of(arguments), Optional.empty(), Optional.empty());
+
+        BrowsingContextInspector inspector = new BrowsingContextInspector(driver);
+        inspector.onNavigationStarted(info -> signal.signal());
+        inspector.onFragmentNavigated(info -> signal.signal());
+        inspector.onDomContentLoaded(info -> signal.signal());
+        inspector.onBrowsingContextLoaded(info -> signal.signal());
+        inspector.onUserPromptOpened(prompt -> signal.signal());
+
+        Network network = new Network(driver);
+        network.onResponseCompleted(response -> signal.signal());
+        network.onFetchError(error -> signal.signal());
+        logger.debug("Subscribed to page events over BiDi");
+        return signal;
+    }
+
+    static PageChangeSignal attachDevTools(DevTools devTools, long minCheckIntervalMillis) {
+        PageChangeSignal signal = new PageChangeSignal("CDP", minCheckIntervalMillis);
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(new Event<Map<String, Object>>("Runtime.bindingCalled", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    if (BINDING.equals(event.get("name"))) {
+                        signal.signal();
+                    }
+                });
+        for (String method : DEVTOOLS_EVENTS) {
+            devTools.addListener(new Event<Map<String, Object>>(method, input -> input.read(Json.MAP_TYPE)),
+                    event -> signal.signal());
+        }
+
+        String source = "(" + OBSERVER_SCRIPT + ")(function (kind) { window." + BINDING + "(kind); });";
+        devTools.send(new Command<Map<String, Object>>("Runtime.addBinding",
+                Collections.singletonMap("name", BINDING), Json.MAP_TYPE));
+        devTools.send(new Command<Map<String, Object>>("Page.enable", Collections.emptyMap(), Json.MAP_TYPE));
+        devTools.send(new Command<Map<String, Object>>("Network.enable", Collections.emptyMap(), Json.MAP_TYPE));
+        devTools.send(new Command<Map<String, Object>>("Page.addScriptToEvaluateOnNewDocument",
+                Collections.singletonMap("source", source), Json.MAP_TYPE));
+        devTools.send(new Command<Map<String, Object>>("Runtime.evaluate",
+                Collections.singletonMap("expression", source), Json.MAP_TYPE));
+        logger.debug("Subscribed to page events over DevTools");
+        return signal;
+    }
+
+    /**
+     * Records that the page may have changed and wakes all waiting threads
+     */
+    public void signal() {
+        events.incrementAndGet();
+        synchronized (monitor) {
+            generation++;
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the number of signals so far
+     * @return generation counter
+     */
+    public long getGeneration() {
+        synchronized (monitor) {
+            return generation;
+        }
+    }
+
+    /**
+     * Waits until a signal newer than the given generation arrives
+     * @param seenGeneration generation the caller has already reacted to
+     * @param timeoutMillis maximum time to wait
+     * @return true if woken by a signal, false if the timeout expired
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public boolean awaitChange(long seenGeneration, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (monitor) {
+            while (generation == seenGeneration) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    timeoutWakeups.incrementAndGet();
+                    return false;
+                }
+                monitor.wait(remaining);
+            }
+        }
+        eventWakeups.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Creates a Sleeper for one wait
+     * FluentWait calls sleep(pollingInterval) after each failed check; this sleeper returns as soon as the
+     * page changes since the previous check, and after the full interval otherwise.
+     * @return sleeper for a FluentWait or WebDriverWait
+     */
+    public Sleeper newSleeper() {
+        long[] seen = {getGeneration()};
+        return duration -> {
+            long start = System.nanoTime();
+            boolean changed = awaitChange(seen[0], duration.toMillis());
+            seen[0] = getGeneration();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (changed && elapsedMillis < minCheckIntervalMillis) {
+                Thread.sleep(minCheckIntervalMillis - elapsedMillis);
+                seen[0] = getGeneration();
+            }
+        };
+    }
+
+    public String getTransport() {
+        return transport;
+    }
+
+    public long getEventCount() {
+        return events.get();
+    }
+
+    public long getEventWakeupCount() {
+        return eventWakeups.get();
+    }
+
+    public long getTimeoutWakeupCount() {
+        return timeoutWakeups.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageChangeSignal{transport=%s, events=%d, eventWakeups=%d, timeoutWakeups=%d}",
+                transport, getEventCount(), getEventWakeupCount(), getTimeoutWakeupCount());
+    }
+}
@@ -0,0 +1,388 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * SessionReaper periodically pings idle WebDriver sessions and marks the ones whose
+ * browser or driver has died, so the owning thread can discard them immediately instead
+ * of waiting out HTTP client timeouts on its next command.
+ * On Linux it can also kill browser processes left behind when a driver started by this JVM dies.
+ */
+public class SessionReaper {
+
+    private static final Logger logger = LogManager.getLogger(SessionReaper.class);
+    private static final Path PROC = Paths.get("/proc");
+    // Indexes into readStat(): pid, then the stat fields of proc(5) from state (field 3) on
+    private static final int PPID = 2;
+    private static final int START_TIME = 20;
+    private static final List<String> DRIVER_NAMES = Arrays.asList("chromedriver", "geckodriver", "msedgedriver");
+
+    private final DriverRegistry registry;
+    private final Duration pingTimeout;
+    private final int maxMissedPings;
+    private final boolean killOrphans;
+    private final Consumer<WebDriver> onDeadSession;
+
+    private final Set<WebDriver> deadSessions = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<WebDriver, Integer> missedPings = new ConcurrentHashMap<>();
+    private final AtomicInteger reapedCount = new AtomicInteger();
+    private final AtomicInteger orphansKilled = new AtomicInteger();
+    private final ConcurrentMap<Long, OwnedBrowser> ownedBrowsers = new ConcurrentHashMap<>();
+    private final ExecutorService pingExecutor;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a reaper for the sessions in a registry
+     * @param registry registry of live sessions
+     * @param pingTimeout maximum time to wait for a ping
+     * @param maxMissedPings consecutive ping timeouts after which a session counts as hung
+     * @param killOrphans if true, kill browsers of this JVM's drivers that outlive their driver
+     * @param onDeadSession called on the reaper thread for each session found dead
+     */
+    public SessionReaper(DriverRegistry registry, Duration pingTimeout, int maxMissedPings, boolean killOrphans,
+                         Consumer<WebDriver> onDeadSession) {
+        this.registry = registry;
+        this.pingTimeout = pingTimeout;
+        this.maxMissedPings = Math.max(1, maxMissedPings);
+        this.killOrphans = killOrphans;
+        this.onDeadSession = onDeadSession;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.pingExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "session-ping-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts reaping in the background
+     * @param interval time between passes; sessions accessed more recently than this are not pinged
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reap(intervalMillis);
+                killOrphanedBrowsers();
+            } catch (RuntimeException e) {
+                logger.warn("Session reaper pass failed: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Session reaper started, checking idle sessions every {} ms", intervalMillis);
+    }
+
+    /**
+     * Stops the background reaper
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        pingExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs one pass over the registered sessions
+     * @param minIdleMillis only sessions not accessed for at least this long are pinged
+     * @return number of sessions found dead in this pass
+     */
+    public int reap(long minIdleMillis) {
+        int dead = 0;
+        for (DriverRegistry.RegisteredDriver entry : registry.getEntries()) {
+            if (entry.getIdleMillis() < minIdleMillis) {
+                continue;
+            }
+            WebDriver driver = entry.getDriver();
+            if (isAlive(driver, entry)) {
+                continue;
+            }
+
+            dead++;
+            missedPings.remove(driver);
+            registry.unregister(driver);
+            if (entry.getOwnerThreadId() >= 0) {
+                // Idle pooled sessions have no owning thread to pick up the mark
+                deadSessions.add(driver);
+            }
+            reapedCount.incrementAndGet();
+            logger.warn("Reaped dead {}", entry);
+            try {
+                onDeadSession.accept(driver);
+            } catch (RuntimeException e) {
+                logger.debug("Dead session handler failed: {}", e.getMessage());
+            }
+        }
+        return dead;
+    }
+
+    private boolean isAlive(WebDriver driver, DriverRegistry.RegisteredDriver entry) {
+        Future<?> ping = pingExecutor.submit(() -> ping(driver));
+        try {
+            ping.get(pingTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            missedPings.remove(driver);
+            return true;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.debug("Ping failed for {}: {}", entry, cause.getMessage());
+            return false;
+        } catch (TimeoutException e) {
+            ping.cancel(true);
+            // A slow command on the owning thread can delay the ping; only give up after repeated misses
+            int missed = missedPings.merge(driver, 1, Integer::sum);
+            logger.debug("Ping timed out for {} ({} of {})", entry, missed, maxMissedPings);
+            return missed < maxMissedPings;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    /**
+     * Sends a cheap command to the session
+     * @param driver WebDriver to ping
+     */
+    protected void ping(WebDriver driver) {
+        driver.getWindowHandle();
+    }
+
+    /**
+     * Checks if a session was found dead and clears the mark
+     * @param driver WebDriver to check
+     * @return true if the session was reaped since the last check
+     */
+    public boolean consumeDead(WebDriver driver) {
+        return driver != null && deadSessions.remove(driver);
+    }
+
+    /**
+     * Records the automation browsers whose driver process was started by this JVM
+     * Only these browsers are ever killed, so browsers of other JVMs, parallel jobs or other
+     * automation tools on the same machine are left alone. The link is only visible while the
+     * driver runs, so this is called after each new session and on every reaper pass.
+     */
+    public void trackOwnedBrowsers() {
+        if (killOrphans && Files.isDirectory(PROC)) {
+            ownedBrowsers.putAll(findOwnedBrowsers(PROC));
+        }
+    }
+
+    /**
+     * Kills browser processes started by this JVM's drivers whose driver process is gone
+     * @return number of processes killed
+     */
+    public int killOrphanedBrowsers() {
+        if (!killOrphans || !Files.isDirectory(PROC)) {
+            return 0;
+        }
+        ownedBrowsers.putAll(findOwnedBrowsers(PROC));
+        int killed = 0;
+        for (long pid : findOrphanedBrowsers(PROC, ownedBrowsers)) {
+            Optional<ProcessHandle> process = ProcessHandle.of(pid);
+            if (process.isPresent()) {
+                process.get().descendants().forEach(ProcessHandle::destroyForcibly);
+                if (process.get().destroyForcibly()) {
+                    killed++;
+                    logger.warn("Killed orphaned browser process {}", pid);
+                }
+            }
+        }
+        orphansKilled.addAndGet(killed);
+        return killed;
+    }
+
+    /**
+     * Finds top-level automation browser processes whose parent is a driver started by this JVM
+     * @param procRoot proc filesystem root
+     * @return owned browsers by process id
+     */
+    static Map<Long, OwnedBrowser> findOwnedBrowsers(Path procRoot) {
+        String[] self = readStat(procRoot.resolve("self"));
+        if (self == null) {
+            return Collections.emptyMap();
+        }
+        long ownPid = Long.parseLong(self[0]);
+
+        Set<Long> drivers = new HashSet<>();
+        Map<Long, String[]> browsers = new HashMap<>();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(procRoot, "[0-9]*")) {
+            for (Path processDir : processes) {
+                List<String> cmdline = readCmdline(processDir);
+                boolean driver = isDriverProcess(cmdline);
+                if (!driver && !isAutomationBrowser(cmdline)) {
+                    continue;
+                }
+                String[] stat = readStat(processDir);
+                if (stat == null) {
+                    continue;
+                }
+                long pid = Long.parseLong(stat[0]);
+                if (driver && Long.parseLong(stat[PPID]) == ownPid) {
+                    drivers.add(pid);
+                } else if (!driver) {
+                    browsers.put(pid, stat);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not scan {}: {}", procRoot, e.getMessage());
+        }
+
+        Map<Long, OwnedBrowser> owned = new HashMap<>();
+        browsers.forEach((pid, stat) -> {
+            long parentPid = Long.parseLong(stat[PPID]);
+            if (drivers.contains(parentPid)) {
+                owned.put(pid, new OwnedBrowser(parentPid, stat[START_TIME]));
+            }
+        });
+        return owned;
+    }
+
+    /**
+     * Finds owned browsers that are still running but are no longer children of their driver
+     * A browser is reparented when its driver exits. Browsers that have exited, including pids
+     * since reused by another process, are removed from the map.
+     * @param procRoot proc filesystem root
+     * @param owned browsers recorded by findOwnedBrowsers; orphans found are removed too
+     * @return orphaned browser process ids
+     */
+    static List<Long> findOrphanedBrowsers(Path procRoot, Map<Long, OwnedBrowser> owned) {
+        List<Long> orphans = new ArrayList<>();
+        Iterator<Map.Entry<Long, OwnedBrowser>> iterator = owned.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, OwnedBrowser> entry = iterator.next();
+            String[] stat = readStat(procRoot.resolve(String.valueOf(entry.getKey())));
+            if (stat == null || !entry.getValue().startTime.equals(stat[START_TIME])) {
+                iterator.remove();
+            } else if (Long.parseLong(stat[PPID]) != entry.getValue().driverPid) {
+                orphans.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        return orphans;
+    }
+
+    private static boolean isAutomationBrowser(List<String> cmdline) {
+        if (cmdline.isEmpty()) {
+            return false;
+        }
+        String executable = baseName(cmdline.get(0));
+        if (executable.contains("chrome") || executable.contains("chromium") || executable.contains("msedge")) {
+            // Renderer, GPU and utility subprocesses carry --type and die with the main process
+            return cmdline.contains("--enable-automation")
+                    && cmdline.stream().noneMatch(arg -> arg.startsWith("--type="));
+        }
+        if (executable.contains("firefox")) {
+            return (cmdline.contains("-marionette") || cmdline.contains("--marionette"))
+                    && !cmdline.contains("-contentproc");
+        }
+        return false;
+    }
+
+    private static boolean isDriverProcess(List<String> cmdline) {
+        return !cmdline.isEmpty() && DRIVER_NAMES.contains(baseName(cmdline.get(0)));
+    }
+
+    private static String baseName(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash >= 0 ? path.substring(slash + 1) : path;
+    }
+
+    private static List<String> readCmdline(Path processDir) {
+        try {
+            String raw = new String(Files.readAllBytes(processDir.resolve("cmdline")), StandardCharsets.UTF_8);
+            if (raw.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return Arrays.asList(raw.split("\0"));
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads /proc/[pid]/stat as pid, state, ppid, ...; comm may contain spaces and is left out
+     */
+    private static String[] readStat(Path processDir) {
+        try {
+            String stat = new String(Files.readAllBytes(processDir.resolve("stat")), StandardCharsets.UTF_8).trim();
+            String pid = stat.substring(0, stat.indexOf(' '));
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            String[] result = new String[fields.length + 1];
+            result[0] = pid;
+            System.arraycopy(fields, 0, result, 1, fields.length);
+            return result.length > START_TIME ? result : null;
+        } catch (IOException | RuntimeException e) {
+            // Process exited while scanning
+            return null;
+        }
+    }
+
+    /**
+     * A browser process recorded while its driver was its parent
+     */
+    static final class OwnedBrowser {
+        private final long driverPid;
+        // Start time in clock ticks; tells the browser apart from a later process reusing its pid
+        private final String startTime;
+
+        OwnedBrowser(long driverPid, String startTime) {
+            this.driverPid = driverPid;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Gets the number of sessions found dead
+     * @return reaped session count
+     */
+    public int getReapedCount() {
+        return reapedCount.get();
+    }
+
+    /**
+     * Gets the number of orphaned browser processes killed
+     * @return killed process count
+     */
+    public int getOrphansKilled() {
+        return orphansKilled.get();
+    }
+}
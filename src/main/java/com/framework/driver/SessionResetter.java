@@ -0,0 +1,146 @@
+package com.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SessionResetter wipes browser state through an existing WebDriver session
+ * so the session can be reused by the next test instead of being quit.
+ * Clears cookies, localStorage, sessionStorage, IndexedDB, Cache Storage,
+ * service worker registrations and closes all extra windows.
+ * Only Chromium browsers can clear cookies and cache for every origin. On Firefox and Safari
+ * state of origins that are no longer open would leak into the next test, so they are not reset.
+ */
+public final class SessionResetter {
+
+    private static final Logger logger = LogManager.getLogger(SessionResetter.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var tasks = [];" +
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}" +
+            "try {" +
+            "  if (window.indexedDB && indexedDB.databases) {" +
+            "    tasks.push(indexedDB.databases().then(function (dbs) {" +
+            "      return Promise.all(dbs.map(function (db) {" +
+            "        return new Promise(function (resolve) {" +
+            "          var req = indexedDB.deleteDatabase(db.name);" +
+            "          req.onsuccess = req.onerror = req.onblocked = function () { resolve(); };" +
+            "        });" +
+            "      }));" +
+            "    }));" +
+            "  }" +
+            "} catch (e) {}" +
+            "try {" +
+            "  if (window.caches) {" +
+            "    tasks.push(caches.keys().then(function (keys) {" +
+            "      return Promise.all(keys.map(function (key) { return caches.delete(key); }));" +
+            "    }));" +
+            "  }" +
+            "} catch (e) {}" +
+            "try {" +
+            "  if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations) {" +
+            "    tasks.push(navigator.serviceWorker.getRegistrations().then(function (regs) {" +
+            "      return Promise.all(regs.map(function (reg) { return reg.unregister(); }));" +
+            "    }));" +
+            "  }" +
+            "} catch (e) {}" +
+            "Promise.all(tasks.map(function (t) { return t.catch(function () {}); }))" +
+            "  .then(function () { done(true); }, function () { done(true); });";
+
+    private SessionResetter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks if sessions of a browser type can be reset for reuse
+     * @param browserType browser type
+     * @return true for Chromium browsers
+     */
+    public static boolean canReset(BrowserType browserType) {
+        return browserType.supportsCdp();
+    }
+
+    /**
+     * Checks if a session can be reset for reuse
+     * @param driver WebDriver session, possibly wrapped
+     * @return true if the session is driven by a Chromium driver
+     */
+    public static boolean canReset(WebDriver driver) {
+        return unwrapChromium(driver) != null;
+    }
+
+    /**
+     * Resets the session to a clean state
+     * @param driver WebDriver session to reset
+     * @return true if the session was reset and can be reused, false if it should be quit
+     */
+    public static boolean resetSession(WebDriver driver) {
+        ChromiumDriver chromiumDriver = unwrapChromium(driver);
+        if (chromiumDriver == null) {
+            logger.debug("Browser-wide state cannot be cleared on {}, session will not be reused",
+                    driver.getClass().getSimpleName());
+            return false;
+        }
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            String keep = handles.get(0);
+
+            // Storage is origin-scoped, so clear it in every window before closing extras
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                clearOriginStorage(driver);
+                if (!handle.equals(keep)) {
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+
+            driver.manage().deleteAllCookies();
+            clearBrowserWideState(chromiumDriver);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.debug("Failed to reset WebDriver session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clears storage of the origin loaded in the current window
+     */
+    private static void clearOriginStorage(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+    }
+
+    /**
+     * Clears cookies and cache for all origins
+     * deleteAllCookies() only covers the current domain; Chromium exposes a browser-wide reset via CDP
+     */
+    private static void clearBrowserWideState(ChromiumDriver chromiumDriver) {
+        chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        chromiumDriver.executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+    }
+
+    private static ChromiumDriver unwrapChromium(WebDriver driver) {
+        WebDriver current = driver;
+        while (!(current instanceof ChromiumDriver) && current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current instanceof ChromiumDriver ? (ChromiumDriver) current : null;
+    }
+}
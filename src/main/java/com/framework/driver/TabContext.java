@@ -0,0 +1,97 @@
+package com.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * TabContext is one test's tab in a browser shared through a BrowserTabHost.
+ * Its WebDriver behaves like a dedicated session: every command switches the shared
+ * browser to this tab first, and quit() or close() on the main window only closes the tab.
+ */
+public class TabContext {
+
+    private final BrowserTabHost host;
+    private final String mainHandle;
+    private final String userContext;
+    private volatile String currentHandle;
+    private volatile boolean closed;
+    private WebDriver driver;
+
+    TabContext(BrowserTabHost host, String mainHandle, String userContext) {
+        this.host = host;
+        this.mainHandle = mainHandle;
+        this.userContext = userContext;
+        this.currentHandle = mainHandle;
+    }
+
+    void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Gets the WebDriver view of this tab
+     * @return WebDriver bound to this tab
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Gets the window handle the tab was opened with
+     * @return window handle
+     */
+    public String getMainHandle() {
+        return mainHandle;
+    }
+
+    /**
+     * Gets the window this tab's commands currently run in
+     * Differs from the main handle after switching to a popup.
+     * @return window handle
+     */
+    public String getCurrentHandle() {
+        return currentHandle;
+    }
+
+    void setCurrentHandle(String currentHandle) {
+        this.currentHandle = currentHandle;
+    }
+
+    /**
+     * Checks if the tab has its own cookie jar
+     * @return true if the tab runs in a separate BiDi user context
+     */
+    public boolean isIsolated() {
+        return userContext != null;
+    }
+
+    String getUserContext() {
+        return userContext;
+    }
+
+    public BrowserTabHost getHost() {
+        return host;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the tab; the shared browser keeps running
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            host.closeTab(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TabContext{" +
+                "mainHandle='" + mainHandle + '\'' +
+                ", isolated=" + isIsolated() +
+                ", closed=" + closed +
+                '}';
+    }
+}
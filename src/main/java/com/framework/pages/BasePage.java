@@ -4,36 +4,46 @@ import com.framework.config.ConfigManager;
 import com.framework.driver.DriverManager;
 import com.framework.exceptions.ElementNotFoundException;
 import com.framework.exceptions.FrameworkException;
+import com.framework.reporting.ScreenshotService;
+import com.framework.utils.BulkExtractor;
+import com.framework.utils.ElementCache;
+import com.framework.utils.ElementDescription;
+import com.framework.utils.ElementLookup;
+import com.framework.utils.PageReadiness;
+import com.framework.utils.PollingStrategy;
+import com.framework.utils.TableData;
 import com.framework.utils.WaitUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * BasePage abstract class provides common page operations and utilities
  * for all page object classes in the framework.
- * Implements PageFactory initialization and common element interactions.
+ * Wires @FindBy element fields through PageElements and implements common element interactions.
  */
 public abstract class BasePage {
     
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
     protected WebDriver driver;
     protected WaitUtils waitUtils;
+    protected ElementLookup elementLookup;
+    protected ElementCache elementCache;
     protected Actions actions;
     protected ConfigManager configManager;
+    protected PageReadiness pageReadiness;
+    private PageLoadStrategy pageLoadStrategy;
     
     private static final int DEFAULT_TIMEOUT = 10;
     private static final String SCREENSHOT_DIR = "screenshots";
@@ -45,11 +55,14 @@ public abstract class BasePage {
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver);
+        this.elementLookup = new ElementLookup(driver);
         this.actions = new Actions(driver);
         this.configManager = ConfigManager.getInstance();
+        this.elementCache = new ElementCache(configManager.getTestConfig().isElementCacheEnabled());
+        initPageReadiness();
         
-        // Initialize page elements using PageFactory
-        PageFactory.initElements(driver, this);
+        // Initialize page elements from the cached @FindBy metadata of the page class
+        PageElements.init(this);
         
         logger.debug("Initialized {} page", this.getClass().getSimpleName());
     }
@@ -62,15 +75,34 @@ public abstract class BasePage {
     public BasePage(WebDriver driver, int timeout) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver, timeout);
+        this.elementLookup = new ElementLookup(driver);
         this.actions = new Actions(driver);
         this.configManager = ConfigManager.getInstance();
+        this.elementCache = new ElementCache(configManager.getTestConfig().isElementCacheEnabled());
+        initPageReadiness();
         
-        PageFactory.initElements(driver, this);
+        PageElements.init(this);
         
         logger.debug("Initialized {} page with custom timeout: {}s", 
                     this.getClass().getSimpleName(), timeout);
     }
 
+    private void initPageReadiness() {
+        this.pageLoadStrategy = DriverManager.getInstance().getPageLoadStrategy();
+        this.pageReadiness = new PageReadiness(driver, configManager.getTestConfig().getExplicitTimeout(),
+                configManager.getTestConfig().isPageReadinessNetworkIdle(),
+                configManager.getTestConfig().getPageReadinessNetworkIdleMillis());
+    }
+    
+    /**
+     * Gets the elements that must be interactive before the page counts as loaded
+     * Used with the eager and none page load strategies; override in page objects.
+     * @return critical element locators (empty by default)
+     */
+    protected By[] getCriticalLocators() {
+        return new By[0];
+    }
+
     // ==================== ELEMENT INTERACTION METHODS ====================
     
     /**
@@ -78,15 +110,16 @@ public abstract class BasePage {
      * @param element WebElement to click
      */
     public void clickElement(WebElement element) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeClickable(element);
+            waitUntilClickable(description);
             highlightElement(element);
             element.click();
-            logger.info("Clicked element: {}", getElementDescription(element));
+            logger.info("Clicked element: {}", description);
         } catch (Exception e) {
-            logger.error("Failed to click element: {}", getElementDescription(element), e);
+            logger.error("Failed to click element: {}", description, e);
             captureScreenshot("click_failure");
-            throw new FrameworkException("Failed to click element: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to click element: " + description, e);
         }
     }
     
@@ -96,11 +129,13 @@ public abstract class BasePage {
      */
     public void clickElement(By locator) {
         try {
-            WebElement element = waitUtils.waitForElementClickable(locator);
+            WebElement element = elementCache.resolve(locator,
+                    cached -> cached.isDisplayed() && cached.isEnabled(), waitUtils::waitForElementClickable);
             highlightElement(element);
             element.click();
             logger.info("Clicked element using locator: {}", locator);
         } catch (Exception e) {
+            invalidateIfStale(e);
             logger.error("Failed to click element using locator: {}", locator, e);
             captureScreenshot("click_failure");
             throw new ElementNotFoundException(locator, e);
@@ -113,16 +148,17 @@ public abstract class BasePage {
      * @param text text to type
      */
     public void typeText(WebElement element, String text) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             highlightElement(element);
             element.clear();
             element.sendKeys(text);
-            logger.info("Typed text '{}' into element: {}", text, getElementDescription(element));
+            logger.info("Typed text '{}' into element: {}", text, description);
         } catch (Exception e) {
-            logger.error("Failed to type text '{}' into element: {}", text, getElementDescription(element), e);
+            logger.error("Failed to type text '{}' into element: {}", text, description, e);
             captureScreenshot("type_failure");
-            throw new FrameworkException("Failed to type text into element: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to type text into element: " + description, e);
         }
     }
     
@@ -133,12 +169,13 @@ public abstract class BasePage {
      */
     public void typeText(By locator, String text) {
         try {
-            WebElement element = waitUtils.waitForElementVisible(locator);
+            WebElement element = elementCache.resolve(locator, WebElement::isDisplayed, waitUtils::waitForElementVisible);
             highlightElement(element);
             element.clear();
             element.sendKeys(text);
             logger.info("Typed text '{}' into element using locator: {}", text, locator);
         } catch (Exception e) {
+            invalidateIfStale(e);
             logger.error("Failed to type text '{}' into element using locator: {}", text, locator, e);
             captureScreenshot("type_failure");
             throw new ElementNotFoundException(locator, e);
@@ -151,14 +188,15 @@ public abstract class BasePage {
      * @return element text
      */
     public String getText(WebElement element) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             String text = element.getText();
-            logger.debug("Retrieved text '{}' from element: {}", text, getElementDescription(element));
+            logger.debug("Retrieved text '{}' from element: {}", text, description);
             return text;
         } catch (Exception e) {
-            logger.error("Failed to get text from element: {}", getElementDescription(element), e);
-            throw new FrameworkException("Failed to get text from element: " + getElementDescription(element), e);
+            logger.error("Failed to get text from element: {}", description, e);
+            throw new FrameworkException("Failed to get text from element: " + description, e);
         }
     }
     
@@ -169,11 +207,12 @@ public abstract class BasePage {
      */
     public String getText(By locator) {
         try {
-            WebElement element = waitUtils.waitForElementVisible(locator);
+            WebElement element = elementCache.resolve(locator, WebElement::isDisplayed, waitUtils::waitForElementVisible);
             String text = element.getText();
             logger.debug("Retrieved text '{}' from element using locator: {}", text, locator);
             return text;
         } catch (Exception e) {
+            invalidateIfStale(e);
             logger.error("Failed to get text from element using locator: {}", locator, e);
             throw new ElementNotFoundException(locator, e);
         }
@@ -186,16 +225,17 @@ public abstract class BasePage {
      * @return attribute value
      */
     public String getAttribute(WebElement element, String attributeName) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             String value = element.getAttribute(attributeName);
             logger.debug("Retrieved attribute '{}' value '{}' from element: {}", 
-                        attributeName, value, getElementDescription(element));
+                        attributeName, value, description);
             return value;
         } catch (Exception e) {
             logger.error("Failed to get attribute '{}' from element: {}", 
-                        attributeName, getElementDescription(element), e);
-            throw new FrameworkException("Failed to get attribute from element: " + getElementDescription(element), e);
+                        attributeName, description, e);
+            throw new FrameworkException("Failed to get attribute from element: " + description, e);
         }
     }
     
@@ -207,12 +247,13 @@ public abstract class BasePage {
      */
     public String getAttribute(By locator, String attributeName) {
         try {
-            WebElement element = waitUtils.waitForElementVisible(locator);
+            WebElement element = elementCache.resolve(locator, WebElement::isDisplayed, waitUtils::waitForElementVisible);
             String value = element.getAttribute(attributeName);
             logger.debug("Retrieved attribute '{}' value '{}' from element using locator: {}", 
                         attributeName, value, locator);
             return value;
         } catch (Exception e) {
+            invalidateIfStale(e);
             logger.error("Failed to get attribute '{}' from element using locator: {}", 
                         attributeName, locator, e);
             throw new ElementNotFoundException(locator, e);
@@ -227,12 +268,13 @@ public abstract class BasePage {
      * @return true if element is displayed
      */
     public boolean isElementDisplayed(WebElement element) {
+        ElementDescription description = describe(element);
         try {
             boolean isDisplayed = element.isDisplayed();
-            logger.debug("Element display status: {} for element: {}", isDisplayed, getElementDescription(element));
+            logger.debug("Element display status: {} for element: {}", isDisplayed, description);
             return isDisplayed;
         } catch (Exception e) {
-            logger.debug("Element not displayed or not found: {}", getElementDescription(element));
+            logger.debug("Element not displayed or not found: {}", description);
             return false;
         }
     }
@@ -244,7 +286,11 @@ public abstract class BasePage {
      */
     public boolean isElementDisplayed(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = elementLookup.probe(locator);
+            if (element == null) {
+                logger.debug("Element not found using locator: {}", locator);
+                return false;
+            }
             boolean isDisplayed = element.isDisplayed();
             logger.debug("Element display status: {} for locator: {}", isDisplayed, locator);
             return isDisplayed;
@@ -260,12 +306,13 @@ public abstract class BasePage {
      * @return true if element is enabled
      */
     public boolean isElementEnabled(WebElement element) {
+        ElementDescription description = describe(element);
         try {
             boolean isEnabled = element.isEnabled();
-            logger.debug("Element enabled status: {} for element: {}", isEnabled, getElementDescription(element));
+            logger.debug("Element enabled status: {} for element: {}", isEnabled, description);
             return isEnabled;
         } catch (Exception e) {
-            logger.debug("Element not enabled or not found: {}", getElementDescription(element));
+            logger.debug("Element not enabled or not found: {}", description);
             return false;
         }
     }
@@ -277,7 +324,11 @@ public abstract class BasePage {
      */
     public boolean isElementEnabled(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = elementLookup.probe(locator);
+            if (element == null) {
+                logger.debug("Element not found using locator: {}", locator);
+                return false;
+            }
             boolean isEnabled = element.isEnabled();
             logger.debug("Element enabled status: {} for locator: {}", isEnabled, locator);
             return isEnabled;
@@ -293,12 +344,13 @@ public abstract class BasePage {
      * @return true if element is selected
      */
     public boolean isElementSelected(WebElement element) {
+        ElementDescription description = describe(element);
         try {
             boolean isSelected = element.isSelected();
-            logger.debug("Element selected status: {} for element: {}", isSelected, getElementDescription(element));
+            logger.debug("Element selected status: {} for element: {}", isSelected, description);
             return isSelected;
         } catch (Exception e) {
-            logger.debug("Element not selected or not found: {}", getElementDescription(element));
+            logger.debug("Element not selected or not found: {}", description);
             return false;
         }
     }
@@ -311,15 +363,7 @@ public abstract class BasePage {
      * @return WebElement when visible
      */
     public WebElement waitForElementToBeVisible(WebElement element) {
-        try {
-            // Convert WebElement to By locator for wait utility
-            By locator = getLocatorFromElement(element);
-            return waitUtils.waitForElementVisible(locator);
-        } catch (Exception e) {
-            logger.error("Element not visible within timeout: {}", getElementDescription(element));
-            By locator = getLocatorFromElement(element);
-            throw new ElementNotFoundException(locator, e);
-        }
+        return waitUntilVisible(describe(element));
     }
     
     /**
@@ -328,12 +372,33 @@ public abstract class BasePage {
      * @return WebElement when clickable
      */
     public WebElement waitForElementToBeClickable(WebElement element) {
+        return waitUntilClickable(describe(element));
+    }
+    
+    private WebElement waitUntilVisible(ElementDescription description) {
+        // The element is waited for by its @FindBy locator, or by a locator derived from it
+        By locator = description.toLocator();
         try {
-            By locator = getLocatorFromElement(element);
+            if (description.getDeclaredLocator() != null) {
+                return elementCache.resolve(locator, WebElement::isDisplayed, waitUtils::waitForElementVisible);
+            }
+            return waitUtils.waitForElementVisible(locator);
+        } catch (Exception e) {
+            logger.error("Element not visible within timeout: {}", description);
+            throw new ElementNotFoundException(locator, e);
+        }
+    }
+    
+    private WebElement waitUntilClickable(ElementDescription description) {
+        By locator = description.toLocator();
+        try {
+            if (description.getDeclaredLocator() != null) {
+                return elementCache.resolve(locator, cached -> cached.isDisplayed() && cached.isEnabled(),
+                        waitUtils::waitForElementClickable);
+            }
             return waitUtils.waitForElementClickable(locator);
         } catch (Exception e) {
-            logger.error("Element not clickable within timeout: {}", getElementDescription(element));
-            By locator = getLocatorFromElement(element);
+            logger.error("Element not clickable within timeout: {}", description);
             throw new ElementNotFoundException(locator, e);
         }
     }
@@ -369,15 +434,16 @@ public abstract class BasePage {
      * @param text visible text to select
      */
     public void selectByVisibleText(WebElement element, String text) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             Select select = new Select(element);
             select.selectByVisibleText(text);
-            logger.info("Selected option '{}' from dropdown: {}", text, getElementDescription(element));
+            logger.info("Selected option '{}' from dropdown: {}", text, description);
         } catch (Exception e) {
-            logger.error("Failed to select option '{}' from dropdown: {}", text, getElementDescription(element), e);
+            logger.error("Failed to select option '{}' from dropdown: {}", text, description, e);
             captureScreenshot("select_failure");
-            throw new FrameworkException("Failed to select option from dropdown: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to select option from dropdown: " + description, e);
         }
     }
     
@@ -387,16 +453,17 @@ public abstract class BasePage {
      * @param value value to select
      */
     public void selectByValue(WebElement element, String value) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             Select select = new Select(element);
             select.selectByValue(value);
-            logger.info("Selected option with value '{}' from dropdown: {}", value, getElementDescription(element));
+            logger.info("Selected option with value '{}' from dropdown: {}", value, description);
         } catch (Exception e) {
             logger.error("Failed to select option with value '{}' from dropdown: {}", 
-                        value, getElementDescription(element), e);
+                        value, description, e);
             captureScreenshot("select_failure");
-            throw new FrameworkException("Failed to select option from dropdown: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to select option from dropdown: " + description, e);
         }
     }
     
@@ -406,16 +473,17 @@ public abstract class BasePage {
      * @param index index to select
      */
     public void selectByIndex(WebElement element, int index) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             Select select = new Select(element);
             select.selectByIndex(index);
-            logger.info("Selected option at index '{}' from dropdown: {}", index, getElementDescription(element));
+            logger.info("Selected option at index '{}' from dropdown: {}", index, description);
         } catch (Exception e) {
             logger.error("Failed to select option at index '{}' from dropdown: {}", 
-                        index, getElementDescription(element), e);
+                        index, description, e);
             captureScreenshot("select_failure");
-            throw new FrameworkException("Failed to select option from dropdown: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to select option from dropdown: " + description, e);
         }
     }
     
@@ -426,15 +494,16 @@ public abstract class BasePage {
      * @param element WebElement to double click
      */
     public void doubleClickElement(WebElement element) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeClickable(element);
+            waitUntilClickable(description);
             highlightElement(element);
             actions.doubleClick(element).perform();
-            logger.info("Double clicked element: {}", getElementDescription(element));
+            logger.info("Double clicked element: {}", description);
         } catch (Exception e) {
-            logger.error("Failed to double click element: {}", getElementDescription(element), e);
+            logger.error("Failed to double click element: {}", description, e);
             captureScreenshot("double_click_failure");
-            throw new FrameworkException("Failed to double click element: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to double click element: " + description, e);
         }
     }
     
@@ -443,15 +512,16 @@ public abstract class BasePage {
      * @param element WebElement to right click
      */
     public void rightClickElement(WebElement element) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeClickable(element);
+            waitUntilClickable(description);
             highlightElement(element);
             actions.contextClick(element).perform();
-            logger.info("Right clicked element: {}", getElementDescription(element));
+            logger.info("Right clicked element: {}", description);
         } catch (Exception e) {
-            logger.error("Failed to right click element: {}", getElementDescription(element), e);
+            logger.error("Failed to right click element: {}", description, e);
             captureScreenshot("right_click_failure");
-            throw new FrameworkException("Failed to right click element: " + getElementDescription(element), e);
+            throw new FrameworkException("Failed to right click element: " + description, e);
         }
     }
     
@@ -460,13 +530,14 @@ public abstract class BasePage {
      * @param element WebElement to hover over
      */
     public void hoverOverElement(WebElement element) {
+        ElementDescription description = describe(element);
         try {
-            waitForElementToBeVisible(element);
+            waitUntilVisible(description);
             actions.moveToElement(element).perform();
-            logger.info("Hovered over element: {}", getElementDescription(element));
+            logger.info("Hovered over element: {}", description);
         } catch (Exception e) {
-            logger.error("Failed to hover over element: {}", getElementDescription(element), e);
-            throw new FrameworkException("Failed to hover over element: " + getElementDescription(element), e);
+            logger.error("Failed to hover over element: {}", description, e);
+            throw new FrameworkException("Failed to hover over element: " + description, e);
         }
     }
     
@@ -476,15 +547,17 @@ public abstract class BasePage {
      * @param targetElement target WebElement
      */
     public void dragAndDrop(WebElement sourceElement, WebElement targetElement) {
+        ElementDescription sourceDescription = describe(sourceElement);
+        ElementDescription targetDescription = describe(targetElement);
         try {
-            waitForElementToBeVisible(sourceElement);
-            waitForElementToBeVisible(targetElement);
+            waitUntilVisible(sourceDescription);
+            waitUntilVisible(targetDescription);
             actions.dragAndDrop(sourceElement, targetElement).perform();
             logger.info("Dragged element {} to {}", 
-                       getElementDescription(sourceElement), getElementDescription(targetElement));
+                       sourceDescription, targetDescription);
         } catch (Exception e) {
             logger.error("Failed to drag and drop from {} to {}", 
-                        getElementDescription(sourceElement), getElementDescription(targetElement), e);
+                        sourceDescription, targetDescription, e);
             captureScreenshot("drag_drop_failure");
             throw new FrameworkException("Failed to perform drag and drop operation", e);
         }
@@ -503,39 +576,34 @@ public abstract class BasePage {
     /**
      * Captures screenshot with custom filename
      * @param fileName custom filename (without extension)
-     * @return screenshot file path
+     * @return screenshot file path, null if the screenshot was dropped or could not be written
      */
     public String captureScreenshot(String fileName) {
         try {
-            // Create screenshots directory if it doesn't exist
             String screenshotPath = configManager.getTestConfig().getScreenshotPath();
             if (screenshotPath == null || screenshotPath.isEmpty()) {
                 screenshotPath = SCREENSHOT_DIR;
             }
             
-            Path screenshotDir = Paths.get(screenshotPath);
-            if (!Files.exists(screenshotDir)) {
-                Files.createDirectories(screenshotDir);
-            }
-            
             // Generate timestamp for unique filename
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
             String fullFileName = String.format("%s_%s.png", fileName, timestamp);
             
-            // Take screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            
-            // Save screenshot
-            Path targetPath = screenshotDir.resolve(fullFileName);
-            Files.copy(sourceFile.toPath(), targetPath);
+            // Take screenshot; the directory and file are written in the background
+            Path targetPath = Paths.get(screenshotPath, fullFileName);
+            targetPath = ScreenshotService.getInstance().capture(driver, Paths.get(screenshotPath), fullFileName)
+                    .getNow(targetPath);
+            if (targetPath == null) {
+                logger.warn("Screenshot was not saved: {}", fullFileName);
+                return null;
+            }
             
             String screenshotFilePath = targetPath.toString();
             logger.info("Screenshot captured: {}", screenshotFilePath);
             
             return screenshotFilePath;
             
-        } catch (IOException e) {
+        } catch (WebDriverException e) {
             logger.error("Failed to capture screenshot", e);
             throw new FrameworkException("Failed to capture screenshot", e);
         }
@@ -549,7 +617,7 @@ public abstract class BasePage {
      */
     public void navigateToUrl(String url) {
         try {
-            driver.get(url);
+            navigateAndAwaitReadiness(url, () -> driver.get(url));
             logger.info("Navigated to URL: {}", url);
         } catch (Exception e) {
             logger.error("Failed to navigate to URL: {}", url, e);
@@ -592,7 +660,7 @@ public abstract class BasePage {
      */
     public void refreshPage() {
         try {
-            driver.navigate().refresh();
+            navigateAndAwaitReadiness(null, () -> driver.navigate().refresh());
             logger.info("Page refreshed");
         } catch (Exception e) {
             logger.error("Failed to refresh page", e);
@@ -605,7 +673,7 @@ public abstract class BasePage {
      */
     public void navigateBack() {
         try {
-            driver.navigate().back();
+            navigateAndAwaitReadiness(null, () -> driver.navigate().back());
             logger.info("Navigated back");
         } catch (Exception e) {
             logger.error("Failed to navigate back", e);
@@ -618,7 +686,7 @@ public abstract class BasePage {
      */
     public void navigateForward() {
         try {
-            driver.navigate().forward();
+            navigateAndAwaitReadiness(null, () -> driver.navigate().forward());
             logger.info("Navigated forward");
         } catch (Exception e) {
             logger.error("Failed to navigate forward", e);
@@ -626,6 +694,23 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Runs a navigation and, unless the page load strategy is normal, waits for the new page to be ready
+     * @param targetUrl URL being navigated to, or null for history navigation and refresh
+     * @param navigation navigation command
+     */
+    private void navigateAndAwaitReadiness(String targetUrl, Runnable navigation) {
+        elementCache.invalidate(targetUrl != null ? "navigation to " + targetUrl : "navigation");
+        if (pageLoadStrategy == PageLoadStrategy.NONE) {
+            // The command returns before the new document exists; don't mistake the old one for it
+            pageReadiness.markCurrentDocument();
+        }
+        navigation.run();
+        if (pageLoadStrategy != PageLoadStrategy.NORMAL) {
+            pageReadiness.waitUntilReady(targetUrl, getCriticalLocators());
+        }
+    }
+    
     // ==================== WINDOW/TAB HANDLING METHODS ====================
     
     /**
@@ -637,6 +722,7 @@ public abstract class BasePage {
             Set<String> windowHandles = driver.getWindowHandles();
             for (String handle : windowHandles) {
                 driver.switchTo().window(handle);
+                elementCache.invalidate("window switch");
                 if (driver.getTitle().equals(windowTitle)) {
                     logger.info("Switched to window with title: {}", windowTitle);
                     return;
@@ -657,6 +743,7 @@ public abstract class BasePage {
             String mainWindow = driver.getWindowHandles().iterator().next();
             driver.close();
             driver.switchTo().window(mainWindow);
+            elementCache.invalidate("window switch");
             logger.info("Closed current window and switched to main window");
         } catch (Exception e) {
             logger.error("Failed to close current window and switch to main", e);
@@ -671,12 +758,13 @@ public abstract class BasePage {
      * @param element WebElement to scroll to
      */
     public void scrollToElement(WebElement element) {
+        ElementDescription description = describe(element);
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-            logger.debug("Scrolled to element: {}", getElementDescription(element));
+            logger.debug("Scrolled to element: {}", description);
         } catch (Exception e) {
-            logger.error("Failed to scroll to element: {}", getElementDescription(element), e);
-            throw new FrameworkException("Failed to scroll to element: " + getElementDescription(element), e);
+            logger.error("Failed to scroll to element: {}", description, e);
+            throw new FrameworkException("Failed to scroll to element: " + description, e);
         }
     }
     
@@ -699,59 +787,50 @@ public abstract class BasePage {
     }
     
     /**
-     * Gets element description for logging
+     * Describes an element for logs; nothing is read from the browser unless the description is used
      * @param element WebElement to describe
-     * @return element description string
+     * @return lazy element description
+     */
+    private ElementDescription describe(WebElement element) {
+        return ElementDescription.of(driver, element, PageElements.locatorOf(element));
+    }
+    
+    /**
+     * Resolves a @FindBy element field: from the element cache, else with an explicit wait for presence
+     * @param locator locator of the field
+     * @return element
+     * @throws NoSuchElementException if the element is not present within the timeout, as with PageFactory
      */
-    private String getElementDescription(WebElement element) {
+    WebElement findPageElement(By locator) {
+        return elementCache.resolve(locator, cached -> true, this::waitForPageElement);
+    }
+    
+    private WebElement waitForPageElement(By locator) {
         try {
-            String tagName = element.getTagName();
-            String id = element.getAttribute("id");
-            String className = element.getAttribute("class");
-            String text = element.getText();
-            
-            StringBuilder description = new StringBuilder(tagName);
-            if (id != null && !id.isEmpty()) {
-                description.append("[id='").append(id).append("']");
-            }
-            if (className != null && !className.isEmpty()) {
-                description.append("[class='").append(className).append("']");
-            }
-            if (text != null && !text.isEmpty() && text.length() <= 50) {
-                description.append("[text='").append(text).append("']");
-            }
-            
-            return description.toString();
-        } catch (Exception e) {
-            return "UnknownElement";
+            return waitUtils.waitForElementPresent(locator);
+        } catch (ElementNotFoundException e) {
+            NoSuchElementException notFound = new NoSuchElementException("Cannot locate an element using " + locator);
+            notFound.initCause(e);
+            throw notFound;
         }
     }
     
     /**
-     * Converts WebElement to By locator (simplified approach)
-     * Note: This is a basic implementation. In practice, you might want to store
-     * the original locator when creating elements or use a more sophisticated approach.
-     * @param element WebElement to convert
-     * @return By locator
+     * Resolves a @FindBy list field; lists are found afresh on every call
+     * @param locator locator of the field
+     * @return matching elements
      */
-    private By getLocatorFromElement(WebElement element) {
-        try {
-            String id = element.getAttribute("id");
-            if (id != null && !id.isEmpty()) {
-                return By.id(id);
-            }
-            
-            String className = element.getAttribute("class");
-            if (className != null && !className.isEmpty()) {
-                return By.className(className.split(" ")[0]); // Use first class
-            }
-            
-            String tagName = element.getTagName();
-            return By.tagName(tagName);
-            
-        } catch (Exception e) {
-            // Fallback to tag name
-            return By.tagName("*");
+    List<WebElement> findPageElements(By locator) {
+        return elementLookup.probeAll(locator);
+    }
+    
+    /**
+     * Drops the cached elements if an action failed on an element gone stale
+     * @param e failure of the action
+     */
+    private void invalidateIfStale(Exception e) {
+        if (e instanceof StaleElementReferenceException) {
+            elementCache.invalidate("stale element");
         }
     }
     
@@ -775,10 +854,31 @@ public abstract class BasePage {
     
     /**
      * Waits for page to load completely
+     * With the eager or none page load strategy, waits for page readiness instead
      */
     public void waitForPageToLoad() {
+        waitForPageToLoad(null);
+    }
+    
+    /**
+     * Waits for page to load completely, polling with the given strategy
+     * @param polling polling strategy, or null for the configured one
+     */
+    public void waitForPageToLoad(PollingStrategy polling) {
+        if (pageLoadStrategy != PageLoadStrategy.NORMAL) {
+            pageReadiness.setPollingStrategy(polling);
+            try {
+                if (pageReadiness.waitUntilReady(getCriticalLocators())) {
+                    logger.debug("Page ready");
+                }
+            } finally {
+                pageReadiness.setPollingStrategy(null);
+            }
+            return;
+        }
+        WaitUtils pageWait = polling != null ? waitUtils.withPolling(polling) : waitUtils;
         try {
-            waitUtils.waitForCondition(driver -> 
+            pageWait.waitForCondition(driver -> 
                 ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete"));
             logger.debug("Page loaded completely");
         } catch (Exception e) {
@@ -793,7 +893,7 @@ public abstract class BasePage {
      */
     public List<WebElement> getElements(By locator) {
         try {
-            List<WebElement> elements = driver.findElements(locator);
+            List<WebElement> elements = elementLookup.probeAll(locator);
             logger.debug("Found {} elements using locator: {}", elements.size(), locator);
             return elements;
         } catch (Exception e) {
@@ -810,4 +910,75 @@ public abstract class BasePage {
     public int getElementCount(By locator) {
         return getElements(locator).size();
     }
+    
+    // ==================== BULK EXTRACTION METHODS ====================
+    
+    /**
+     * Gets the text of all elements matching the locator in one script call per chunk
+     * @param locator By locator for elements
+     * @return trimmed rendered text of each element
+     */
+    public List<String> getTexts(By locator) {
+        try {
+            List<String> texts = newBulkExtractor().getTexts(locator);
+            logger.debug("Retrieved {} texts using locator: {}", texts.size(), locator);
+            return texts;
+        } catch (Exception e) {
+            logger.error("Failed to get texts using locator: {}", locator, e);
+            throw new ElementNotFoundException(locator, e);
+        }
+    }
+    
+    /**
+     * Gets attributes of all elements matching the locator in one script call per chunk
+     * @param locator By locator for elements
+     * @param attributeNames names of the attributes
+     * @return one map per element from attribute name to value
+     */
+    public List<Map<String, String>> getAttributes(By locator, String... attributeNames) {
+        try {
+            List<Map<String, String>> values = newBulkExtractor().getAttributes(locator, attributeNames);
+            logger.debug("Retrieved attributes {} of {} elements using locator: {}", 
+                        attributeNames, values.size(), locator);
+            return values;
+        } catch (Exception e) {
+            logger.error("Failed to get attributes using locator: {}", locator, e);
+            throw new ElementNotFoundException(locator, e);
+        }
+    }
+    
+    /**
+     * Extracts the header and cell texts of a table in one script call per chunk of rows
+     * @param tableLocator By locator for the table element
+     * @return table data
+     */
+    public TableData extractTable(By tableLocator) {
+        try {
+            TableData table = newBulkExtractor().extractTable(tableLocator);
+            logger.debug("Extracted {} from table: {}", table, tableLocator);
+            return table;
+        } catch (Exception e) {
+            logger.error("Failed to extract table: {}", tableLocator, e);
+            throw new ElementNotFoundException(tableLocator, e);
+        }
+    }
+    
+    /**
+     * Streams the rows of a large table chunk by chunk without holding the whole table
+     * @param tableLocator By locator for the table element
+     * @param rowConsumer called with the cell texts of each body row
+     * @return header cell texts
+     */
+    public List<String> forEachTableRow(By tableLocator, Consumer<List<String>> rowConsumer) {
+        try {
+            return newBulkExtractor().forEachTableRow(tableLocator, rowConsumer);
+        } catch (Exception e) {
+            logger.error("Failed to stream table: {}", tableLocator, e);
+            throw new ElementNotFoundException(tableLocator, e);
+        }
+    }
+    
+    private BulkExtractor newBulkExtractor() {
+        return new BulkExtractor(driver, configManager.getTestConfig().getExtractionChunkSize());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.framework.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PageElements wires the WebElement fields of page objects, replacing PageFactory.initElements
+ * The fields and locators of a page class are read by reflection once and kept for the life of the
+ * class; constructing a page only sets the fields. Element fields resolve through the page's element
+ * cache, with an explicit wait on a miss, so repeated calls on a field reuse the element found first.
+ * List fields find their elements afresh on every call, as with PageFactory.
+ */
+final class PageElements {
+
+    private static final ClassValue<List<ElementField>> FIELDS = new ClassValue<List<ElementField>>() {
+        @Override
+        protected List<ElementField> computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+    private static final Class<?>[] LIST_INTERFACES = {List.class};
+
+    private PageElements() {
+    }
+
+    /**
+     * Sets the element fields of a page
+     * @param page page object
+     */
+    static void init(BasePage page) {
+        for (ElementField elementField : FIELDS.get(page.getClass())) {
+            Object proxy = elementField.list
+                    ? Proxy.newProxyInstance(page.getClass().getClassLoader(), LIST_INTERFACES,
+                            new ListHandler(page, elementField.locator))
+                    : Proxy.newProxyInstance(page.getClass().getClassLoader(), ELEMENT_INTERFACES,
+                            new ElementHandler(page, elementField.locator));
+            try {
+                elementField.field.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot set page element " + elementField.field, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the declared locator of a page element field value
+     * @param element element, possibly a page element
+     * @return the field's locator, or null if the element was not set by PageElements
+     */
+    static By locatorOf(WebElement element) {
+        if (element != null && Proxy.isProxyClass(element.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(element);
+            if (handler instanceof ElementHandler) {
+                return ((ElementHandler) handler).locator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the element fields of a page class and its superclasses up to BasePage
+     */
+    private static List<ElementField> scan(Class<?> type) {
+        List<ElementField> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != BasePage.class && current != Object.class;
+             current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                boolean element = field.getType() == WebElement.class;
+                boolean list = isElementList(field);
+                if (element || list) {
+                    field.setAccessible(true);
+                    fields.add(new ElementField(field, new Annotations(field).buildBy(), list));
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    // Like PageFactory, only annotated lists are wired
+    private static boolean isElementList(Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        boolean annotated = field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+        return annotated
+                && ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0] == WebElement.class;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ElementField {
+        private final Field field;
+        private final By locator;
+        private final boolean list;
+
+        private ElementField(Field field, By locator, boolean list) {
+            this.field = field;
+            this.locator = locator;
+            this.list = list;
+        }
+    }
+
+    /**
+     * Resolves the element on each call, from the page's element cache when it can
+     * A cached element gone stale is dropped and the call is made once more on a fresh one.
+     */
+    private static final class ElementHandler implements InvocationHandler {
+        private final BasePage page;
+        private final By locator;
+
+        private ElementHandler(BasePage page, By locator) {
+            this.page = page;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Page element for: " + locator;
+                }
+            }
+            WebElement element = page.findPageElement(locator);
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return PageElements.invoke(element, method, args);
+            } catch (StaleElementReferenceException e) {
+                page.elementCache.invalidate("stale element " + locator);
+                return PageElements.invoke(page.findPageElement(locator), method, args);
+            }
+        }
+    }
+
+    private static final class ListHandler implements InvocationHandler {
+        private final BasePage page;
+        private final By locator;
+
+        private ListHandler(BasePage page, By locator) {
+            this.page = page;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class && !"equals".equals(method.getName())
+                    && !"hashCode".equals(method.getName())) {
+                return "Page elements for: " + locator;
+            }
+            return PageElements.invoke(page.findPageElements(locator), method, args);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.framework.pages;
 
+import com.framework.utils.ElementCondition;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -15,7 +17,7 @@ public class SamplePage extends BasePage {
     
     private static final Logger logger = LogManager.getLogger(SamplePage.class);
     
-    // Page elements using PageFactory annotations
+    // Page elements declared with @FindBy, wired by BasePage
     @FindBy(id = "username")
     private WebElement usernameField;
     
@@ -229,6 +231,11 @@ public class SamplePage extends BasePage {
         return isLoaded;
     }
     
+    @Override
+    protected By[] getCriticalLocators() {
+        return new By[] {By.xpath("//h1[@class='page-title']"), By.id("loginButton")};
+    }
+    
     /**
      * Waits for page to load completely
      * @return SamplePage instance for method chaining
@@ -236,7 +243,10 @@ public class SamplePage extends BasePage {
     public SamplePage waitForPageLoad() {
         logger.info("Waiting for page to load");
         
-        waitForElementToBeVisible(pageTitle);
+        // Title and login button are checked together, one script call per poll
+        By[] criticalLocators = getCriticalLocators();
+        waitUtils.waitForAll(ElementCondition.visible(criticalLocators[0]),
+                ElementCondition.clickable(criticalLocators[1]));
         
         logger.info("Page load completed");
         return this;
@@ -5,6 +5,7 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.framework.config.ConfigManager;
+import com.framework.utils.ExecutionContext;
 import com.framework.utils.LoggerUtils;
 
 import java.io.File;
@@ -18,7 +19,7 @@ import java.util.Date;
 public class ExtentManager {
     
     private static ExtentReports extent;
-    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static final ExecutionContext.ContextLocal<ExtentTest> extentTest = new ExecutionContext.ContextLocal<>("extentTest");
     private static String reportPath;
     
     /**
@@ -107,7 +108,7 @@ public class ExtentManager {
     }
     
     /**
-     * Gets current ExtentTest instance for the thread
+     * Gets current ExtentTest instance for the running test
      * @return ExtentTest instance
      */
     public static ExtentTest getTest() {
@@ -115,7 +116,7 @@ public class ExtentManager {
     }
     
     /**
-     * Removes ExtentTest instance from ThreadLocal
+     * Removes ExtentTest instance from the execution context
      */
     public static void removeTest() {
         extentTest.remove();
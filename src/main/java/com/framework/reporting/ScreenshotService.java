@@ -0,0 +1,329 @@
+package com.framework.reporting;
+
+import com.framework.config.ConfigManager;
+import com.framework.config.TestConfig;
+import com.framework.exceptions.ConfigurationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ScreenshotService writes screenshots on a small background pool instead of the test thread
+ * The test thread only takes the screenshot, as the base64 string the driver sends. Decoding,
+ * hashing, creating directories and writing the PNG happen on screenshot.async.threads writer threads
+ * fed by a queue of screenshot.async.queue.capacity. When the queue is full, screenshot.async.overflow
+ * decides whether the test thread waits, writes itself, or a screenshot is dropped. Each screenshot's
+ * future completes with its path once written, or with null if it was dropped or could not be written,
+ * so callers never link a file that does not exist. flush() waits for queued writes and is called at suite end.
+ */
+public final class ScreenshotService {
+
+    /** Longest time suite end waits for queued screenshots */
+    public static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotService.class);
+    private static ScreenshotService instance;
+
+    /**
+     * What to do with a screenshot when the queue is full
+     */
+    public enum OverflowPolicy {
+        /** The test thread waits for room in the queue */
+        BLOCK,
+        /** The test thread writes the screenshot itself */
+        CALLER_WRITES,
+        /** The new screenshot is dropped */
+        DROP_NEWEST,
+        /** The oldest queued screenshot is dropped to make room */
+        DROP_OLDEST;
+
+        /**
+         * Parses a policy name such as drop-oldest
+         * @param name policy name, case-insensitive, with - or _
+         * @return policy
+         * @throws ConfigurationException if the name is unknown
+         */
+        public static OverflowPolicy fromString(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new ConfigurationException("screenshot.async.overflow",
+                        "Expected block, caller-writes, drop-newest or drop-oldest but was: " + name);
+            }
+        }
+    }
+
+    private final boolean async;
+    private final OverflowPolicy overflowPolicy;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object idle = new Object();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalWriteNanos = new LongAdder();
+    private final LongAccumulator maxWriteNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a service
+     * @param async false to write every screenshot on the calling thread
+     * @param threads number of writer threads
+     * @param queueCapacity maximum screenshots waiting to be written
+     * @param overflowPolicy what to do when the queue is full
+     */
+    ScreenshotService(boolean async, int threads, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this.async = async;
+        this.overflowPolicy = overflowPolicy;
+        AtomicInteger threadCounter = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, overflowHandler());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the service configured by screenshot.async.*
+     * @return shared service
+     */
+    public static synchronized ScreenshotService getInstance() {
+        if (instance == null) {
+            TestConfig config = ConfigManager.getInstance().getTestConfig();
+            instance = new ScreenshotService(config.isScreenshotAsyncEnabled(), config.getScreenshotAsyncThreads(),
+                    config.getScreenshotAsyncQueueCapacity(),
+                    OverflowPolicy.fromString(config.getScreenshotAsyncOverflow()));
+        }
+        return instance;
+    }
+
+    /**
+     * Takes a screenshot and queues it to be written
+     * @param driver WebDriver instance
+     * @param directory screenshot directory, created if missing
+     * @param fileName file name including .png
+     * @return future completing with the screenshot path once written, or with null if it was dropped or failed
+     */
+    public CompletableFuture<Path> capture(WebDriver driver, Path directory, String fileName) {
+        String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        return submit(base64, directory.resolve(fileName));
+    }
+
+    /**
+     * Queues a screenshot to be written
+     * @param base64Png PNG as sent by the driver, base64-encoded
+     * @param target file to write
+     * @return future completing with target once written, or with null if it was dropped or failed
+     */
+    public CompletableFuture<Path> submit(String base64Png, Path target) {
+        submitted.increment();
+        pending.incrementAndGet();
+        WriteTask task = new WriteTask(base64Png, target);
+        if (async) {
+            executor.execute(task);
+            maxQueueDepth.accumulate(executor.getQueue().size());
+        } else {
+            task.run();
+        }
+        return task.result;
+    }
+
+    /**
+     * Waits until all queued screenshots are written
+     * @param timeout maximum time to wait
+     * @return true if nothing is left to write
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    logger.warn("{} screenshots still being written after {} ms", pending.get(), timeout.toMillis());
+                    return false;
+                }
+                try {
+                    idle.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private RejectedExecutionHandler overflowHandler() {
+        return (task, pool) -> {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    try {
+                        pool.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        drop((WriteTask) task);
+                    }
+                    break;
+                case CALLER_WRITES:
+                    task.run();
+                    break;
+                case DROP_OLDEST:
+                    Runnable oldest = pool.getQueue().poll();
+                    if (oldest != null) {
+                        drop((WriteTask) oldest);
+                    }
+                    pool.execute(task);
+                    break;
+                default:
+                    drop((WriteTask) task);
+                    break;
+            }
+        };
+    }
+
+    private void drop(WriteTask task) {
+        dropped.increment();
+        logger.warn("Screenshot queue full, dropped {}", task.target);
+        task.result.complete(null);
+        done();
+    }
+
+    private void done() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of screenshots waiting in the queue
+     * @return current queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getMaxQueueDepth() {
+        return (int) maxQueueDepth.get();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Gets the mean time to decode, hash and write a screenshot
+     * @return mean write latency in milliseconds, 0 if nothing was written
+     */
+    public double getMeanWriteMillis() {
+        long count = written.sum();
+        return count == 0 ? 0 : totalWriteNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxWriteMillis() {
+        return maxWriteNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Formats the queue and write metrics for the suite log
+     * @return one-line summary
+     */
+    public String getSummary() {
+        return String.format("%d screenshots: %d written, %d dropped, %d failed; write %.1f ms mean, %.1f ms max; "
+                        + "queue depth max %d (%s)", getSubmittedCount(), getWrittenCount(), getDroppedCount(),
+                getFailedCount(), getMeanWriteMillis(), getMaxWriteMillis(), getMaxQueueDepth(),
+                async ? "async, " + overflowPolicy.name().toLowerCase(Locale.ROOT).replace('_', '-') : "sync");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodes, hashes and writes one screenshot
+     */
+    private final class WriteTask implements Runnable {
+        private final String base64Png;
+        private final Path target;
+        private final CompletableFuture<Path> result = new CompletableFuture<>();
+
+        private WriteTask(String base64Png, Path target) {
+            this.base64Png = base64Png;
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                byte[] png = Base64.getMimeDecoder().decode(base64Png.getBytes(StandardCharsets.US_ASCII));
+                Path directory = target.toAbsolutePath().getParent();
+                if (directory != null) {
+                    Files.createDirectories(directory);
+                }
+                Files.write(target, png);
+                long elapsed = System.nanoTime() - start;
+                totalWriteNanos.add(elapsed);
+                maxWriteNanos.accumulate(elapsed);
+                written.increment();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Wrote screenshot {} ({} bytes, sha256 {}) in {} ms", target, png.length, sha256(png),
+                            TimeUnit.NANOSECONDS.toMillis(elapsed));
+                }
+                result.complete(target);
+            } catch (IOException | IllegalArgumentException e) {
+                failed.increment();
+                logger.error("Failed to write screenshot {}: {}", target, e.getMessage());
+            } finally {
+                // No-op after a successful write
+                result.complete(null);
+                done();
+            }
+        }
+    }
+}
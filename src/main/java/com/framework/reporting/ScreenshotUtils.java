@@ -8,8 +8,7 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -34,7 +33,7 @@ public class ScreenshotUtils {
      * Captures screenshot with custom suffix
      * @param testName Name of the test for screenshot naming
      * @param suffix Additional suffix for the filename
-     * @return Path to the captured screenshot, null if capture failed
+     * @return Path to the captured screenshot, written in the background; null if capture failed or it was dropped
      */
     public static String captureScreenshot(String testName, String suffix) {
         try {
@@ -47,30 +46,23 @@ public class ScreenshotUtils {
             ConfigManager config = ConfigManager.getInstance();
             String screenshotDir = config.getProperty("screenshot.path", DEFAULT_SCREENSHOT_DIR);
             
-            // Create screenshots directory if it doesn't exist
-            File dir = new File(screenshotDir);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-            
             // Generate screenshot filename with timestamp
             String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
             String fileName = testName + (suffix != null ? "_" + suffix : "") + "_" + timestamp + ".png";
-            String filePath = screenshotDir + File.separator + fileName;
             
-            // Capture screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            byte[] screenshotBytes = takesScreenshot.getScreenshotAs(OutputType.BYTES);
-            
-            // Save screenshot to file
-            Files.write(Paths.get(filePath), screenshotBytes);
+            // Capture screenshot; the directory and file are written in the background,
+            // so only a screenshot already dropped or failed is known to be missing here
+            Path directory = Paths.get(screenshotDir);
+            Path target = directory.resolve(fileName);
+            Path filePath = ScreenshotService.getInstance().capture(driver, directory, fileName).getNow(target);
+            if (filePath == null) {
+                LoggerUtils.logWarning("Screenshot was not saved: " + target);
+                return null;
+            }
             
-            LoggerUtils.logScreenshot(filePath, "Screenshot captured");
-            return filePath;
+            LoggerUtils.logScreenshot(filePath.toString(), "Screenshot captured");
+            return filePath.toString();
             
-        } catch (IOException e) {
-            LoggerUtils.logError("Failed to capture screenshot: " + e.getMessage(), e);
-            return null;
         } catch (Exception e) {
             LoggerUtils.logError("Unexpected error while capturing screenshot: " + e.getMessage(), e);
             return null;
@@ -5,17 +5,16 @@ import com.aventstack.extentreports.Status;
 import com.framework.config.ConfigManager;
 import com.framework.driver.DriverManager;
 import com.framework.utils.LoggerUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.testng.*;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * TestListener class implements TestNG listeners for test execution events
@@ -25,6 +24,9 @@ public class TestListener implements ITestListener, ISuiteListener, IInvokedMeth
     
     private static final String SCREENSHOT_DIR = "screenshots";
     
+    /** Failure screenshots still being written, attached to the report once flushed */
+    private final Queue<Runnable> pendingScreenshots = new ConcurrentLinkedQueue<>();
+    
     @Override
     public void onStart(ISuite suite) {
         LoggerUtils.getLogger(TestListener.class).info("Test Suite started: " + suite.getName());
@@ -35,6 +37,12 @@ public class TestListener implements ITestListener, ISuiteListener, IInvokedMeth
     @Override
     public void onFinish(ISuite suite) {
         LoggerUtils.getLogger(TestListener.class).info("Test Suite finished: " + suite.getName());
+        // Write queued screenshots before the report that links them
+        ScreenshotService.getInstance().flush(ScreenshotService.FLUSH_TIMEOUT);
+        Runnable attach;
+        while ((attach = pendingScreenshots.poll()) != null) {
+            attach.run();
+        }
         // Flush ExtentReports
         ExtentManager.flush();
     }
@@ -111,15 +119,10 @@ public class TestListener implements ITestListener, ISuiteListener, IInvokedMeth
                 }
             }
             
-            // Capture screenshot on failure
-            String screenshotPath = captureScreenshot(testName);
-            if (screenshotPath != null) {
-                try {
-                    test.addScreenCaptureFromPath(screenshotPath, "Failure Screenshot");
-                    test.info("Screenshot captured: " + screenshotPath);
-                } catch (Exception e) {
-                    LoggerUtils.logError("Failed to attach screenshot to report: " + e.getMessage(), e);
-                }
+            // Capture screenshot on failure; it is attached at suite end if it was written
+            CompletableFuture<Path> screenshot = captureScreenshot(testName);
+            if (screenshot != null) {
+                pendingScreenshots.add(() -> attachScreenshot(test, screenshot.getNow(null)));
             }
             
             long duration = result.getEndMillis() - result.getStartMillis();
@@ -161,18 +164,36 @@ public class TestListener implements ITestListener, ISuiteListener, IInvokedMeth
     
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
-        // Clean up ExtentTest from ThreadLocal after test completion
+        // Clean up ExtentTest from the execution context after test completion
         if (method.isTestMethod()) {
             ExtentManager.removeTest();
         }
     }
     
+    /**
+     * Attaches a failure screenshot to the report
+     * @param test report entry of the failed test
+     * @param screenshotPath written screenshot, null if it was dropped or could not be written
+     */
+    private void attachScreenshot(ExtentTest test, Path screenshotPath) {
+        if (screenshotPath == null) {
+            test.warning("Failure screenshot was not saved");
+            return;
+        }
+        try {
+            test.addScreenCaptureFromPath(screenshotPath.toString(), "Failure Screenshot");
+            test.info("Screenshot captured: " + screenshotPath);
+        } catch (Exception e) {
+            LoggerUtils.logError("Failed to attach screenshot to report: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Captures screenshot and saves it to the screenshots directory
      * @param testName Name of the test for screenshot naming
-     * @return Path to the captured screenshot, null if capture failed
+     * @return Screenshot completing with its path once written, null if capture failed
      */
-    private String captureScreenshot(String testName) {
+    private CompletableFuture<Path> captureScreenshot(String testName) {
         try {
             ConfigManager config = ConfigManager.getInstance();
             boolean screenshotOnFailure = Boolean.parseBoolean(
@@ -188,31 +209,19 @@ public class TestListener implements ITestListener, ISuiteListener, IInvokedMeth
                 return null;
             }
             
-            // Create screenshots directory if it doesn't exist
             String screenshotDir = config.getProperty("screenshot.path", SCREENSHOT_DIR);
-            File dir = new File(screenshotDir);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
             
             // Generate screenshot filename with timestamp
             String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
             String fileName = testName + "_" + timestamp + ".png";
-            String filePath = screenshotDir + File.separator + fileName;
             
-            // Capture screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            byte[] screenshotBytes = takesScreenshot.getScreenshotAs(OutputType.BYTES);
+            // Capture screenshot; writing it doesn't hold up the next test
+            CompletableFuture<Path> screenshot = ScreenshotService.getInstance()
+                    .capture(driver, Paths.get(screenshotDir), fileName);
             
-            // Save screenshot to file
-            Files.write(Paths.get(filePath), screenshotBytes);
+            LoggerUtils.logScreenshot(Paths.get(screenshotDir, fileName).toString(), "Test failure");
+            return screenshot;
             
-            LoggerUtils.logScreenshot(filePath, "Test failure");
-            return filePath;
-            
-        } catch (IOException e) {
-            LoggerUtils.logError("Failed to capture screenshot: " + e.getMessage(), e);
-            return null;
         } catch (Exception e) {
             LoggerUtils.logError("Unexpected error while capturing screenshot: " + e.getMessage(), e);
             return null;
@@ -0,0 +1,52 @@
+package com.framework.reporting;
+
+import com.framework.utils.LoggerUtils;
+import com.framework.utils.VirtualThreads;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VirtualThreadExecutorFactory runs parallel TestNG methods on virtual threads
+ * Register with -threadpoolfactoryclass (the virtual-threads Maven profile does this).
+ * TestNG's scheduling and thread-count are kept; only the worker threads become virtual,
+ * so a high thread-count no longer costs one platform thread per blocked test.
+ * On runtimes without virtual threads the default platform pool is used.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private final IExecutorFactory delegate = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+            IThreadWorkerFactory<ISuite> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return delegate.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+            IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ITestNGMethod> comparator) {
+        ITestNGThreadPoolExecutor executor = delegate.newTestMethodExecutor(name, graph, factory, corePoolSize,
+                maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        if (!VirtualThreads.isSupported()) {
+            LoggerUtils.logWarning("Virtual threads need Java 21; running " + name + " on platform threads");
+        } else if (executor instanceof ThreadPoolExecutor) {
+            ((ThreadPoolExecutor) executor).setThreadFactory(VirtualThreads.newVirtualThreadFactory("testng-" + name + "-"));
+            LoggerUtils.getLogger(VirtualThreadExecutorFactory.class)
+                    .info("Running " + name + " on up to " + maximumPoolSize + " virtual threads");
+        }
+        return executor;
+    }
+}
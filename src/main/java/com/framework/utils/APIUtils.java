@@ -11,6 +11,8 @@ import io.restassured.specification.RequestSpecification;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * APIUtils provides REST API testing utilities using RestAssured
@@ -274,6 +276,35 @@ public class APIUtils {
         return requestSpec.delete(endpoint);
     }
     
+    /**
+     * Performs GET request without blocking the caller
+     * Runs on the shared I/O executor, which uses virtual threads when enabled.
+     * @param endpoint API endpoint
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        return VirtualThreads.supplyAsync(() -> get(endpoint));
+    }
+    
+    /**
+     * Performs POST request with JSON body without blocking the caller
+     * @param endpoint API endpoint
+     * @param requestBody request body object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object requestBody) {
+        return VirtualThreads.supplyAsync(() -> post(endpoint, requestBody));
+    }
+    
+    /**
+     * Runs any request built from this instance without blocking the caller
+     * @param request request to perform
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> sendAsync(Function<APIUtils, Response> request) {
+        return VirtualThreads.supplyAsync(() -> request.apply(this));
+    }
+    
     /**
      * Validates response status code
      * @param response Response object
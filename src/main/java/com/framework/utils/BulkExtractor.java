@@ -0,0 +1,197 @@
+package com.framework.utils;
+
+import com.framework.exceptions.ElementNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * BulkExtractor reads texts, attributes and tables of many elements with one script call per chunk
+ * Reading N elements through WebElement.getText() costs a findElements plus N round trips; here the
+ * script finds the elements and returns their values as plain string arrays. Results come back in
+ * chunks of extraction.chunk.size elements or rows so a large table never has to be serialized,
+ * or held, all at once.
+ */
+public class BulkExtractor {
+
+    private static final Logger logger = LogManager.getLogger(BulkExtractor.class);
+
+    // Arguments: locator (type/value pair) or element list, mode, attribute names, offset, limit
+    static final String EXTRACT_SCRIPT =
+            ElementCondition.FIND_ALL +
+            "var target = arguments[0], mode = arguments[1], names = arguments[2]," +
+            "    offset = arguments[3], limit = arguments[4];" +
+            "var elements = typeof target[0] === 'string' ? findAll(target[0], target[1]) : target;" +
+            "function text(element) { return (element.innerText || element.textContent || '').trim(); }" +
+            "function attribute(element, name) {" +
+            "  var value = element.getAttribute(name);" +
+            "  if (value === null && name in element) { value = element[name]; }" +
+            "  return value === null || value === undefined ? null : String(value);" +
+            "}" +
+            "function cells(row) { return Array.prototype.map.call(row.cells, text); }" +
+            "if (mode === 'table') {" +
+            "  var table = elements[0];" +
+            "  if (!table || !table.rows) { return null; }" +
+            "  var headers = [], rows = [];" +
+            "  for (var r = 0; r < table.rows.length; r++) {" +
+            "    var row = table.rows[r];" +
+            "    var isHeader = row.parentNode.tagName === 'THEAD'" +
+            "        || (rows.length === 0 && !row.querySelector('td') && !!row.querySelector('th'));" +
+            "    if (isHeader) { if (headers.length === 0) { headers = cells(row); } }" +
+            "    else { rows.push(row); }" +
+            "  }" +
+            "  return {total: rows.length, headers: headers, rows: rows.slice(offset, offset + limit).map(cells)};" +
+            "}" +
+            "var chunk = Array.prototype.slice.call(elements, offset, offset + limit);" +
+            "return {total: elements.length, rows: chunk.map(function (element) {" +
+            "  return mode === 'text' ? text(element)" +
+            "      : names.map(function (name) { return attribute(element, name); });" +
+            "})};";
+
+    private final WebDriver driver;
+    private final int chunkSize;
+    private int scriptCallCount;
+
+    /**
+     * Creates an extractor for a session
+     * @param driver WebDriver instance
+     * @param chunkSize maximum elements or rows returned by one script call
+     */
+    public BulkExtractor(WebDriver driver, int chunkSize) {
+        this.driver = driver;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Gets the rendered text of all matching elements
+     * @param locator elements locator
+     * @return trimmed text of each element, empty if none match
+     */
+    public List<String> getTexts(By locator) {
+        List<String> texts = new ArrayList<>();
+        extract(locator, "text", Collections.emptyList(), chunk -> {
+            for (Object text : rows(chunk)) {
+                texts.add((String) text);
+            }
+        });
+        return texts;
+    }
+
+    /**
+     * Gets attributes of all matching elements
+     * A name missing as attribute is read as DOM property, as WebElement.getAttribute() does.
+     * @param locator elements locator
+     * @param attributes attribute names
+     * @return one map per element from attribute name to value, null where absent
+     */
+    public List<Map<String, String>> getAttributes(By locator, String... attributes) {
+        List<Map<String, String>> values = new ArrayList<>();
+        extract(locator, "attributes", Arrays.asList(attributes), chunk -> {
+            for (Object row : rows(chunk)) {
+                List<?> cells = (List<?>) row;
+                Map<String, String> element = new LinkedHashMap<>();
+                for (int i = 0; i < attributes.length; i++) {
+                    element.put(attributes[i], (String) cells.get(i));
+                }
+                values.add(element);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Extracts the header and body cell texts of a table
+     * @param tableLocator locator of the table element
+     * @return table data
+     * @throws ElementNotFoundException if no table matches
+     */
+    public TableData extractTable(By tableLocator) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> headers = forEachTableRow(tableLocator, rows::add);
+        return new TableData(headers, rows);
+    }
+
+    /**
+     * Streams the body rows of a table, one chunk per script call
+     * Only the current chunk is held in memory, for tables too large to extract as a whole.
+     * @param tableLocator locator of the table element
+     * @param rowConsumer called with the cell texts of each body row, in order
+     * @return header cell texts, empty if the table has no header row
+     * @throws ElementNotFoundException if no table matches
+     */
+    public List<String> forEachTableRow(By tableLocator, Consumer<List<String>> rowConsumer) {
+        List<String> headers = new ArrayList<>();
+        extract(tableLocator, "table", Collections.emptyList(), chunk -> {
+            if (headers.isEmpty() && chunk.get("headers") != null) {
+                for (Object header : (List<?>) chunk.get("headers")) {
+                    headers.add((String) header);
+                }
+            }
+            for (Object row : rows(chunk)) {
+                List<String> cells = new ArrayList<>();
+                for (Object cell : (List<?>) row) {
+                    cells.add((String) cell);
+                }
+                rowConsumer.accept(cells);
+            }
+        });
+        return headers;
+    }
+
+    /**
+     * Gets the number of script calls made by this extractor
+     * @return script call count
+     */
+    public int getScriptCallCount() {
+        return scriptCallCount;
+    }
+
+    private void extract(By locator, String mode, List<String> names, Consumer<Map<?, ?>> chunkConsumer) {
+        Object target = toTarget(locator);
+        int offset = 0;
+        while (true) {
+            scriptCallCount++;
+            Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, target, mode, names,
+                    offset, chunkSize);
+            if (!(result instanceof Map)) {
+                throw new ElementNotFoundException(locator, "No table found: " + locator);
+            }
+            Map<?, ?> chunk = (Map<?, ?>) result;
+            chunkConsumer.accept(chunk);
+            offset += rows(chunk).size();
+            long total = ((Number) chunk.get("total")).longValue();
+            if (rows(chunk).isEmpty() || offset >= total) {
+                logger.debug("Extracted {} {} values of {} in {} chunks", offset, mode, locator,
+                        (offset + chunkSize - 1) / chunkSize);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets what the script resolves: the locator itself, or for locators it cannot evaluate
+     * (link text, custom By) the elements found through the driver
+     */
+    private Object toTarget(By locator) {
+        String[] scriptLocator = PageReadiness.toScriptLocator(locator);
+        if (scriptLocator != null) {
+            return Arrays.asList(scriptLocator[0], scriptLocator[1]);
+        }
+        return driver.findElements(locator);
+    }
+
+    private static List<?> rows(Map<?, ?> chunk) {
+        Object rows = chunk.get("rows");
+        return rows instanceof List ? (List<?>) rows : Collections.emptyList();
+    }
+}
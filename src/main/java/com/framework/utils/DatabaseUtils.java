@@ -7,6 +7,7 @@ import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * DatabaseUtils provides JDBC connection management utilities
@@ -188,6 +189,28 @@ public class DatabaseUtils {
         }
     }
     
+    /**
+     * Executes a parameterized SELECT query without blocking the caller
+     * Runs on the shared I/O executor, which uses virtual threads when enabled;
+     * concurrency is still bounded by the connection pool size.
+     * @param query SQL SELECT query with placeholders
+     * @param parameters query parameters
+     * @return future completed with the rows
+     */
+    public CompletableFuture<List<Map<String, Object>>> executeQueryAsync(String query, Object... parameters) {
+        return VirtualThreads.supplyAsync(() -> executeQuery(query, parameters));
+    }
+    
+    /**
+     * Executes a parameterized INSERT, UPDATE, or DELETE query without blocking the caller
+     * @param query SQL query with placeholders
+     * @param parameters query parameters
+     * @return future completed with the number of affected rows
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(String query, Object... parameters) {
+        return VirtualThreads.supplyAsync(() -> executeUpdate(query, parameters));
+    }
+    
     /**
      * Executes an INSERT query and returns generated keys
      * @param query SQL INSERT query
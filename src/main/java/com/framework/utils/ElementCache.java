@@ -0,0 +1,121 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * ElementCache keeps the elements a page object resolved by locator until the page changes
+ * A cached element is reused after one state check instead of a findElement plus a wait.
+ * The page clears the cache on navigation, refresh and window switch; a cached element that
+ * turns out stale clears it too, since the document it came from is gone.
+ * Like the page object that owns it, a cache belongs to one thread.
+ */
+public class ElementCache {
+
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private final boolean enabled;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache
+     * @param enabled false to resolve every element afresh
+     */
+    public ElementCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the cached element for a locator if it is ready, otherwise resolves and caches it
+     * @param locator element locator
+     * @param ready state check a cached element must pass, e.g. isDisplayed
+     * @param resolver lookup used on a miss, usually a WaitUtils wait
+     * @return element
+     */
+    public WebElement resolve(By locator, Predicate<WebElement> ready, Function<By, WebElement> resolver) {
+        WebElement cached = enabled ? elements.get(locator) : null;
+        if (cached != null) {
+            try {
+                if (ready.test(cached)) {
+                    hits++;
+                    totalHits.incrementAndGet();
+                    return cached;
+                }
+                elements.remove(locator);
+            } catch (StaleElementReferenceException e) {
+                invalidate("stale element " + locator);
+            }
+        }
+        misses++;
+        totalMisses.incrementAndGet();
+        WebElement element = resolver.apply(locator);
+        if (enabled && element != null) {
+            elements.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Drops all cached elements
+     * @param reason what changed the page, for the log
+     */
+    public void invalidate(String reason) {
+        if (!elements.isEmpty()) {
+            logger.debug("Dropped {} cached elements: {}", elements.size(), reason);
+            elements.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached elements
+     * @return cache size
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Gets the number of lookups answered from this cache
+     * @return hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups this cache had to resolve
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of cache hits of all pages
+     * @return hit count since startup
+     */
+    public static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    /**
+     * Gets the number of cache misses of all pages
+     * @return miss count since startup
+     */
+    public static long getTotalMisses() {
+        return totalMisses.get();
+    }
+}
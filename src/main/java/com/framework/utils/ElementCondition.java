@@ -0,0 +1,198 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ElementCondition is one element check of a multi-condition wait
+ * WaitUtils.waitForAll() and waitForAny() evaluate all conditions in a single script per poll.
+ * Conditions on locators the script cannot resolve (link text, custom By) fall back to the driver.
+ */
+public final class ElementCondition {
+
+    // JavaScript function declaration resolving a script locator's type and value to its elements
+    static final String FIND_ALL =
+            "function findAll(type, value) {" +
+            "  switch (type) {" +
+            "    case 'id': var element = document.getElementById(value); return element ? [element] : [];" +
+            "    case 'name': return document.getElementsByName(value);" +
+            "    case 'css': return document.querySelectorAll(value);" +
+            "    case 'xpath':" +
+            "      var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "      var nodes = [];" +
+            "      for (var n = 0; n < snapshot.snapshotLength; n++) { nodes.push(snapshot.snapshotItem(n)); }" +
+            "      return nodes;" +
+            "    default: return [];" +
+            "  }" +
+            "}";
+
+    // JavaScript function taking the script arguments of several conditions; returns one boolean each
+    static final String EVALUATOR =
+            "function (conditions) {" +
+            FIND_ALL +
+            "  function visible(element) {" +
+            "    return element.getClientRects().length > 0 && window.getComputedStyle(element).visibility !== 'hidden';" +
+            "  }" +
+            "  return conditions.map(function (c) {" +
+            "    var elements = findAll(c[0], c[1]), element = elements[0];" +
+            "    switch (c[2]) {" +
+            "      case 'count': return elements.length === c[5];" +
+            "      case 'visible': return !!element && visible(element);" +
+            "      case 'clickable': return !!element && visible(element) && !element.disabled;" +
+            "      case 'text': return !!element && (element.innerText || element.textContent || '').indexOf(c[4]) >= 0;" +
+            "      case 'attribute':" +
+            "        if (!element) { return false; }" +
+            "        var actual = element.getAttribute(c[3]);" +
+            "        if (actual === null && c[3] in element) { actual = element[c[3]]; }" +
+            "        return actual !== null && actual !== undefined && String(actual).indexOf(c[4]) >= 0;" +
+            "      default: return false;" +
+            "    }" +
+            "  });" +
+            "}";
+
+    /**
+     * Kind of check, named as in the multi-condition script
+     */
+    enum Kind {
+        VISIBLE("visible"),
+        CLICKABLE("clickable"),
+        TEXT_PRESENT("text"),
+        ATTRIBUTE_CONTAINS("attribute"),
+        COUNT_EQUALS("count");
+
+        private final String scriptName;
+
+        Kind(String scriptName) {
+            this.scriptName = scriptName;
+        }
+    }
+
+    private final Kind kind;
+    private final By locator;
+    private final String name;
+    private final String value;
+    private final int count;
+
+    private ElementCondition(Kind kind, By locator, String name, String value, int count) {
+        this.kind = kind;
+        this.locator = locator;
+        this.name = name;
+        this.value = value;
+        this.count = count;
+    }
+
+    /**
+     * Element is displayed
+     * @param locator element locator
+     * @return condition
+     */
+    public static ElementCondition visible(By locator) {
+        return new ElementCondition(Kind.VISIBLE, locator, null, null, 0);
+    }
+
+    /**
+     * Element is displayed and enabled
+     * @param locator element locator
+     * @return condition
+     */
+    public static ElementCondition clickable(By locator) {
+        return new ElementCondition(Kind.CLICKABLE, locator, null, null, 0);
+    }
+
+    /**
+     * Visible text of the element contains the text
+     * @param locator element locator
+     * @param text expected text
+     * @return condition
+     */
+    public static ElementCondition textPresent(By locator, String text) {
+        return new ElementCondition(Kind.TEXT_PRESENT, locator, null, text, 0);
+    }
+
+    /**
+     * Attribute or property of the element contains the value
+     * @param locator element locator
+     * @param attribute attribute name
+     * @param value expected value
+     * @return condition
+     */
+    public static ElementCondition attributeContains(By locator, String attribute, String value) {
+        return new ElementCondition(Kind.ATTRIBUTE_CONTAINS, locator, attribute, value, 0);
+    }
+
+    /**
+     * Number of matching elements equals the count
+     * @param locator elements locator
+     * @param count expected count
+     * @return condition
+     */
+    public static ElementCondition countEquals(By locator, int count) {
+        return new ElementCondition(Kind.COUNT_EQUALS, locator, null, null, count);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Gets the arguments of this condition for the multi-condition script
+     * @return [locator type, locator value, check, name, value, count], or null if the script cannot find the element
+     */
+    List<Object> toScriptArguments() {
+        String[] scriptLocator = PageReadiness.toScriptLocator(locator);
+        if (scriptLocator == null) {
+            return null;
+        }
+        return Arrays.asList(scriptLocator[0], scriptLocator[1], kind.scriptName, name, value, count);
+    }
+
+    /**
+     * Evaluates this condition through the driver, for locators the script cannot resolve
+     * @param driver WebDriver instance
+     * @return true if the condition holds
+     */
+    boolean evaluate(WebDriver driver) {
+        Function<WebDriver, ?> condition = toExpectedCondition();
+        try {
+            Object result = condition.apply(driver);
+            return result != null && !Boolean.FALSE.equals(result);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private ExpectedCondition<?> toExpectedCondition() {
+        switch (kind) {
+            case CLICKABLE:
+                return ExpectedConditions.elementToBeClickable(locator);
+            case TEXT_PRESENT:
+                return ExpectedConditions.textToBePresentInElementLocated(locator, value);
+            case ATTRIBUTE_CONTAINS:
+                return ExpectedConditions.attributeContains(locator, name, value);
+            case COUNT_EQUALS:
+                return ExpectedConditions.numberOfElementsToBe(locator, count);
+            default:
+                return ExpectedConditions.visibilityOfElementLocated(locator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case TEXT_PRESENT:
+                return "text '" + value + "' in " + locator;
+            case ATTRIBUTE_CONTAINS:
+                return name + " containing '" + value + "' on " + locator;
+            case COUNT_EQUALS:
+                return count + " elements " + locator;
+            default:
+                return kind.name().toLowerCase() + " " + locator;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * ElementDescription describes a WebElement for logs and derives a fallback locator from it
+ * Nothing is read from the browser until toString() or toLocator() is first called, so passing a
+ * description as a log parameter costs nothing when the level is off. The tag, id, class and
+ * short text are then read with one script call instead of four WebDriver commands, and kept.
+ */
+public final class ElementDescription {
+
+    static final int MAX_TEXT_LENGTH = 50;
+
+    // Returns [tag, id, class, text]; text only if short enough to be worth logging
+    static final String DESCRIBE_SCRIPT =
+            "var element = arguments[0];" +
+            "var text = (element.innerText || element.textContent || '').trim();" +
+            "return [element.tagName.toLowerCase(), element.getAttribute('id') || '', " +
+            "    element.getAttribute('class') || '', text.length <= " + MAX_TEXT_LENGTH + " ? text : ''];";
+
+    private final WebDriver driver;
+    private final WebElement element;
+    private final By declaredLocator;
+    private String tagName;
+    private String id;
+    private String className;
+    private String text;
+    private boolean failed;
+
+    private ElementDescription(WebDriver driver, WebElement element, By declaredLocator) {
+        this.driver = driver;
+        this.element = element;
+        this.declaredLocator = declaredLocator;
+    }
+
+    /**
+     * Creates a lazy description of an element
+     * @param driver WebDriver instance, used for the script call
+     * @param element element to describe
+     * @return description, not yet read
+     */
+    public static ElementDescription of(WebDriver driver, WebElement element) {
+        return new ElementDescription(driver, element, null);
+    }
+
+    /**
+     * Creates a lazy description of an element whose locator is known, e.g. from its @FindBy
+     * @param driver WebDriver instance, used for the script call
+     * @param element element to describe
+     * @param declaredLocator locator the element was declared with, or null
+     * @return description, not yet read
+     */
+    public static ElementDescription of(WebDriver driver, WebElement element, By declaredLocator) {
+        return new ElementDescription(driver, element, declaredLocator);
+    }
+
+    /**
+     * Gets the locator the element was declared with
+     * @return declared locator, or null if toLocator() derives one from the element
+     */
+    public By getDeclaredLocator() {
+        return declaredLocator;
+    }
+
+    /**
+     * Gets a locator for the element: the declared one, else its id, its first class or its tag
+     * @return By locator, By.tagName("*") if the element could not be read
+     */
+    public By toLocator() {
+        if (declaredLocator != null) {
+            return declaredLocator;
+        }
+        if (!load()) {
+            return By.tagName("*");
+        }
+        if (!id.isEmpty()) {
+            return By.id(id);
+        }
+        if (!className.isEmpty()) {
+            return By.className(className.trim().split("\\s+")[0]);
+        }
+        return By.tagName(tagName);
+    }
+
+    @Override
+    public String toString() {
+        if (!load()) {
+            return "UnknownElement";
+        }
+        StringBuilder description = new StringBuilder(tagName);
+        if (!id.isEmpty()) {
+            description.append("[id='").append(id).append("']");
+        }
+        if (!className.isEmpty()) {
+            description.append("[class='").append(className).append("']");
+        }
+        if (!text.isEmpty()) {
+            description.append("[text='").append(text).append("']");
+        }
+        return description.toString();
+    }
+
+    private boolean load() {
+        if (tagName != null || failed) {
+            return !failed;
+        }
+        try {
+            if (driver instanceof JavascriptExecutor) {
+                List<?> values = (List<?>) ((JavascriptExecutor) driver).executeScript(DESCRIBE_SCRIPT, element);
+                id = (String) values.get(1);
+                className = (String) values.get(2);
+                text = (String) values.get(3);
+                tagName = (String) values.get(0);
+            } else {
+                id = nullToEmpty(element.getAttribute("id"));
+                className = nullToEmpty(element.getAttribute("class"));
+                String elementText = nullToEmpty(element.getText());
+                text = elementText.length() <= MAX_TEXT_LENGTH ? elementText : "";
+                tagName = element.getTagName();
+            }
+        } catch (Exception e) {
+            failed = true;
+        }
+        return !failed;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
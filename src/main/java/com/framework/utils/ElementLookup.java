@@ -0,0 +1,99 @@
+package com.framework.utils;
+
+import com.framework.config.ConfigManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ElementLookup performs the immediate element lookups of BasePage and WaitUtils
+ * State checks such as isElementDisplayed and getElementCount answer for the page as it is now;
+ * waiting belongs to the explicit waits of WaitUtils. With wait.implicit.zero.enabled the session's
+ * implicit wait is 0, so a missing element no longer stalls these checks, and every miss is
+ * recorded in ImplicitWaitReport as a call site that used to wait implicitly.
+ */
+public class ElementLookup {
+
+    // Frames of these classes are skipped when looking for the caller of a lookup
+    private static final Set<String> FRAMEWORK_CLASSES = new HashSet<>(Arrays.asList(
+            ElementLookup.class.getName(), WaitUtils.class.getName(), "com.framework.pages.BasePage"));
+
+    private final WebDriver driver;
+
+    /**
+     * Creates a lookup for a session
+     * @param driver WebDriver instance
+     */
+    public ElementLookup(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Checks if the zero-implicit-wait mode is enabled
+     * @return true if wait.implicit.zero.enabled
+     */
+    public static boolean isZeroImplicitWait() {
+        return ConfigManager.getInstance().getTestConfig().isWaitImplicitZeroEnabled();
+    }
+
+    /**
+     * Finds an element without waiting for it
+     * @param locator element locator
+     * @return element, or null if absent
+     */
+    public WebElement probe(By locator) {
+        long start = System.nanoTime();
+        try {
+            WebElement element = driver.findElement(locator);
+            WaitTelemetry.record("lookup", locator, System.nanoTime() - start, false, 1);
+            return element;
+        } catch (NoSuchElementException e) {
+            WaitTelemetry.record("lookup", locator, System.nanoTime() - start, true, 1);
+            recordMiss(locator);
+            return null;
+        }
+    }
+
+    /**
+     * Finds all matching elements without waiting for them
+     * @param locator elements locator
+     * @return elements, empty if none match
+     */
+    public List<WebElement> probeAll(By locator) {
+        long start = System.nanoTime();
+        List<WebElement> elements = driver.findElements(locator);
+        WaitTelemetry.record("lookupAll", locator, System.nanoTime() - start, elements.isEmpty(), 1);
+        if (elements.isEmpty()) {
+            recordMiss(locator);
+        }
+        return elements;
+    }
+
+    private static void recordMiss(By locator) {
+        if (isZeroImplicitWait()) {
+            ImplicitWaitReport.record(findCallSite(), locator);
+        }
+    }
+
+    /**
+     * Gets the first caller outside the framework's lookup classes
+     * @return call site as Class.method:line
+     */
+    static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !FRAMEWORK_CLASSES.contains(frame.getClassName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName()
+                            + ":" + frame.getLineNumber();
+                })
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,162 @@
+package com.framework.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * ExecutionContext holds the per-test state of the framework (driver, report node, test data)
+ * The context is bound to the thread running the test. Unlike a ThreadLocal it can be carried
+ * to other threads with wrap(), so work handed to virtual or pooled threads sees the same test.
+ */
+public final class ExecutionContext {
+
+    private static final ThreadLocal<ExecutionContext> bound = new ThreadLocal<>();
+
+    private final ConcurrentMap<ContextLocal<?>, Object> values = new ConcurrentHashMap<>();
+
+    private ExecutionContext() {
+    }
+
+    /**
+     * Gets the context bound to the current thread, creating it on first use
+     * @return current context
+     */
+    public static ExecutionContext current() {
+        ExecutionContext context = bound.get();
+        if (context == null) {
+            context = new ExecutionContext();
+            bound.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Detaches the current thread from its context
+     * Threads that still carry the context keep seeing its values.
+     */
+    public static void unbind() {
+        bound.remove();
+    }
+
+    /**
+     * Wraps a task so it runs with this context bound, whichever thread executes it
+     * @param task task to wrap
+     * @return task bound to this context
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            ExecutionContext previous = bind();
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so it runs with this context bound, whichever thread executes it
+     * @param task task to wrap
+     * @return task bound to this context
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            ExecutionContext previous = bind();
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a supplier so it runs with this context bound, whichever thread executes it
+     * @param task supplier to wrap
+     * @return supplier bound to this context
+     */
+    public <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        return () -> {
+            ExecutionContext previous = bind();
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Gets the number of values set in this context
+     * @return value count
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private ExecutionContext bind() {
+        ExecutionContext previous = bound.get();
+        bound.set(this);
+        return previous;
+    }
+
+    private static void restore(ExecutionContext previous) {
+        if (previous != null) {
+            bound.set(previous);
+        } else {
+            bound.remove();
+        }
+    }
+
+    /**
+     * ContextLocal is a value slot in the current ExecutionContext
+     * Drop-in replacement for ThreadLocal: get, set and remove act on the context of the calling thread.
+     */
+    public static final class ContextLocal<T> {
+
+        private final String name;
+
+        public ContextLocal(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the value in the current context
+         * @return value or null if not set
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            ExecutionContext context = bound.get();
+            return context != null ? (T) context.values.get(this) : null;
+        }
+
+        /**
+         * Sets the value in the current context; null removes it
+         * @param value value to set
+         */
+        public void set(T value) {
+            if (value == null) {
+                remove();
+            } else {
+                current().values.put(this, value);
+            }
+        }
+
+        /**
+         * Removes the value from the current context
+         */
+        public void remove() {
+            ExecutionContext context = bound.get();
+            if (context != null) {
+                context.values.remove(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ContextLocal{" + name + '}';
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.framework.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ImplicitWaitReport lists the call sites whose element lookups used to wait implicitly
+ * Each entry is a lookup that found nothing in zero-implicit-wait mode. With the old implicit wait
+ * it stalled up to browser.timeout.implicit; a caller that expects the element to appear later
+ * needs an explicit WaitUtils wait instead.
+ */
+public final class ImplicitWaitReport {
+
+    private static final Logger logger = LogManager.getLogger(ImplicitWaitReport.class);
+    private static final ConcurrentMap<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+    private ImplicitWaitReport() {
+    }
+
+    /**
+     * Records a lookup that found nothing
+     * @param callSite caller of the lookup
+     * @param locator element locator
+     */
+    public static void record(String callSite, By locator) {
+        String key = callSite + " " + locator;
+        if (misses.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet() == 1) {
+            logger.debug("{} looked up {} without waiting; it used to wait implicitly", callSite, locator);
+        }
+    }
+
+    /**
+     * Gets the recorded misses
+     * @return count per "call site locator", most frequent first
+     */
+    public static Map<String, Long> getMisses() {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        List<Map.Entry<String, AtomicLong>> entries = new ArrayList<>(misses.entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<String, AtomicLong> entry) -> entry.getValue().get()).reversed()
+                .thenComparing(Map.Entry::getKey));
+        for (Map.Entry<String, AtomicLong> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue().get());
+        }
+        return sorted;
+    }
+
+    /**
+     * Clears all recorded misses
+     */
+    public static void reset() {
+        misses.clear();
+    }
+
+    /**
+     * Formats the report as text
+     * @return one line per call site and locator
+     */
+    public static String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%6s  %s%n", "Misses", "Call site and locator"));
+        for (Map.Entry<String, Long> entry : getMisses().entrySet()) {
+            table.append(String.format("%6d  %s%n", entry.getValue(), entry.getKey()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Formats the report as JSON
+     * @return JSON array with one object per call site and locator
+     */
+    public static String toJson() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : getMisses().entrySet()) {
+            int separator = entry.getKey().indexOf(' ');
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("callSite", entry.getKey().substring(0, separator));
+            row.put("locator", entry.getKey().substring(separator + 1));
+            row.put("misses", entry.getValue());
+            rows.add(row);
+        }
+        try {
+            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(rows);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize implicit wait report", e);
+        }
+    }
+
+    /**
+     * Writes implicit-wait-report.json and implicit-wait-report.txt to a directory
+     * @param directory output directory, created if missing
+     * @return true if both files were written
+     */
+    public static boolean export(Path directory) {
+        if (misses.isEmpty()) {
+            return false;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("implicit-wait-report.json"), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("implicit-wait-report.txt"), toTable().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            logger.warn("Could not export implicit wait report to {}: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InBrowserWait runs a whole wait inside the browser with one executeAsyncScript call
+ * The script re-evaluates the conditions on the animation frame after each DOM mutation, transition or
+ * animation, plus every check interval for changes no event reports, and calls back as soon as they hold.
+ * Used by WaitUtils when wait.engine=browser.
+ */
+public class InBrowserWait {
+
+    private static final Logger logger = LogManager.getLogger(InBrowserWait.class);
+    private static final long DEFAULT_SCRIPT_TIMEOUT_MILLIS = 30000;
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 1000;
+    // Script timeout per session, read once; a wait longer than it runs as several script calls
+    private static final Map<WebDriver, Long> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static final String WAIT_SCRIPT =
+            "var conditions = arguments[0], all = arguments[1], timeoutMillis = arguments[2]," +
+            "    intervalMillis = arguments[3], callback = arguments[arguments.length - 1];" +
+            "var evaluate = " + ElementCondition.EVALUATOR + ";" +
+            "var done = false, frame = 0, observer, interval, timer;" +
+            "var events = ['transitionend', 'animationend'];" +
+            "function finish(results, met) {" +
+            "  done = true;" +
+            "  if (observer) { observer.disconnect(); }" +
+            "  if (frame) { cancelAnimationFrame(frame); }" +
+            "  clearInterval(interval); clearTimeout(timer);" +
+            "  events.forEach(function (type) { document.removeEventListener(type, schedule, true); });" +
+            "  callback({ met: met, results: results });" +
+            "}" +
+            "function check() {" +
+            "  if (done) { return; }" +
+            "  var results = evaluate(conditions);" +
+            "  var met = all ? results.every(Boolean) : results.some(Boolean);" +
+            "  if (met) { finish(results, true); }" +
+            "}" +
+            "function schedule() {" +
+            "  if (done || frame) { return; }" +
+            "  if (document.hidden) { setTimeout(check, 0); return; }" +
+            "  frame = requestAnimationFrame(function () { frame = 0; check(); });" +
+            "}" +
+            "observer = new MutationObserver(schedule);" +
+            "observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+            "events.forEach(function (type) { document.addEventListener(type, schedule, true); });" +
+            "interval = setInterval(check, intervalMillis);" +
+            "timer = setTimeout(function () { if (!done) { finish(evaluate(conditions), false); } }, timeoutMillis);" +
+            "check();";
+
+    private final WebDriver driver;
+    private final long checkIntervalMillis;
+    private int scriptCalls;
+
+    /**
+     * Creates an in-browser wait for a session
+     * @param driver WebDriver instance
+     * @param checkIntervalMillis interval of the safety check for changes without a DOM mutation
+     */
+    public InBrowserWait(WebDriver driver, long checkIntervalMillis) {
+        this.driver = driver;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    /**
+     * Checks if a wait on the conditions can run in the browser
+     * @param driver WebDriver instance
+     * @param conditions element conditions
+     * @return true if the driver runs scripts and the script can resolve every locator
+     */
+    public static boolean supports(WebDriver driver, ElementCondition... conditions) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        for (ElementCondition condition : conditions) {
+            if (condition.toScriptArguments() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits in the browser until all or any of the conditions hold
+     * A navigation ends the running script; the wait then continues in the new document.
+     * @param timeout maximum time to wait
+     * @param all true to wait for all conditions, false for any
+     * @param conditions element conditions the script can resolve
+     * @return result of each condition when the wait ended, in the given order
+     */
+    public Map<ElementCondition, Boolean> await(Duration timeout, boolean all, ElementCondition... conditions) {
+        List<Object> scriptConditions = new ArrayList<>();
+        Map<ElementCondition, Boolean> results = new LinkedHashMap<>();
+        for (ElementCondition condition : conditions) {
+            scriptConditions.add(condition.toScriptArguments());
+            results.put(condition, false);
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        scriptCalls = 0;
+        while (true) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            long sliceMillis = Math.max(0, Math.min(remainingMillis, getScriptTimeoutMillis() - SCRIPT_TIMEOUT_MARGIN_MILLIS));
+            try {
+                scriptCalls++;
+                Object outcome = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, scriptConditions,
+                        all, sliceMillis, checkIntervalMillis);
+                if (outcome instanceof Map) {
+                    Map<?, ?> response = (Map<?, ?>) outcome;
+                    List<?> scriptResults = response.get("results") instanceof List
+                            ? (List<?>) response.get("results") : Collections.emptyList();
+                    for (int i = 0; i < conditions.length; i++) {
+                        results.put(conditions[i], i < scriptResults.size() && Boolean.TRUE.equals(scriptResults.get(i)));
+                    }
+                    if (Boolean.TRUE.equals(response.get("met"))) {
+                        return results;
+                    }
+                }
+            } catch (ScriptTimeoutException e) {
+                // The session's script timeout was lowered since it was read
+                scriptTimeouts.put(driver, Math.max(2 * SCRIPT_TIMEOUT_MARGIN_MILLIS, getScriptTimeoutMillis() / 2));
+                logger.debug("In-browser wait hit the script timeout, retrying with a shorter slice");
+            } catch (JavascriptException e) {
+                logger.debug("In-browser wait interrupted, e.g. by a navigation: {}", e.getMessage());
+                pause();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return results;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of script calls made by the last wait
+     * @return script call count
+     */
+    public int getScriptCallCount() {
+        return scriptCalls;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(checkIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long getScriptTimeoutMillis() {
+        Long cached = scriptTimeouts.get(driver);
+        if (cached != null) {
+            return cached;
+        }
+        long timeoutMillis = DEFAULT_SCRIPT_TIMEOUT_MILLIS;
+        try {
+            Duration scriptTimeout = driver.manage().timeouts().getScriptTimeout();
+            if (scriptTimeout != null && scriptTimeout.toMillis() > SCRIPT_TIMEOUT_MARGIN_MILLIS) {
+                timeoutMillis = scriptTimeout.toMillis();
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Could not read the script timeout, assuming {} ms", DEFAULT_SCRIPT_TIMEOUT_MILLIS);
+        }
+        scriptTimeouts.put(driver, timeoutMillis);
+        return timeoutMillis;
+    }
+}
@@ -0,0 +1,236 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PageReadiness decides when a page is usable without waiting for the full load event.
+ * A page is ready once the document is past "loading", every critical element is visible and enabled,
+ * and optionally no fetch/XHR or resource request has been active for a quiet period.
+ * Each poll is a single script round trip.
+ * Meant for the eager and none page load strategies, where driver.get() returns before the load event.
+ */
+public class PageReadiness {
+
+    private static final Logger logger = LogManager.getLogger(PageReadiness.class);
+    private static final String READY = "ready";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private static final String READINESS_SCRIPT =
+            "var locators = arguments[0], idleMillis = arguments[1], targetUrl = arguments[2];" +
+            "if (window.__frameworkPreviousDocument && (targetUrl === null || location.href !== targetUrl)) {" +
+            "  return 'previous document';" +
+            "}" +
+            "if (document.readyState === 'loading') { return 'document loading'; }" +
+            "function find(type, value) {" +
+            "  switch (type) {" +
+            "    case 'id': return document.getElementById(value);" +
+            "    case 'name': return document.getElementsByName(value)[0] || null;" +
+            "    case 'css': return document.querySelector(value);" +
+            "    case 'xpath': return document.evaluate(value, document, null," +
+            "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    default: return null;" +
+            "  }" +
+            "}" +
+            "for (var i = 0; i < locators.length; i++) {" +
+            "  var element = find(locators[i][0], locators[i][1]);" +
+            "  if (!element) { return 'waiting for ' + locators[i][2]; }" +
+            "  var style = window.getComputedStyle(element);" +
+            "  if (element.getClientRects().length === 0 || style.visibility === 'hidden') {" +
+            "    return 'not visible: ' + locators[i][2];" +
+            "  }" +
+            "  if (element.disabled) { return 'disabled: ' + locators[i][2]; }" +
+            "}" +
+            "if (idleMillis >= 0) {" +
+            "  var tracker = window.__frameworkNetworkTracker;" +
+            "  if (!tracker) {" +
+            "    tracker = window.__frameworkNetworkTracker = { inflight: 0, last: performance.now() };" +
+            "    var done = function () { tracker.inflight--; tracker.last = performance.now(); };" +
+            "    if (window.fetch) {" +
+            "      var originalFetch = window.fetch;" +
+            "      window.fetch = function () {" +
+            "        tracker.inflight++; tracker.last = performance.now();" +
+            "        return originalFetch.apply(this, arguments).finally(done);" +
+            "      };" +
+            "    }" +
+            "    var originalSend = XMLHttpRequest.prototype.send;" +
+            "    XMLHttpRequest.prototype.send = function () {" +
+            "      tracker.inflight++; tracker.last = performance.now();" +
+            "      this.addEventListener('loadend', done);" +
+            "      return originalSend.apply(this, arguments);" +
+            "    };" +
+            "  }" +
+            "  if (tracker.inflight > 0) { return 'network busy: ' + tracker.inflight + ' requests'; }" +
+            "  var last = tracker.last;" +
+            "  var resources = performance.getEntriesByType('resource');" +
+            "  for (var j = 0; j < resources.length; j++) { last = Math.max(last, resources[j].responseEnd); }" +
+            "  if (performance.now() - last < idleMillis) { return 'network busy'; }" +
+            "}" +
+            "return 'ready';";
+
+    private final WebDriver driver;
+    private final int timeoutSeconds;
+    private final boolean waitForNetworkIdle;
+    private final long networkIdleMillis;
+    private PollingStrategy polling;
+
+    /**
+     * Creates a readiness engine
+     * @param driver WebDriver instance
+     * @param timeoutSeconds maximum time to wait for readiness
+     * @param waitForNetworkIdle if true, also wait until the network has been quiet for networkIdleMillis
+     * @param networkIdleMillis quiet period that counts as network idle
+     */
+    public PageReadiness(WebDriver driver, int timeoutSeconds, boolean waitForNetworkIdle, long networkIdleMillis) {
+        this.driver = driver;
+        this.timeoutSeconds = timeoutSeconds;
+        this.waitForNetworkIdle = waitForNetworkIdle;
+        this.networkIdleMillis = networkIdleMillis;
+    }
+
+    /**
+     * Sets the polling strategy of readiness checks
+     * By default checks run every 100 ms, or follow wait.polling.strategy when a backoff strategy is configured.
+     * @param polling polling strategy, or null for the default
+     */
+    public void setPollingStrategy(PollingStrategy polling) {
+        this.polling = polling;
+    }
+
+    private PollingStrategy resolvePolling() {
+        if (polling != null) {
+            return polling;
+        }
+        PollingStrategy configured = WaitUtils.getConfiguredPolling();
+        return configured.getType() != PollingStrategy.Type.FIXED
+                ? configured : PollingStrategy.fixed(POLL_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Marks the current document so readiness checks ignore it after a navigation is started
+     * Needed with the none strategy, where navigation commands return before the new document exists.
+     */
+    public void markCurrentDocument() {
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.__frameworkPreviousDocument = true;");
+        } catch (WebDriverException e) {
+            logger.debug("Could not mark current document: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Waits until the page is ready
+     * @param criticalLocators elements that must be visible and enabled
+     * @return true if the page became ready, false if the timeout expired
+     */
+    public boolean waitUntilReady(By... criticalLocators) {
+        return waitUntilReady(null, criticalLocators);
+    }
+
+    /**
+     * Waits until the page navigated to the given URL is ready
+     * A target URL with a fragment lets a same-document navigation (hash change) count as the new page.
+     * @param targetUrl URL being navigated to, or null
+     * @param criticalLocators elements that must be visible and enabled
+     * @return true if the page became ready, false if the timeout expired
+     */
+    public boolean waitUntilReady(String targetUrl, By... criticalLocators) {
+        List<Object> scriptLocators = new ArrayList<>();
+        List<By> driverLocators = new ArrayList<>();
+        for (By locator : criticalLocators) {
+            String[] scriptLocator = toScriptLocator(locator);
+            if (scriptLocator != null) {
+                scriptLocators.add(Arrays.asList(scriptLocator));
+            } else {
+                driverLocators.add(locator);
+            }
+        }
+        long idleMillis = waitForNetworkIdle ? networkIdleMillis : -1;
+        // Only fragment navigations keep the marked document; any other URL match could still be the old page
+        String sameDocumentUrl = targetUrl != null && targetUrl.contains("#") ? targetUrl : null;
+
+        String[] lastStatus = {"not checked"};
+        long start = System.currentTimeMillis();
+        PollingStrategy.PollingSleeper sleeper = resolvePolling().newSleeper(Duration.ofSeconds(timeoutSeconds),
+                WaitUtils.newSleeper(driver));
+        try {
+            new FluentWait<>(driver, Clock.systemDefaultZone(), sleeper)
+                    .withTimeout(Duration.ofSeconds(timeoutSeconds))
+                    .pollingEvery(Duration.ofMillis(POLL_INTERVAL_MILLIS))
+                    .ignoring(JavascriptException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(d -> {
+                        lastStatus[0] = String.valueOf(((JavascriptExecutor) d).executeScript(
+                                READINESS_SCRIPT, scriptLocators, idleMillis, sameDocumentUrl));
+                        if (!READY.equals(lastStatus[0])) {
+                            return false;
+                        }
+                        for (By locator : driverLocators) {
+                            if (!isInteractive(d, locator)) {
+                                lastStatus[0] = "waiting for " + locator;
+                                return false;
+                            }
+                        }
+                        return true;
+                    });
+            logger.debug("Page ready after {} ms and {} polls", System.currentTimeMillis() - start,
+                    sleeper.getPollCount());
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Page not ready after {}s and {} polls: {}", timeoutSeconds, sleeper.getPollCount(),
+                    lastStatus[0]);
+            return false;
+        }
+    }
+
+    private static boolean isInteractive(WebDriver driver, By locator) {
+        List<WebElement> elements = driver.findElements(locator);
+        return !elements.isEmpty() && elements.get(0).isDisplayed() && elements.get(0).isEnabled();
+    }
+
+    /**
+     * Converts a locator to a type/value/description triple the readiness script can evaluate
+     * @param locator By locator
+     * @return script locator, or null if the locator must be checked through the driver
+     */
+    static String[] toScriptLocator(By locator) {
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (!description.startsWith("By.") || separator < 0) {
+            return null;
+        }
+        String strategy = description.substring(3, separator);
+        String value = description.substring(separator + 2);
+        switch (strategy) {
+            case "id":
+                return new String[] {"id", value, description};
+            case "name":
+                return new String[] {"name", value, description};
+            case "cssSelector":
+                return new String[] {"css", value, description};
+            case "className":
+                return new String[] {"css", "." + value, description};
+            case "tagName":
+                return new String[] {"css", value, description};
+            case "xpath":
+                return new String[] {"xpath", value, description};
+            default:
+                return null;
+        }
+    }
+}
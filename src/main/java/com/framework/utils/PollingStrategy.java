@@ -0,0 +1,225 @@
+package com.framework.utils;
+
+import com.framework.config.TestConfig;
+import com.framework.exceptions.ConfigurationException;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PollingStrategy decides how long a wait sleeps between two checks of its condition.
+ * The first check is always immediate; the n-th sleep is fixed, grows exponentially or follows
+ * the Fibonacci sequence, never exceeds the cap, and can be spread by random jitter so parallel
+ * tests do not poll the grid in lockstep.
+ */
+public final class PollingStrategy {
+
+    /**
+     * Growth of the delay between checks
+     */
+    public enum Type {
+        FIXED,
+        EXPONENTIAL,
+        FIBONACCI
+    }
+
+    private final Type type;
+    private final long initialMillis;
+    private final long maxMillis;
+    private final double multiplier;
+    private final double jitter;
+
+    private PollingStrategy(Type type, long initialMillis, long maxMillis, double multiplier, double jitter) {
+        if (initialMillis < 0 || maxMillis < initialMillis) {
+            throw new IllegalArgumentException("Polling delays must satisfy 0 <= initial <= max, got "
+                    + initialMillis + " and " + maxMillis);
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1, got " + jitter);
+        }
+        this.type = type;
+        this.initialMillis = initialMillis;
+        this.maxMillis = maxMillis;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Sleeps the same interval between all checks
+     * @param intervalMillis interval in milliseconds
+     * @return strategy
+     */
+    public static PollingStrategy fixed(long intervalMillis) {
+        return new PollingStrategy(Type.FIXED, intervalMillis, intervalMillis, 1, 0);
+    }
+
+    /**
+     * Multiplies the interval after every check
+     * @param initialMillis first interval in milliseconds
+     * @param multiplier growth factor, at least 1
+     * @param maxMillis cap in milliseconds
+     * @return strategy
+     */
+    public static PollingStrategy exponential(long initialMillis, double multiplier, long maxMillis) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1, got " + multiplier);
+        }
+        return new PollingStrategy(Type.EXPONENTIAL, initialMillis, maxMillis, multiplier, 0);
+    }
+
+    /**
+     * Grows the interval like the Fibonacci sequence: initial, initial, 2x, 3x, 5x, ...
+     * Grows slower than doubling, so slow pages are still checked fairly often.
+     * @param initialMillis first interval in milliseconds
+     * @param maxMillis cap in milliseconds
+     * @return strategy
+     */
+    public static PollingStrategy fibonacci(long initialMillis, long maxMillis) {
+        return new PollingStrategy(Type.FIBONACCI, initialMillis, maxMillis, 1, 0);
+    }
+
+    /**
+     * Returns a copy that randomly shortens or lengthens each interval
+     * @param jitter fraction of the interval, e.g. 0.2 for +/-20%
+     * @return strategy with jitter
+     */
+    public PollingStrategy withJitter(double jitter) {
+        return new PollingStrategy(type, initialMillis, maxMillis, multiplier, jitter);
+    }
+
+    /**
+     * Creates the strategy configured by wait.polling.*
+     * @param config test configuration
+     * @return configured strategy
+     * @throws ConfigurationException if the strategy name or its values are invalid
+     */
+    public static PollingStrategy fromConfig(TestConfig config) {
+        String name = config.getWaitPollingStrategy().trim().toUpperCase(Locale.ROOT);
+        try {
+            PollingStrategy strategy;
+            switch (Type.valueOf(name)) {
+                case EXPONENTIAL:
+                    strategy = exponential(config.getWaitPollingInitialMillis(), config.getWaitPollingMultiplier(),
+                            config.getWaitPollingMaxMillis());
+                    break;
+                case FIBONACCI:
+                    strategy = fibonacci(config.getWaitPollingInitialMillis(), config.getWaitPollingMaxMillis());
+                    break;
+                default:
+                    strategy = fixed(config.getWaitPollingInitialMillis());
+                    break;
+            }
+            return strategy.withJitter(config.getWaitPollingJitter());
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("wait.polling.strategy",
+                    "Invalid polling strategy '" + config.getWaitPollingStrategy() + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the interval before a check, without jitter
+     * @param sleepNumber 1 for the sleep after the first check, 2 after the second, ...
+     * @return interval in milliseconds
+     */
+    public long getDelayMillis(int sleepNumber) {
+        double delay;
+        switch (type) {
+            case EXPONENTIAL:
+                delay = initialMillis * Math.pow(multiplier, sleepNumber - 1);
+                break;
+            case FIBONACCI:
+                long previous = 0;
+                long current = 1;
+                for (int i = 1; i < sleepNumber && current * initialMillis < maxMillis; i++) {
+                    long next = previous + current;
+                    previous = current;
+                    current = next;
+                }
+                delay = (double) current * initialMillis;
+                break;
+            default:
+                delay = initialMillis;
+                break;
+        }
+        return (long) Math.min(delay, maxMillis);
+    }
+
+    /**
+     * Gets the interval before a check with jitter applied
+     * @param sleepNumber 1 for the sleep after the first check, 2 after the second, ...
+     * @return interval in milliseconds, never above the cap
+     */
+    long nextDelayMillis(int sleepNumber) {
+        long delay = getDelayMillis(sleepNumber);
+        if (jitter > 0 && delay > 0) {
+            double spread = delay * jitter;
+            delay = Math.round(delay + ThreadLocalRandom.current().nextDouble(-spread, spread));
+        }
+        return Math.max(0, Math.min(delay, maxMillis));
+    }
+
+    /**
+     * Creates the sleeper for one wait
+     * @param timeout timeout of the wait; no sleep runs past it
+     * @param delegate sleeper that does the sleeping, e.g. one that wakes early on page changes
+     * @return sleeper counting the polls of the wait
+     */
+    public PollingSleeper newSleeper(Duration timeout, Sleeper delegate) {
+        return new PollingSleeper(this, timeout, delegate);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getInitialMillis() {
+        return initialMillis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PollingStrategy{%s, initial=%dms, max=%dms%s%s}", type, initialMillis, maxMillis,
+                type == Type.EXPONENTIAL ? ", multiplier=" + multiplier : "",
+                jitter > 0 ? ", jitter=" + jitter : "");
+    }
+
+    /**
+     * Sleeper for one FluentWait that follows a PollingStrategy and counts polls
+     * FluentWait passes its fixed polling interval; that value is ignored in favour of the strategy.
+     */
+    public static final class PollingSleeper implements Sleeper {
+
+        private final PollingStrategy strategy;
+        private final Sleeper delegate;
+        private final long deadline;
+        private int sleeps;
+
+        private PollingSleeper(PollingStrategy strategy, Duration timeout, Sleeper delegate) {
+            this.strategy = strategy;
+            this.delegate = delegate;
+            this.deadline = System.nanoTime() + timeout.toNanos();
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            sleeps++;
+            long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            long delay = Math.max(0, Math.min(strategy.nextDelayMillis(sleeps), remainingMillis));
+            delegate.sleep(Duration.ofMillis(delay));
+        }
+
+        /**
+         * Gets the number of times the condition was checked so far
+         * @return polls, counting the immediate first check
+         */
+        public int getPollCount() {
+            return sleeps + 1;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TableData holds the header and cell texts of an HTML table extracted by BulkExtractor
+ * Rows are kept as plain string lists; columns are looked up by header text.
+ */
+public final class TableData {
+
+    private final List<String> headers;
+    private final List<List<String>> rows;
+
+    /**
+     * Creates table data
+     * @param headers header cell texts, empty if the table has no header row
+     * @param rows cell texts of each body row
+     */
+    public TableData(List<String> headers, List<List<String>> rows) {
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public List<List<String>> getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Gets the cell texts of one row
+     * @param index row index, 0 for the first body row
+     * @return cell texts
+     */
+    public List<String> getRow(int index) {
+        return rows.get(index);
+    }
+
+    /**
+     * Gets a cell by row index and header
+     * @param index row index
+     * @param header header text
+     * @return cell text, or null if the row has no such column
+     */
+    public String getCell(int index, String header) {
+        int column = columnIndex(header);
+        List<String> row = rows.get(index);
+        return column < row.size() ? row.get(column) : null;
+    }
+
+    /**
+     * Gets all cells of a column
+     * @param header header text
+     * @return cell text of each row, null where a row is shorter
+     */
+    public List<String> getColumn(String header) {
+        int column = columnIndex(header);
+        List<String> cells = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            cells.add(column < row.size() ? row.get(column) : null);
+        }
+        return cells;
+    }
+
+    /**
+     * Gets the rows as maps from header to cell text
+     * @return one map per row, in column order
+     */
+    public List<Map<String, String>> asMaps() {
+        List<Map<String, String>> maps = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int column = 0; column < headers.size() && column < row.size(); column++) {
+                map.put(headers.get(column), row.get(column));
+            }
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private int columnIndex(String header) {
+        int column = headers.indexOf(header);
+        if (column < 0) {
+            throw new IllegalArgumentException("No column '" + header + "' in " + headers);
+        }
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return "TableData" + headers + " with " + rows.size() + " rows";
+    }
+}
@@ -0,0 +1,126 @@
+package com.framework.utils;
+
+import com.framework.config.ConfigManager;
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * VirtualThreads creates Java 21 virtual threads for blocking framework calls
+ * The framework is compiled for Java 11, so the virtual thread API is looked up reflectively;
+ * on older runtimes everything falls back to daemon platform threads.
+ */
+public final class VirtualThreads {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreads.class);
+    private static final Method ofVirtual = lookup(Thread.class, "ofVirtual");
+    private static final Method newThreadPerTaskExecutor =
+            lookup(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    private static final AtomicInteger ioThreadCounter = new AtomicInteger();
+    private static final Object lock = new Object();
+    private static volatile ExecutorService ioExecutor;
+
+    private VirtualThreads() {
+    }
+
+    private static Method lookup(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the running JVM supports virtual threads
+     * @return true on Java 21 or later
+     */
+    public static boolean isSupported() {
+        return ofVirtual != null && newThreadPerTaskExecutor != null;
+    }
+
+    /**
+     * Checks if virtual threads are configured and supported
+     * @return true if execution.thread.mode=virtual and the JVM supports virtual threads
+     */
+    public static boolean isEnabled() {
+        return isSupported() && ConfigManager.getInstance().getTestConfig().isVirtualThreadExecution();
+    }
+
+    /**
+     * Creates a factory for virtual threads named prefix0, prefix1, ...
+     * @param prefix thread name prefix
+     * @return virtual thread factory
+     * @throws FrameworkException if the JVM does not support virtual threads
+     */
+    public static ThreadFactory newVirtualThreadFactory(String prefix) {
+        if (!isSupported()) {
+            throw new FrameworkException("Virtual threads require Java 21, running on " + System.getProperty("java.version"));
+        }
+        try {
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException("Could not create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task
+     * @param prefix thread name prefix
+     * @return thread-per-task executor
+     * @throws FrameworkException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor(String prefix) {
+        ThreadFactory factory = newVirtualThreadFactory(prefix);
+        try {
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException("Could not create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Gets the shared executor for blocking I/O such as API calls and database queries
+     * Uses virtual threads when enabled, otherwise a cached pool of daemon platform threads.
+     * @return shared I/O executor
+     */
+    public static ExecutorService getIoExecutor() {
+        if (ioExecutor == null) {
+            synchronized (lock) {
+                if (ioExecutor == null) {
+                    if (isEnabled()) {
+                        ioExecutor = newVirtualThreadExecutor("framework-io-");
+                        logger.info("Blocking I/O runs on virtual threads");
+                    } else {
+                        ioExecutor = Executors.newCachedThreadPool(runnable -> {
+                            Thread thread = new Thread(runnable, "framework-io-" + ioThreadCounter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                    }
+                }
+            }
+        }
+        return ioExecutor;
+    }
+
+    /**
+     * Runs a blocking call on the I/O executor with the caller's ExecutionContext
+     * @param call blocking call
+     * @return future completed with the call's result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(ExecutionContext.current().wrapSupplier(call), getIoExecutor());
+    }
+}
@@ -0,0 +1,250 @@
+package com.framework.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaitTelemetry records every wait and lookup per locator and wait type
+ * Counters are LongAdders and latencies go into fixed power-of-two buckets, so recording from
+ * parallel tests never takes a lock. At suite end the locators are ranked by total time spent
+ * waiting on them, with a JSON copy that can be diffed between builds.
+ */
+public final class WaitTelemetry {
+
+    private static final Logger logger = LogManager.getLogger(WaitTelemetry.class);
+    private static final ConcurrentMap<String, LocatorStats> stats = new ConcurrentHashMap<>();
+
+    private WaitTelemetry() {
+    }
+
+    /**
+     * Records one wait
+     * @param waitType wait method, e.g. waitForElementVisible
+     * @param target locator or other wait target
+     * @param elapsedNanos time the wait took
+     * @param timedOut true if the wait expired without its condition being met
+     * @param polls number of condition checks
+     */
+    public static void record(String waitType, Object target, long elapsedNanos, boolean timedOut, int polls) {
+        if (!ConfigManager.getInstance().getTestConfig().isWaitTelemetryEnabled()) {
+            return;
+        }
+        String locator = String.valueOf(target);
+        stats.computeIfAbsent(waitType + '\u0000' + locator, key -> new LocatorStats(locator, waitType))
+                .record(elapsedNanos, timedOut, polls);
+    }
+
+    /**
+     * Gets the statistics of all locators and wait types
+     * @return statistics, most total wait time first
+     */
+    public static List<LocatorStats> getRanked() {
+        List<LocatorStats> ranked = new ArrayList<>(stats.values());
+        ranked.sort(Comparator.comparingLong(LocatorStats::getTotalNanos).reversed()
+                .thenComparing(LocatorStats::getLocator)
+                .thenComparing(LocatorStats::getWaitType));
+        return ranked;
+    }
+
+    /**
+     * Clears all statistics
+     */
+    public static void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Formats the slowest locators as a text table in milliseconds
+     * @param limit maximum number of rows
+     * @return table ranked by total wait time
+     */
+    public static String toTable(int limit) {
+        StringBuilder table = new StringBuilder(String.format("%10s %7s %8s %8s %9s %9s %9s  %-28s %s%n",
+                "Total ms", "Calls", "Timeouts", "Polls", "p50 ms", "p95 ms", "max ms", "Wait", "Locator"));
+        List<LocatorStats> ranked = getRanked();
+        for (LocatorStats entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            table.append(String.format("%10.1f %7d %8d %8d %9.1f %9.1f %9.1f  %-28s %s%n",
+                    toMillis(entry.getTotalNanos()), entry.getCalls(), entry.getTimeouts(), entry.getPolls(),
+                    toMillis(entry.getPercentileNanos(50)), toMillis(entry.getPercentileNanos(95)),
+                    toMillis(entry.getMaxNanos()), entry.getWaitType(), entry.getLocator()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Formats all statistics as JSON
+     * Rows are sorted by locator and wait type, not by time, so two builds diff line by line.
+     * @return JSON array with one object per locator and wait type
+     */
+    public static String toJson() {
+        List<LocatorStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort(Comparator.comparing(LocatorStats::getLocator).thenComparing(LocatorStats::getWaitType));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LocatorStats entry : sorted) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("locator", entry.getLocator());
+            row.put("waitType", entry.getWaitType());
+            row.put("calls", entry.getCalls());
+            row.put("timeouts", entry.getTimeouts());
+            row.put("polls", entry.getPolls());
+            row.put("totalMillis", toMillis(entry.getTotalNanos()));
+            row.put("p50Millis", toMillis(entry.getPercentileNanos(50)));
+            row.put("p95Millis", toMillis(entry.getPercentileNanos(95)));
+            row.put("maxMillis", toMillis(entry.getMaxNanos()));
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int bucket = 0; bucket < LocatorStats.BUCKETS; bucket++) {
+                long count = entry.buckets.get(bucket);
+                if (count > 0) {
+                    histogram.put("le" + LocatorStats.upperBoundMillis(bucket) + "ms", count);
+                }
+            }
+            row.put("histogram", histogram);
+            rows.add(row);
+        }
+        try {
+            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(rows);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize wait telemetry", e);
+        }
+    }
+
+    /**
+     * Writes wait-telemetry.json and slow-locators.txt to a directory
+     * @param directory output directory, created if missing
+     * @param limit maximum number of rows in the text report
+     * @return true if both files were written
+     */
+    public static boolean export(Path directory, int limit) {
+        if (stats.isEmpty()) {
+            return false;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("wait-telemetry.json"), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("slow-locators.txt"), toTable(limit).getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            logger.warn("Could not export wait telemetry to {}: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    /**
+     * Statistics of one locator and wait type
+     * Bucket i counts waits up to 2^i ms; the last bucket takes everything longer.
+     */
+    public static final class LocatorStats {
+        static final int BUCKETS = 18;
+
+        private final String locator;
+        private final String waitType;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        private LocatorStats(String locator, String waitType) {
+            this.locator = locator;
+            this.waitType = waitType;
+        }
+
+        void record(long elapsedNanos, boolean timedOut, int pollCount) {
+            calls.increment();
+            if (timedOut) {
+                timeouts.increment();
+            }
+            polls.add(pollCount);
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            buckets.incrementAndGet(bucketOf(elapsedNanos));
+        }
+
+        static int bucketOf(long elapsedNanos) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            int bucket = millis <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(millis - 1);
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        static long upperBoundMillis(int bucket) {
+            return 1L << bucket;
+        }
+
+        /**
+         * Gets an approximate percentile: the upper bound of the bucket holding the nearest rank
+         * @param percentile percentile between 0 and 100
+         * @return latency in nanoseconds, capped at the maximum seen, 0 if there are no samples
+         */
+        public long getPercentileNanos(double percentile) {
+            long count = 0;
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+                count += snapshot[i];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(TimeUnit.MILLISECONDS.toNanos(upperBoundMillis(i)), getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public String getWaitType() {
+            return waitType;
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public long getPolls() {
+            return polls.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
+}
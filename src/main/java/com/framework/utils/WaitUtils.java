@@ -1,26 +1,51 @@
 package com.framework.utils;
 
 import com.framework.config.ConfigManager;
+import com.framework.config.TestConfig;
+import com.framework.driver.PageChangeSignal;
 import com.framework.exceptions.ElementNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 
 /**
  * WaitUtils provides custom explicit wait conditions and fluent wait utilities
  * for robust element interactions in Selenium tests
+ * With wait.event.driven.enabled, waits re-check their condition when the page changes
+ * instead of sleeping the full polling interval. Otherwise the delay between checks follows
+ * the configured PollingStrategy, which withPolling() overrides for one WaitUtils.
+ * With wait.engine=browser, element waits run inside the browser as one script call (see InBrowserWait).
  */
 public class WaitUtils {
     
+    private static final Logger logger = LogManager.getLogger(WaitUtils.class);
+    private static final AtomicLong totalWaits = new AtomicLong();
+    private static final AtomicLong totalPolls = new AtomicLong();
+    
+    private static final String MULTI_CONDITION_SCRIPT = "return (" + ElementCondition.EVALUATOR + ")(arguments[0]);";
+    
     private final WebDriver driver;
     private final int defaultTimeout;
     private final int pollingInterval;
+    private final PollingStrategy polling;
+    private final ElementLookup lookup;
+    private volatile IntSupplier lastPolls;
     
     /**
      * Constructor with WebDriver instance
@@ -30,6 +55,8 @@ public class WaitUtils {
         this.driver = driver;
         this.defaultTimeout = ConfigManager.getInstance().getTestConfig().getExplicitTimeout();
         this.pollingInterval = 500; // 500ms default polling interval
+        this.polling = null;
+        this.lookup = new ElementLookup(driver);
     }
     
     /**
@@ -38,9 +65,196 @@ public class WaitUtils {
      * @param timeout custom timeout in seconds
      */
     public WaitUtils(WebDriver driver, int timeout) {
+        this(driver, timeout, null);
+    }
+    
+    private WaitUtils(WebDriver driver, int timeout, PollingStrategy polling) {
         this.driver = driver;
         this.defaultTimeout = timeout;
         this.pollingInterval = 500;
+        this.polling = polling;
+        this.lookup = new ElementLookup(driver);
+    }
+    
+    /**
+     * Creates a copy whose waits poll with the given strategy, also when page change events are available
+     * @param polling polling strategy
+     * @return WaitUtils using the strategy
+     */
+    public WaitUtils withPolling(PollingStrategy polling) {
+        return new WaitUtils(driver, defaultTimeout, polling);
+    }
+    
+    /**
+     * Gets the polling strategy configured by wait.polling.*
+     * @return configured strategy; fixed 500 ms when not configured
+     */
+    static PollingStrategy getConfiguredPolling() {
+        TestConfig config = ConfigManager.getInstance().getTestConfig();
+        if (config.getWaitPollingStrategy() == null) {
+            return PollingStrategy.fixed(500);
+        }
+        return PollingStrategy.fromConfig(config);
+    }
+    
+    /**
+     * Gets the page change signal of a session
+     * @param driver WebDriver instance
+     * @return signal, or null if event-driven waits are disabled or the session supports neither BiDi nor DevTools
+     */
+    static PageChangeSignal getPageChangeSignal(WebDriver driver) {
+        TestConfig config = ConfigManager.getInstance().getTestConfig();
+        if (!config.isWaitEventDrivenEnabled()) {
+            return null;
+        }
+        return PageChangeSignal.forDriver(driver, config.getWaitEventMinIntervalMillis());
+    }
+    
+    /**
+     * Gets the sleeper for one wait
+     * Wakes on page change events when available, otherwise sleeps the full polling interval.
+     * @param driver WebDriver instance
+     * @return Sleeper for a FluentWait
+     */
+    static Sleeper newSleeper(WebDriver driver) {
+        PageChangeSignal signal = getPageChangeSignal(driver);
+        return signal != null ? signal.newSleeper() : Sleeper.SYSTEM_SLEEPER;
+    }
+    
+    /**
+     * Creates a sleeper for one wait of this WaitUtils
+     * With page change events the default strategy is a fixed fallback interval that only guards against missed events.
+     */
+    private PollingStrategy.PollingSleeper newPollingSleeper(int timeout, PollingStrategy strategy) {
+        PageChangeSignal signal = getPageChangeSignal(driver);
+        if (strategy == null) {
+            strategy = signal != null
+                    ? PollingStrategy.fixed(ConfigManager.getInstance().getTestConfig().getWaitEventFallbackIntervalMillis())
+                    : getConfiguredPolling();
+        }
+        PollingStrategy.PollingSleeper sleeper = strategy.newSleeper(Duration.ofSeconds(timeout),
+                signal != null ? signal.newSleeper() : Sleeper.SYSTEM_SLEEPER);
+        lastPolls = sleeper::getPollCount;
+        return sleeper;
+    }
+    
+    /**
+     * Waits for a condition with this WaitUtils' polling strategy and records the wait
+     */
+    private <T> T until(String waitType, Object target, int timeout, Function<? super WebDriver, T> condition) {
+        PollingStrategy.PollingSleeper sleeper = newPollingSleeper(timeout, polling);
+        // The interval passed here is ignored; the sleeper computes each delay from the strategy
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout), Duration.ofMillis(pollingInterval),
+                Clock.systemDefaultZone(), sleeper);
+        long start = System.nanoTime();
+        boolean met = false;
+        try {
+            T result = wait.until(condition);
+            met = true;
+            return result;
+        } finally {
+            recordWait(waitType, Collections.singletonList(target), start, met, sleeper.getPollCount());
+        }
+    }
+    
+    /**
+     * Records a finished wait in the poll counters and in WaitTelemetry, once per target
+     */
+    private static void recordWait(String waitType, List<?> targets, long startNanos, boolean met, int polls) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        totalWaits.incrementAndGet();
+        totalPolls.addAndGet(polls);
+        for (Object target : targets) {
+            WaitTelemetry.record(waitType, target, elapsedNanos, !met, polls);
+        }
+        logger.debug("{} for {} took {} polls", waitType, targets, polls);
+    }
+    
+    /**
+     * Runs a wait inside the browser when wait.engine=browser
+     * One executeAsyncScript per wait instead of one command per poll; each script call counts as a poll.
+     * @return result of each condition, or null if the wait must poll from here
+     */
+    private Map<ElementCondition, Boolean> awaitInBrowser(String waitType, int timeout, boolean all,
+                                                          ElementCondition... conditions) {
+        TestConfig config = ConfigManager.getInstance().getTestConfig();
+        if (!config.isInBrowserWaitEngine() || !InBrowserWait.supports(driver, conditions)) {
+            return null;
+        }
+        InBrowserWait wait = new InBrowserWait(driver, config.getWaitBrowserCheckIntervalMillis());
+        lastPolls = wait::getScriptCallCount;
+        long start = System.nanoTime();
+        Map<ElementCondition, Boolean> results = null;
+        try {
+            results = wait.await(Duration.ofSeconds(timeout), all, conditions);
+            return results;
+        } finally {
+            recordWait(waitType, locatorsOf(conditions), start, results != null && isMet(results, all),
+                    wait.getScriptCallCount());
+        }
+    }
+    
+    /**
+     * Waits in the browser for a single element condition
+     * @return true if met, false if the timeout expired, null if the wait must poll from here
+     */
+    private Boolean awaitInBrowser(String waitType, int timeout, ElementCondition condition) {
+        Map<ElementCondition, Boolean> results = awaitInBrowser(waitType, timeout, true, condition);
+        return results != null ? results.get(condition) : null;
+    }
+    
+    /**
+     * Waits in the browser for an element condition and then finds the element
+     * @return element, or null if the wait must poll from here
+     * @throws TimeoutException if the condition is not met within the timeout
+     */
+    private WebElement findInBrowser(String waitType, int timeout, ElementCondition condition) {
+        Boolean met = awaitInBrowser(waitType, timeout, condition);
+        if (met == null) {
+            return null;
+        }
+        if (!met) {
+            throw new TimeoutException("Timed out waiting in browser for " + condition);
+        }
+        return driver.findElement(condition.getLocator());
+    }
+    
+    private static boolean isMet(Map<ElementCondition, Boolean> results, boolean all) {
+        return all ? !results.containsValue(false) : results.containsValue(true);
+    }
+    
+    private static List<By> locatorsOf(ElementCondition... conditions) {
+        List<By> locators = new ArrayList<>();
+        for (ElementCondition condition : conditions) {
+            locators.add(condition.getLocator());
+        }
+        return locators;
+    }
+    
+    /**
+     * Gets the number of checks made by the last wait of this WaitUtils
+     * Also counts waits created with createFluentWait(), including one still running.
+     * @return poll count, or 0 if no wait was made yet
+     */
+    public int getLastPollCount() {
+        IntSupplier polls = lastPolls;
+        return polls != null ? polls.getAsInt() : 0;
+    }
+    
+    /**
+     * Gets the number of completed waitFor* waits across all threads
+     * @return wait count
+     */
+    public static long getTotalWaitCount() {
+        return totalWaits.get();
+    }
+    
+    /**
+     * Gets the number of checks made by completed waitFor* waits across all threads
+     * @return poll count
+     */
+    public static long getTotalPollCount() {
+        return totalPolls.get();
     }
     
     /**
@@ -62,8 +276,11 @@ public class WaitUtils {
      */
     public WebElement waitForElementVisible(By locator, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = findInBrowser("waitForElementVisible", timeout, ElementCondition.visible(locator));
+            if (element != null) {
+                return element;
+            }
+            return until("waitForElementVisible", locator, timeout, ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
             throw new ElementNotFoundException(locator, timeout, "Element not visible within " + timeout + " seconds: " + locator);
         }
@@ -88,8 +305,11 @@ public class WaitUtils {
      */
     public WebElement waitForElementClickable(By locator, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement element = findInBrowser("waitForElementClickable", timeout, ElementCondition.clickable(locator));
+            if (element != null) {
+                return element;
+            }
+            return until("waitForElementClickable", locator, timeout, ExpectedConditions.elementToBeClickable(locator));
         } catch (TimeoutException e) {
             throw new ElementNotFoundException(locator, timeout, "Element not clickable within " + timeout + " seconds: " + locator);
         }
@@ -114,8 +334,7 @@ public class WaitUtils {
      */
     public WebElement waitForElementPresent(By locator, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            return until("waitForElementPresent", locator, timeout, ExpectedConditions.presenceOfElementLocated(locator));
         } catch (TimeoutException e) {
             throw new ElementNotFoundException(locator, timeout, "Element not present within " + timeout + " seconds: " + locator);
         }
@@ -138,8 +357,8 @@ public class WaitUtils {
      */
     public boolean waitForElementToDisappear(By locator, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            return until("waitForElementToDisappear", locator, timeout,
+                    ExpectedConditions.invisibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
             return false;
         }
@@ -163,9 +382,14 @@ public class WaitUtils {
      * @return true when text is present
      */
     public boolean waitForTextToBePresentInElement(By locator, String text, int timeout) {
+        Boolean met = awaitInBrowser("waitForTextToBePresentInElement", timeout,
+                ElementCondition.textPresent(locator, text));
+        if (met != null) {
+            return met;
+        }
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            return until("waitForTextToBePresentInElement", locator, timeout,
+                    ExpectedConditions.textToBePresentInElementLocated(locator, text));
         } catch (TimeoutException e) {
             return false;
         }
@@ -191,9 +415,14 @@ public class WaitUtils {
      * @return true when attribute contains value
      */
     public boolean waitForAttributeToContain(By locator, String attribute, String value, int timeout) {
+        Boolean met = awaitInBrowser("waitForAttributeToContain", timeout,
+                ElementCondition.attributeContains(locator, attribute, value));
+        if (met != null) {
+            return met;
+        }
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
+            return until("waitForAttributeToContain", locator, timeout,
+                    ExpectedConditions.attributeContains(locator, attribute, value));
         } catch (TimeoutException e) {
             return false;
         }
@@ -216,8 +445,7 @@ public class WaitUtils {
      */
     public boolean waitForTitleContains(String title, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.titleContains(title));
+            return until("waitForTitleContains", "title", timeout, ExpectedConditions.titleContains(title));
         } catch (TimeoutException e) {
             return false;
         }
@@ -240,8 +468,7 @@ public class WaitUtils {
      */
     public boolean waitForUrlContains(String urlFragment, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            return wait.until(ExpectedConditions.urlContains(urlFragment));
+            return until("waitForUrlContains", "url", timeout, ExpectedConditions.urlContains(urlFragment));
         } catch (TimeoutException e) {
             return false;
         }
@@ -254,11 +481,17 @@ public class WaitUtils {
      * @return FluentWait instance
      */
     public FluentWait<WebDriver> createFluentWait(int timeout, int pollingInterval) {
-        return new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofMillis(pollingInterval))
-                .ignoring(NoSuchElementException.class)
-                .ignoring(StaleElementReferenceException.class);
+        return createFluentWait(timeout, PollingStrategy.fixed(pollingInterval));
+    }
+    
+    /**
+     * Creates a fluent wait that polls with the given strategy
+     * @param timeout timeout in seconds
+     * @param polling polling strategy
+     * @return FluentWait instance
+     */
+    public FluentWait<WebDriver> createFluentWait(int timeout, PollingStrategy polling) {
+        return newFluentWait(timeout, newPollingSleeper(timeout, polling));
     }
     
     /**
@@ -266,7 +499,15 @@ public class WaitUtils {
      * @return FluentWait instance
      */
     public FluentWait<WebDriver> createFluentWait() {
-        return createFluentWait(defaultTimeout, pollingInterval);
+        return newFluentWait(defaultTimeout, newPollingSleeper(defaultTimeout, polling));
+    }
+    
+    private FluentWait<WebDriver> newFluentWait(int timeout, Sleeper sleeper) {
+        return new FluentWait<>(driver, Clock.systemDefaultZone(), sleeper)
+                .withTimeout(Duration.ofSeconds(timeout))
+                .pollingEvery(Duration.ofMillis(pollingInterval))
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class);
     }
     
     /**
@@ -382,8 +623,108 @@ public class WaitUtils {
      * @return result of condition when met
      */
     public <T> T waitForCondition(Function<WebDriver, T> condition, int timeout) {
-        FluentWait<WebDriver> wait = createFluentWait(timeout, pollingInterval);
-        return wait.until(condition);
+        PollingStrategy.PollingSleeper sleeper = newPollingSleeper(timeout, polling);
+        // Lambdas have no readable toString; their caller identifies them instead
+        Object target = condition.getClass().isSynthetic() ? ElementLookup.findCallSite() : condition;
+        long start = System.nanoTime();
+        boolean met = false;
+        try {
+            T result = newFluentWait(timeout, sleeper).until(condition);
+            met = true;
+            return result;
+        } finally {
+            recordWait("waitForCondition", Collections.singletonList(target), start, met, sleeper.getPollCount());
+        }
+    }
+    
+    /**
+     * Waits until all conditions hold
+     * All conditions are checked in one script round trip per poll.
+     * @param conditions element conditions
+     * @return result of each condition at the last poll, in the given order
+     */
+    public Map<ElementCondition, Boolean> waitForAll(ElementCondition... conditions) {
+        return waitForAll(defaultTimeout, conditions);
+    }
+    
+    /**
+     * Waits until all conditions hold with custom timeout
+     * @param timeout timeout in seconds
+     * @param conditions element conditions
+     * @return result of each condition at the last poll; some are false if the timeout expired
+     */
+    public Map<ElementCondition, Boolean> waitForAll(int timeout, ElementCondition... conditions) {
+        return waitForConditions(timeout, true, conditions);
+    }
+    
+    /**
+     * Waits until at least one condition holds
+     * All conditions are checked in one script round trip per poll.
+     * @param conditions element conditions
+     * @return result of each condition at the last poll, in the given order
+     */
+    public Map<ElementCondition, Boolean> waitForAny(ElementCondition... conditions) {
+        return waitForAny(defaultTimeout, conditions);
+    }
+    
+    /**
+     * Waits until at least one condition holds with custom timeout
+     * @param timeout timeout in seconds
+     * @param conditions element conditions
+     * @return result of each condition at the last poll; all are false if the timeout expired
+     */
+    public Map<ElementCondition, Boolean> waitForAny(int timeout, ElementCondition... conditions) {
+        return waitForConditions(timeout, false, conditions);
+    }
+    
+    private Map<ElementCondition, Boolean> waitForConditions(int timeout, boolean all, ElementCondition... conditions) {
+        String waitType = all ? "waitForAll" : "waitForAny";
+        Map<ElementCondition, Boolean> inBrowser = awaitInBrowser(waitType, timeout, all, conditions);
+        if (inBrowser != null) {
+            if (!isMet(inBrowser, all)) {
+                logger.warn("Conditions not met within {} seconds: {}", timeout, inBrowser);
+            }
+            return inBrowser;
+        }
+        List<Object> scriptConditions = new ArrayList<>();
+        List<ElementCondition> scriptEvaluated = new ArrayList<>();
+        for (ElementCondition condition : conditions) {
+            List<Object> arguments = condition.toScriptArguments();
+            if (arguments != null) {
+                scriptConditions.add(arguments);
+                scriptEvaluated.add(condition);
+            }
+        }
+        
+        Map<ElementCondition, Boolean> results = new LinkedHashMap<>();
+        for (ElementCondition condition : conditions) {
+            results.put(condition, false);
+        }
+        PollingStrategy.PollingSleeper sleeper = newPollingSleeper(timeout, polling);
+        long start = System.nanoTime();
+        try {
+            newFluentWait(timeout, sleeper)
+                    .ignoring(JavascriptException.class)
+                    .until(d -> {
+                        List<?> scriptResults = scriptConditions.isEmpty() ? Collections.emptyList()
+                                : (List<?>) ((JavascriptExecutor) d).executeScript(MULTI_CONDITION_SCRIPT, scriptConditions);
+                        for (int i = 0; i < scriptEvaluated.size(); i++) {
+                            results.put(scriptEvaluated.get(i),
+                                    scriptResults != null && i < scriptResults.size() && Boolean.TRUE.equals(scriptResults.get(i)));
+                        }
+                        for (ElementCondition condition : conditions) {
+                            if (!scriptEvaluated.contains(condition)) {
+                                results.put(condition, condition.evaluate(d));
+                            }
+                        }
+                        return isMet(results, all);
+                    });
+        } catch (TimeoutException e) {
+            logger.warn("Conditions not met within {} seconds: {}", timeout, results);
+        } finally {
+            recordWait(waitType, locatorsOf(conditions), start, isMet(results, all), sleeper.getPollCount());
+        }
+        return results;
     }
     
     /**
@@ -392,12 +733,8 @@ public class WaitUtils {
      * @return true if element is displayed
      */
     public boolean isElementDisplayed(By locator) {
-        try {
-            WebElement element = driver.findElement(locator);
-            return element.isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        WebElement element = lookup.probe(locator);
+        return element != null && element.isDisplayed();
     }
     
     /**
@@ -406,12 +743,8 @@ public class WaitUtils {
      * @return true if element is enabled
      */
     public boolean isElementEnabled(By locator) {
-        try {
-            WebElement element = driver.findElement(locator);
-            return element.isEnabled();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        WebElement element = lookup.probe(locator);
+        return element != null && element.isEnabled();
     }
     
     /**
@@ -420,12 +753,8 @@ public class WaitUtils {
      * @return true if element is selected
      */
     public boolean isElementSelected(By locator) {
-        try {
-            WebElement element = driver.findElement(locator);
-            return element.isSelected();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        WebElement element = lookup.probe(locator);
+        return element != null && element.isSelected();
     }
     
     /**
@@ -434,6 +763,6 @@ public class WaitUtils {
      * @return number of elements found
      */
     public int getElementCount(By locator) {
-        return driver.findElements(locator).size();
+        return lookup.probeAll(locator).size();
     }
 }
\ No newline at end of file
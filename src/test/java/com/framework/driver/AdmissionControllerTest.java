@@ -0,0 +1,141 @@
+package com.framework.driver;
+
+import com.framework.exceptions.FrameworkException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdmissionController class
+ * Resource readings come from a fake /proc and cgroup tree or from overridden probes
+ */
+public class AdmissionControllerTest {
+
+    private static final long MB = 1024L * 1024L;
+
+    private DriverRegistry registry;
+    private volatile long availableMemory;
+    private volatile double loadPerCpu;
+
+    @BeforeMethod
+    public void setUp() {
+        registry = new DriverRegistry();
+        availableMemory = 4096 * MB;
+        loadPerCpu = 0.5;
+    }
+
+    private AdmissionController newController(long waitTimeoutMillis) {
+        return new AdmissionController(Collections.singletonMap(BrowserType.CHROME, 1000), 512, 1.5,
+                Duration.ofMillis(waitTimeoutMillis), Duration.ofMillis(20), registry) {
+            @Override
+            protected long readAvailableMemory() {
+                return availableMemory;
+            }
+
+            @Override
+            protected double readLoadPerCpu() {
+                return loadPerCpu;
+            }
+        };
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStartingSessionsReserveMemory() {
+        AdmissionController controller = newController(0);
+        registry.register(mock(WebDriver.class), BrowserType.CHROME);
+
+        AdmissionController.Grant first = controller.acquire(BrowserType.CHROME_HEADLESS);
+        AdmissionController.Grant second = controller.acquire(BrowserType.CHROME);
+        AdmissionController.Grant third = controller.acquire(BrowserType.CHROME);
+
+        Assert.assertThrows(FrameworkException.class, () -> controller.acquire(BrowserType.CHROME));
+        Assert.assertEquals(controller.getGrantedCount(), 3);
+        Assert.assertEquals(controller.getRejectedCount(), 1);
+
+        first.close();
+        first.close();
+        controller.acquire(BrowserType.CHROME).close();
+        Assert.assertEquals(controller.getGrantedCount(), 4, "Closing a grant should free its reservation once");
+        second.close();
+        third.close();
+    }
+
+    @Test
+    public void testWaitsUntilCapacityIsAvailable() throws Exception {
+        AdmissionController controller = newController(5000);
+        registry.register(mock(WebDriver.class), BrowserType.CHROME);
+        loadPerCpu = 3.0;
+
+        CompletableFuture<AdmissionController.Grant> waiting =
+                CompletableFuture.supplyAsync(() -> controller.acquire(BrowserType.CHROME));
+        Thread.sleep(100);
+        Assert.assertFalse(waiting.isDone(), "Session should be held back while the CPU is overloaded");
+
+        loadPerCpu = 1.0;
+        waiting.get(2, TimeUnit.SECONDS).close();
+        Assert.assertEquals(controller.getWaitedCount(), 1);
+        Assert.assertTrue(controller.getTotalWaitMillis() >= 100);
+        Assert.assertTrue(controller.getSummary().contains("1 granted, 1 waited"));
+    }
+
+    @Test
+    public void testAdmitsWhenNothingIsRunning() {
+        AdmissionController controller = newController(0);
+        availableMemory = 100 * MB;
+
+        controller.acquire(BrowserType.CHROME);
+
+        Assert.assertEquals(controller.getGrantedCount(), 1);
+        Assert.assertThrows(FrameworkException.class, () -> controller.acquire(BrowserType.CHROME));
+    }
+
+    @Test
+    public void testReadsLowerOfMeminfoAndCgroupV2() throws IOException {
+        Path root = Files.createTempDirectory("admission-test");
+        Path proc = root.resolve("proc");
+        Path cgroup = root.resolve("cgroup");
+        write(proc.resolve("meminfo"), "MemTotal:       16000000 kB\nMemAvailable:    8000000 kB\n");
+
+        Assert.assertEquals(AdmissionController.readAvailableMemory(proc, cgroup), 8000000L * 1024);
+
+        write(cgroup.resolve("memory.max"), "max\n");
+        write(cgroup.resolve("memory.current"), "1000\n");
+        Assert.assertEquals(AdmissionController.readAvailableMemory(proc, cgroup), 8000000L * 1024,
+                "An unlimited cgroup should not restrict memory");
+
+        write(cgroup.resolve("memory.max"), String.valueOf(2048 * MB));
+        write(cgroup.resolve("memory.current"), String.valueOf(512 * MB));
+        Assert.assertEquals(AdmissionController.readAvailableMemory(proc, cgroup), 1536 * MB);
+    }
+
+    @Test
+    public void testReadsCgroupV1AndLoadAverage() throws IOException {
+        Path root = Files.createTempDirectory("admission-test");
+        Path proc = root.resolve("proc");
+        Path cgroup = root.resolve("cgroup");
+        write(cgroup.resolve("memory").resolve("memory.limit_in_bytes"), String.valueOf(1024 * MB));
+        write(cgroup.resolve("memory").resolve("memory.usage_in_bytes"), String.valueOf(256 * MB));
+        write(proc.resolve("loadavg"), "2.50 1.75 1.00 3/812 12345\n");
+
+        Assert.assertEquals(AdmissionController.readAvailableMemory(proc, cgroup), 768 * MB);
+        Assert.assertEquals(AdmissionController.readLoadAverage(proc), 2.5);
+        Assert.assertEquals(AdmissionController.readLoadAverage(root.resolve("missing")), -1.0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BrowserProfileCache class
+ * Templates are built by a fake builder that writes profile files instead of starting a browser
+ */
+public class BrowserProfileCacheTest {
+
+    private Path rootDir;
+    private DriverRegistry registry;
+    private AtomicInteger builds;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        rootDir = Files.createTempDirectory("profile-cache-test");
+        registry = new DriverRegistry();
+        builds = new AtomicInteger();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        BrowserProfileCache.deleteRecursively(rootDir);
+    }
+
+    private Consumer<Path> fakeBrowser() {
+        return dir -> {
+            builds.incrementAndGet();
+            try {
+                Files.createDirectories(dir.resolve("Default"));
+                Files.write(dir.resolve("Default").resolve("Preferences"), "{}".getBytes(StandardCharsets.UTF_8));
+                Files.write(dir.resolve("SingletonLock"), new byte[0]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Test
+    public void testTemplateIsBuiltOncePerOptions() {
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir, false, registry);
+
+        Path first = cache.getTemplate(BrowserType.CHROME, "{args=[--headless=new]}", fakeBrowser());
+        Path second = cache.getTemplate(BrowserType.CHROME_HEADLESS, "{args=[--headless=new]}", fakeBrowser());
+        Path other = cache.getTemplate(BrowserType.CHROME, "{args=[--window-size=800,600]}", fakeBrowser());
+
+        Assert.assertEquals(second, first, "Same base browser and options should share a template");
+        Assert.assertNotEquals(other, first);
+        Assert.assertEquals(builds.get(), 2);
+        Assert.assertFalse(Files.exists(first.resolve("SingletonLock")), "Lock files should be removed");
+
+        BrowserProfileCache nextRun = new BrowserProfileCache(rootDir, false, registry);
+        nextRun.getTemplate(BrowserType.CHROME, "{args=[--headless=new]}", fakeBrowser());
+        Assert.assertEquals(builds.get(), 2, "Templates should be kept across runs");
+    }
+
+    @Test
+    public void testSessionProfilesAreIsolatedCopies() throws IOException {
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir, false, registry);
+        Path template = cache.getTemplate(BrowserType.FIREFOX, "{}", fakeBrowser());
+
+        Path first = cache.createSessionProfile(template);
+        Path second = cache.createSessionProfile(template);
+        Files.write(first.resolve("Default").resolve("Preferences"), "changed".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertNotEquals(first, second);
+        Assert.assertEquals(new String(Files.readAllBytes(second.resolve("Default").resolve("Preferences")),
+                StandardCharsets.UTF_8), "{}");
+        Assert.assertEquals(new String(Files.readAllBytes(template.resolve("Default").resolve("Preferences")),
+                StandardCharsets.UTF_8), "{}");
+        Assert.assertEquals(cache.getProfilesCloned(), 2);
+    }
+
+    @Test
+    public void testHardlinkedSessionProfile() throws IOException {
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir, true, registry);
+        Path template = cache.getTemplate(BrowserType.EDGE, "{}", fakeBrowser());
+
+        Path profile = cache.createSessionProfile(template);
+
+        Assert.assertTrue(Files.isSameFile(profile.resolve("Default").resolve("Preferences"),
+                template.resolve("Default").resolve("Preferences")));
+    }
+
+    @Test
+    public void testEndedSessionProfilesAreCleanedUp() {
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir, false, registry);
+        Path template = cache.getTemplate(BrowserType.CHROME, "{}", fakeBrowser());
+        WebDriver running = mock(WebDriver.class);
+        WebDriver ended = mock(WebDriver.class);
+        registry.register(running, BrowserType.CHROME);
+        Path runningProfile = cache.createSessionProfile(template);
+        Path endedProfile = cache.createSessionProfile(template);
+        cache.bind(runningProfile, running);
+        cache.bind(endedProfile, ended);
+
+        Assert.assertEquals(cache.cleanUp(), 1);
+        Assert.assertTrue(Files.isDirectory(runningProfile));
+        Assert.assertFalse(Files.exists(endedProfile));
+
+        cache.shutdown();
+        Assert.assertFalse(Files.exists(runningProfile), "Shutdown should delete remaining session profiles");
+        Assert.assertTrue(Files.isDirectory(template), "Shutdown should keep templates");
+    }
+
+    @Test
+    public void testFailedTemplateIsNotRetried() {
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir, false, registry);
+        Consumer<Path> failingBrowser = dir -> {
+            builds.incrementAndGet();
+            throw new IllegalStateException("browser did not start");
+        };
+
+        Assert.assertNull(cache.getTemplate(BrowserType.CHROME, "{}", failingBrowser));
+        Assert.assertNull(cache.getTemplate(BrowserType.CHROME, "{}", failingBrowser));
+        Assert.assertEquals(builds.get(), 1);
+    }
+
+    @Test
+    public void testClonesGoToFallbackWhenRootIsShortOfSpace() {
+        Path fallbackDir = rootDir.resolve("fallback");
+        long[] freeBytes = {Long.MAX_VALUE};
+        BrowserProfileCache cache = new BrowserProfileCache(rootDir.resolve("shm"), fallbackDir, false, registry) {
+            @Override
+            protected long getUsableSpace(Path dir) {
+                return freeBytes[0];
+            }
+        };
+        Path template = cache.getTemplate(BrowserType.CHROME, "{}", fakeBrowser());
+
+        Path roomy = cache.createSessionProfile(template);
+        freeBytes[0] = BrowserProfileCache.SHARED_MEMORY_RESERVE_BYTES;
+        Path tight = cache.createSessionProfile(template);
+
+        Assert.assertTrue(roomy.startsWith(rootDir.resolve("shm")));
+        Assert.assertTrue(tight.startsWith(fallbackDir), "A clone must leave the reserve free");
+        Assert.assertTrue(Files.exists(tight.resolve("Default").resolve("Preferences")));
+        Assert.assertEquals(cache.getFallbackClones(), 1);
+
+        cache.shutdown();
+        Assert.assertFalse(Files.exists(tight));
+    }
+
+    @Test
+    public void testStaleSessionsOfExitedProcessesAreDeleted() throws IOException {
+        Path stale = Files.createDirectories(rootDir.resolve("sessions").resolve(String.valueOf(Integer.MAX_VALUE))
+                .resolve("leftover"));
+
+        new BrowserProfileCache(rootDir, false, registry);
+
+        Assert.assertFalse(Files.exists(stale.getParent()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.framework.driver;
+
+import com.framework.exceptions.ConfigurationException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BrowserTabHost class
+ * A mocked browser keeps a list of window handles and a current window
+ */
+public class BrowserTabHostTest {
+
+    private WebDriver browser;
+    private List<String> handles;
+    private String[] current;
+
+    @BeforeMethod
+    public void setUp() {
+        browser = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        handles = new ArrayList<>(Arrays.asList("home"));
+        current = new String[] {"home"};
+        WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+
+        when(browser.getWindowHandle()).thenAnswer(invocation -> current[0]);
+        when(browser.getWindowHandles()).thenAnswer(invocation -> new LinkedHashSet<>(handles));
+        when(browser.switchTo()).thenReturn(targetLocator);
+        when(targetLocator.window(anyString())).thenAnswer(invocation -> {
+            current[0] = invocation.getArgument(0);
+            return browser;
+        });
+        when(targetLocator.newWindow(WindowType.TAB)).thenAnswer(invocation -> {
+            current[0] = "tab-" + handles.size();
+            handles.add(current[0]);
+            return browser;
+        });
+        doAnswer(invocation -> handles.remove(current[0])).when(browser).close();
+        when(browser.getTitle()).thenAnswer(invocation -> "title of " + current[0]);
+        when(browser.findElement(any(By.class))).thenAnswer(invocation -> {
+            String owner = current[0];
+            WebElement element = mock(WebElement.class);
+            when(element.getText()).thenAnswer(textInvocation -> owner.equals(current[0]) ? "text in " + owner : "stale");
+            return element;
+        });
+    }
+
+    private BrowserTabHost newHost(int maxTabs) {
+        return new BrowserTabHost(browser, BrowserType.CHROME, maxTabs, true);
+    }
+
+    @Test
+    public void testCommandsRunInTheCallingTab() {
+        BrowserTabHost host = newHost(4);
+        TabContext first = host.openTab();
+        TabContext second = host.openTab();
+
+        Assert.assertEquals(first.getDriver().getTitle(), "title of tab-1");
+        Assert.assertEquals(second.getDriver().getTitle(), "title of tab-2");
+        Assert.assertEquals(first.getDriver().getTitle(), "title of tab-1");
+        Assert.assertFalse(first.isIsolated());
+    }
+
+    @Test
+    public void testElementsStayBoundToTheirTab() {
+        BrowserTabHost host = newHost(4);
+        TabContext first = host.openTab();
+        TabContext second = host.openTab();
+
+        WebElement heading = first.getDriver().findElement(By.tagName("h1"));
+        second.getDriver().getTitle();
+
+        Assert.assertEquals(heading.getText(), "text in tab-1");
+        ((JavascriptExecutor) first.getDriver()).executeScript("arguments[0].click();", heading);
+        verify((JavascriptExecutor) browser).executeScript(eq("arguments[0].click();"),
+                argThat((Object argument) -> !(argument instanceof java.lang.reflect.Proxy)));
+    }
+
+    @Test
+    public void testQuitClosesOnlyTheTab() {
+        BrowserTabHost host = newHost(4);
+        TabContext first = host.openTab();
+        TabContext second = host.openTab();
+
+        first.getDriver().quit();
+
+        Assert.assertTrue(first.isClosed());
+        Assert.assertEquals(handles, Arrays.asList("home", "tab-2"));
+        Assert.assertEquals(host.getOpenTabCount(), 1);
+        verify(browser, never()).quit();
+        Assert.assertThrows(NoSuchWindowException.class, () -> first.getDriver().getTitle());
+        Assert.assertEquals(second.getDriver().getTitle(), "title of tab-2");
+    }
+
+    @Test
+    public void testWindowHandlesHideOtherTabs() {
+        BrowserTabHost host = newHost(4);
+        TabContext first = host.openTab();
+        host.openTab();
+
+        Assert.assertEquals(first.getDriver().getWindowHandles(), new LinkedHashSet<>(Arrays.asList("tab-1")));
+        Assert.assertSame(((WrapsDriver) first.getDriver()).getWrappedDriver(), browser);
+    }
+
+    @Test
+    public void testTabLimit() {
+        BrowserTabHost host = newHost(2);
+
+        Assert.assertNotNull(host.openTab());
+        Assert.assertNotNull(host.openTab());
+        Assert.assertNull(host.openTab());
+    }
+
+    @Test
+    public void testSharedCookiesRequireOptIn() {
+        Assert.assertThrows(ConfigurationException.class, () -> new BrowserTabHost(browser, BrowserType.CHROME, 4, false));
+    }
+}
@@ -0,0 +1,165 @@
+package com.framework.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Unit tests for DriverBinaryResolver class
+ * WebDriverManager and browser version detection are stubbed out
+ */
+public class DriverBinaryResolverTest {
+
+    private Path indexFile;
+    private Path driverBinary;
+
+    /**
+     * Resolver with stubbed WebDriverManager setup and browser detection
+     */
+    private class StubResolver extends DriverBinaryResolver {
+        private int setupCalls;
+        private String installedVersion = "120.0.6099.109";
+
+        StubResolver(boolean offline) {
+            super(indexFile, offline);
+        }
+
+        @Override
+        protected ResolvedDriver setupWithWebDriverManager(BrowserType baseBrowser) {
+            setupCalls++;
+            return new ResolvedDriver(driverBinary.toString(), "120.0.6099.71", installedVersion);
+        }
+
+        @Override
+        protected String detectInstalledBrowserVersion(BrowserType baseBrowser) {
+            return installedVersion;
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("driver-resolver-test");
+        indexFile = dir.resolve("driver-index.properties");
+        driverBinary = Files.createFile(dir.resolve("chromedriver"));
+        driverBinary.toFile().setExecutable(true);
+    }
+
+    @Test
+    public void testCacheMissResolvesAndPersists() {
+        StubResolver resolver = new StubResolver(false);
+
+        DriverBinaryResolver.ResolvedDriver driver = resolver.resolve(BrowserType.CHROME);
+
+        Assert.assertEquals(resolver.setupCalls, 1);
+        Assert.assertEquals(driver.getDriverPath(), driverBinary.toString());
+        Assert.assertTrue(Files.exists(indexFile), "Index file should be written");
+        Assert.assertEquals(System.getProperty("webdriver.chrome.driver"), driverBinary.toString());
+    }
+
+    @Test
+    public void testResolvesOncePerJvm() {
+        StubResolver resolver = new StubResolver(false);
+
+        resolver.resolve(BrowserType.CHROME);
+        resolver.resolve(BrowserType.CHROME_HEADLESS);
+
+        Assert.assertEquals(resolver.setupCalls, 1, "Headless variant should share the resolved driver");
+    }
+
+    @Test
+    public void testPersistentIndexSkipsSetup() {
+        new StubResolver(false).resolve(BrowserType.CHROME);
+
+        StubResolver nextRun = new StubResolver(false);
+        nextRun.resolve(BrowserType.CHROME);
+
+        Assert.assertEquals(nextRun.setupCalls, 0, "Cached entry should be reused across runs");
+    }
+
+    @Test
+    public void testBrowserUpgradeTriggersSetup() {
+        new StubResolver(false).resolve(BrowserType.CHROME);
+
+        StubResolver nextRun = new StubResolver(false);
+        nextRun.installedVersion = "121.0.6167.85";
+        nextRun.resolve(BrowserType.CHROME);
+
+        Assert.assertEquals(nextRun.setupCalls, 1, "Major version change should resolve the driver again");
+    }
+
+    @Test
+    public void testOfflineUsesCacheWithoutSetup() {
+        new StubResolver(false).resolve(BrowserType.CHROME);
+
+        StubResolver offline = new StubResolver(true);
+        offline.installedVersion = "121.0.6167.85";
+        DriverBinaryResolver.ResolvedDriver driver = offline.resolve(BrowserType.CHROME);
+
+        Assert.assertNotNull(driver);
+        Assert.assertEquals(offline.setupCalls, 0);
+    }
+
+    @Test
+    public void testOfflineMissReturnsNull() {
+        StubResolver offline = new StubResolver(true);
+        System.clearProperty(DriverBinaryResolver.SELENIUM_MANAGER_OFFLINE);
+        try {
+            Assert.assertNull(offline.resolve(BrowserType.FIREFOX));
+            Assert.assertEquals(offline.setupCalls, 0);
+            Assert.assertEquals(System.getProperty(DriverBinaryResolver.SELENIUM_MANAGER_OFFLINE), "true",
+                    "Selenium Manager must not download the driver either");
+        } finally {
+            System.clearProperty(DriverBinaryResolver.SELENIUM_MANAGER_OFFLINE);
+        }
+    }
+
+    @Test
+    public void testSafariHasNoManagedBinary() {
+        StubResolver resolver = new StubResolver(false);
+
+        Assert.assertNull(resolver.resolve(BrowserType.SAFARI));
+        Assert.assertEquals(resolver.setupCalls, 0);
+    }
+
+    @Test
+    public void testParseVersion() {
+        Assert.assertEquals(DriverBinaryResolver.parseVersion("Google Chrome 120.0.6099.109 "), "120.0.6099.109");
+        Assert.assertEquals(DriverBinaryResolver.parseVersion("Mozilla Firefox 121.0"), "121.0");
+        Assert.assertNull(DriverBinaryResolver.parseVersion("unknown"));
+        Assert.assertNull(DriverBinaryResolver.parseVersion(null));
+    }
+
+    @Test
+    public void testVersionCommandReadsFirstLine() throws IOException {
+        Path browser = script("echo 'Google Chrome 120.0.6099.109'");
+
+        Assert.assertEquals(DriverBinaryResolver.runVersionCommand(browser.toString(), Duration.ofSeconds(5)),
+                "120.0.6099.109");
+    }
+
+    @Test
+    public void testHangingVersionCommandIsKilledAfterTimeout() throws IOException {
+        // Prints nothing and keeps its output open, as a browser stuck opening a window does
+        Path browser = script("exec sleep 30");
+
+        long start = System.nanoTime();
+        String version = DriverBinaryResolver.runVersionCommand(browser.toString(), Duration.ofMillis(300));
+
+        Assert.assertNull(version);
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).getSeconds() < 5,
+                "The timeout should apply even though the browser keeps its output open");
+    }
+
+    private Path script(String body) throws IOException {
+        Path script = Files.write(indexFile.resolveSibling("browser.sh"),
+                ("#!/bin/sh\n" + body + "\n").getBytes(StandardCharsets.UTF_8));
+        script.toFile().setExecutable(true);
+        return script;
+    }
+}
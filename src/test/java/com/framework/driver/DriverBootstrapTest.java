@@ -0,0 +1,97 @@
+package com.framework.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DriverBootstrap class
+ * Uses a mocked WebDriver with an artificial startup delay
+ */
+public class DriverBootstrapTest {
+
+    private static final long STARTUP_DELAY_MS = 300;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private WebDriver slowDriver(WebDriver driver) {
+        try {
+            Thread.sleep(STARTUP_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return driver;
+    }
+
+    @Test
+    public void testOverlapSavesSetupTime() throws InterruptedException {
+        WebDriver mockDriver = mock(WebDriver.class);
+        DriverBootstrap bootstrap = new DriverBootstrap(BrowserType.CHROME_HEADLESS,
+                () -> slowDriver(mockDriver), executor);
+
+        // Simulate test data setup running while the browser starts
+        Thread.sleep(STARTUP_DELAY_MS + 100);
+
+        Assert.assertSame(bootstrap.await(), mockDriver);
+        Assert.assertTrue(bootstrap.getBootstrapMillis() >= STARTUP_DELAY_MS, "Bootstrap time should be recorded");
+        Assert.assertTrue(bootstrap.getWaitMillis() < STARTUP_DELAY_MS, "Test thread should barely block");
+        Assert.assertTrue(bootstrap.getOverlapSavedMillis() > 0, "Overlap should save time");
+    }
+
+    @Test
+    public void testLazyDriverDefersUntilFirstUse() {
+        AtomicInteger created = new AtomicInteger();
+        WebDriver mockDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(mockDriver.getTitle()).thenReturn("Title");
+        DriverBootstrap bootstrap = new DriverBootstrap(BrowserType.CHROME, () -> {
+            created.incrementAndGet();
+            return slowDriver(mockDriver);
+        }, executor);
+
+        WebDriver lazy = bootstrap.asLazyDriver();
+        Assert.assertTrue(lazy instanceof JavascriptExecutor, "Lazy handle should expose JavascriptExecutor");
+
+        Assert.assertEquals(lazy.getTitle(), "Title");
+        Assert.assertSame(((WrapsDriver) lazy).getWrappedDriver(), mockDriver);
+        Assert.assertEquals(created.get(), 1);
+        Assert.assertTrue(bootstrap.getWaitMillis() > 0, "First use should block until the driver is ready");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testAwaitRethrowsCreationFailure() {
+        DriverBootstrap bootstrap = new DriverBootstrap(BrowserType.CHROME, () -> {
+            throw new IllegalStateException("chromedriver not found");
+        }, executor);
+
+        bootstrap.await();
+    }
+
+    @Test
+    public void testSummaryIncludesCompletedBootstraps() {
+        DriverBootstrap bootstrap = new DriverBootstrap(BrowserType.FIREFOX,
+                () -> mock(WebDriver.class), executor);
+        bootstrap.await();
+
+        Assert.assertTrue(DriverBootstrap.getSummary().contains("async driver bootstraps"));
+    }
+}
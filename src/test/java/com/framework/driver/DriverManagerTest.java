@@ -1,12 +1,15 @@
 package com.framework.driver;
 
 import com.framework.config.ConfigManager;
+import com.framework.utils.ExecutionContext;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Unit tests for DriverManager class
  * Note: These tests require actual browser drivers to be available
@@ -81,6 +84,18 @@ public class DriverManagerTest {
             "Current browser should be Chrome Headless");
     }
 
+    @Test
+    public void testCurrentBrowserFollowsExecutionContext() throws Exception {
+        driverManager.initializeDriverAsync(BrowserType.CHROME_HEADLESS);
+        ExecutionContext context = ExecutionContext.current();
+
+        String wrapped = CompletableFuture.supplyAsync(context.wrapSupplier(driverManager::getCurrentBrowser)).get();
+        String unwrapped = CompletableFuture.supplyAsync(driverManager::getCurrentBrowser).get();
+
+        Assert.assertEquals(wrapped, "Chrome Headless", "Wrapped tasks should see the test's browser like its driver");
+        Assert.assertNull(unwrapped, "Other contexts should not see the test's browser");
+    }
+
     @Test
     public void testCreateDriverChrome() {
         WebDriver driver = driverManager.createDriver(BrowserType.CHROME_HEADLESS);
@@ -0,0 +1,164 @@
+package com.framework.driver;
+
+import com.framework.exceptions.FrameworkException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DriverPool class
+ * Uses mocked WebDriver sessions so no browser is required
+ */
+public class DriverPoolTest {
+
+    private AtomicInteger createdCount;
+
+    @BeforeMethod
+    public void setUp() {
+        createdCount = new AtomicInteger();
+    }
+
+    private WebDriver newMockDriver(BrowserType browserType) {
+        createdCount.incrementAndGet();
+        // Only Chromium sessions can be reset for reuse
+        WebDriver driver = browserType.supportsCdp()
+                ? mock(ChromeDriver.class, RETURNS_DEEP_STUBS)
+                : mock(FirefoxDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        return driver;
+    }
+
+    @Test
+    public void testLeaseReusesReturnedSession() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 2, 0, 0, 1);
+
+        WebDriver first = pool.lease(BrowserType.CHROME_HEADLESS);
+        pool.release(first);
+        WebDriver second = pool.lease(BrowserType.CHROME_HEADLESS);
+
+        Assert.assertSame(second, first, "Returned session should be reused");
+        Assert.assertEquals(createdCount.get(), 1, "Only one session should be started");
+        verify(first, atLeastOnce()).get("about:blank");
+    }
+
+    @Test
+    public void testWarmUpPreStartsSessions() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 3, 0, 0, 1);
+
+        pool.warmUp(BrowserType.CHROME, 3);
+
+        Assert.assertEquals(pool.getIdleCount(BrowserType.CHROME), 3);
+        Assert.assertEquals(pool.getTotalCount(BrowserType.CHROME), 3);
+        Assert.assertEquals(pool.getIdleCount(BrowserType.FIREFOX), 0);
+    }
+
+    @Test
+    public void testSessionRecycledAfterMaxUses() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 0, 2, 1);
+
+        WebDriver driver = pool.lease(BrowserType.CHROME);
+        pool.release(driver);
+        Assert.assertSame(pool.lease(BrowserType.CHROME), driver);
+        pool.release(driver);
+
+        verify(driver).quit();
+        Assert.assertEquals(pool.getTotalCount(BrowserType.CHROME), 0, "Recycled session should free its slot");
+        Assert.assertNotSame(pool.lease(BrowserType.CHROME), driver, "A new session should be started");
+    }
+
+    @Test
+    public void testSessionRecycledWhenResetFails() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 0, 0, 1);
+
+        WebDriver driver = pool.lease(BrowserType.CHROME);
+        when(driver.getWindowHandles()).thenThrow(new RuntimeException("session deleted"));
+        pool.release(driver);
+
+        verify(driver).quit();
+        Assert.assertEquals(pool.getIdleCount(BrowserType.CHROME), 0);
+    }
+
+    @Test
+    public void testInvalidateIdleSessionFreesSlot() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 0, 0, 1);
+
+        WebDriver driver = pool.lease(BrowserType.CHROME);
+        pool.release(driver);
+        pool.invalidate(driver);
+
+        verify(driver).quit();
+        Assert.assertEquals(pool.getIdleCount(BrowserType.CHROME), 0);
+        Assert.assertEquals(pool.getTotalCount(BrowserType.CHROME), 0);
+    }
+
+    @Test
+    public void testIdleSessionExpires() throws InterruptedException {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 1, 0, 1);
+
+        WebDriver driver = pool.lease(BrowserType.CHROME);
+        pool.release(driver);
+        Thread.sleep(1100);
+
+        Assert.assertNotSame(pool.lease(BrowserType.CHROME), driver, "Expired session should not be reused");
+        verify(driver).quit();
+    }
+
+    @Test(expectedExceptions = FrameworkException.class)
+    public void testLeaseTimesOutWhenPoolExhausted() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 0, 0, 0);
+
+        pool.lease(BrowserType.CHROME);
+        pool.lease(BrowserType.CHROME);
+    }
+
+    @Test
+    public void testShutdownQuitsIdleSessions() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 2, 0, 0, 1);
+
+        WebDriver idle = pool.lease(BrowserType.CHROME);
+        WebDriver leased = pool.lease(BrowserType.CHROME);
+        pool.release(idle);
+        pool.shutdown();
+
+        verify(idle).quit();
+        verify(leased, never()).quit();
+
+        pool.release(leased);
+        verify(leased).quit();
+    }
+
+    @Test
+    public void testNonChromiumSessionsBypassThePool() {
+        DriverPool pool = spy(new DriverPool(this::newMockDriver, 1, 0, 0, 1));
+
+        pool.warmUp(BrowserType.FIREFOX, 1);
+        WebDriver first = pool.lease(BrowserType.FIREFOX);
+        WebDriver second = pool.lease(BrowserType.FIREFOX);
+        Assert.assertEquals(createdCount.get(), 2, "Warm-up should not start Firefox and leases should not wait");
+        Assert.assertTrue(pool.isLeased(first));
+        Assert.assertEquals(pool.getTotalCount(BrowserType.FIREFOX), 0);
+
+        pool.release(first);
+
+        verify(first).quit();
+        verify(pool, never()).resetSession(any());
+        Assert.assertFalse(pool.isLeased(first));
+        Assert.assertEquals(pool.getLeasedCount(), 1);
+        pool.invalidate(second);
+        verify(second).quit();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testReleaseUnknownDriver() {
+        DriverPool pool = new DriverPool(this::newMockDriver, 1, 0, 0, 1);
+        pool.release(mock(WebDriver.class));
+    }
+}
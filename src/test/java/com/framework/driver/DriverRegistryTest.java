@@ -0,0 +1,122 @@
+package com.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DriverRegistry class
+ * Uses mocked WebDriver instances
+ */
+public class DriverRegistryTest {
+
+    private DriverRegistry registry;
+
+    @BeforeMethod
+    public void setUp() {
+        registry = new DriverRegistry();
+    }
+
+    @Test
+    public void testRegisterRecordsOwnerAndBrowser() {
+        WebDriver driver = mock(WebDriver.class);
+
+        registry.register(driver, BrowserType.FIREFOX_HEADLESS);
+
+        DriverRegistry.RegisteredDriver entry = registry.getEntry(driver);
+        Assert.assertEquals(entry.getBrowserType(), BrowserType.FIREFOX_HEADLESS);
+        Assert.assertEquals(entry.getOwnerThreadId(), Thread.currentThread().getId());
+        Assert.assertNotNull(entry.getStartedAt());
+        Assert.assertEquals(registry.size(), 1);
+    }
+
+    @Test
+    public void testOwnershipFollowsHandOff() throws InterruptedException {
+        WebDriver driver = mock(WebDriver.class);
+        Thread bootstrapThread = new Thread(() -> registry.register(driver, BrowserType.CHROME), "bootstrap");
+        bootstrapThread.start();
+        bootstrapThread.join();
+        Assert.assertEquals(registry.getEntry(driver).getOwnerThreadName(), "bootstrap");
+
+        registry.assignToCurrentThread(driver);
+        Assert.assertEquals(registry.getEntry(driver).getOwnerThreadId(), Thread.currentThread().getId());
+
+        registry.assignToPool(driver);
+        Assert.assertEquals(registry.getEntry(driver).getOwnerThreadId(), -1);
+    }
+
+    @Test
+    public void testTouchUpdatesLastAccessTime() throws InterruptedException {
+        WebDriver driver = mock(WebDriver.class);
+        registry.register(driver, BrowserType.CHROME);
+        Thread.sleep(20);
+        Assert.assertTrue(registry.getEntry(driver).getIdleMillis() >= 20);
+
+        registry.touch(driver);
+
+        Assert.assertTrue(registry.getEntry(driver).getIdleMillis() < 20, "Touch should reset the idle time");
+    }
+
+    @Test
+    public void testQuitAllRunsInParallel() throws InterruptedException {
+        int sessions = 4;
+        CountDownLatch allQuitting = new CountDownLatch(sessions);
+        for (int i = 0; i < sessions; i++) {
+            WebDriver driver = mock(WebDriver.class);
+            doAnswer(invocation -> {
+                // Each quit only completes once every quit has started
+                allQuitting.countDown();
+                allQuitting.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(driver).quit();
+            registry.register(driver, BrowserType.CHROME_HEADLESS);
+        }
+
+        int quit = registry.quitAll(Duration.ofSeconds(10));
+
+        Assert.assertEquals(quit, sessions);
+        Assert.assertEquals(allQuitting.getCount(), 0);
+        Assert.assertEquals(registry.size(), 0);
+    }
+
+    @Test
+    public void testQuitAllIsTimeBounded() {
+        WebDriver hung = mock(WebDriver.class);
+        doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(hung).quit();
+        WebDriver healthy = mock(WebDriver.class);
+        WebDriver failing = mock(WebDriver.class);
+        doThrow(new RuntimeException("session already gone")).when(failing).quit();
+        registry.register(hung, BrowserType.FIREFOX);
+        registry.register(healthy, BrowserType.CHROME);
+        registry.register(failing, BrowserType.EDGE);
+
+        long start = System.currentTimeMillis();
+        int quit = registry.quitAll(Duration.ofMillis(300));
+
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000, "Hung session should not block shutdown");
+        Assert.assertEquals(quit, 1);
+        verify(healthy).quit();
+        Assert.assertEquals(registry.size(), 0);
+    }
+
+    @Test
+    public void testUnregister() {
+        WebDriver driver = mock(WebDriver.class);
+        registry.register(driver, BrowserType.EDGE);
+
+        Assert.assertTrue(registry.unregister(driver));
+        Assert.assertFalse(registry.isRegistered(driver));
+        Assert.assertFalse(registry.unregister(driver));
+        Assert.assertEquals(registry.quitAll(Duration.ofSeconds(1)), 0);
+    }
+}
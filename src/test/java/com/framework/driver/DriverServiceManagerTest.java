@@ -0,0 +1,141 @@
+package com.framework.driver;
+
+import org.openqa.selenium.remote.service.DriverService;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for DriverServiceManager class
+ * Uses a fake driver executable that only answers the /status endpoint
+ */
+public class DriverServiceManagerTest {
+
+    private static final String FAKE_DRIVER =
+            "#!/bin/sh\n" +
+            "exec python3 -c '\n" +
+            "import os, sys\n" +
+            "from http.server import BaseHTTPRequestHandler, HTTPServer\n" +
+            "port = int([a for a in sys.argv[1:] if a.startswith(\"--port=\")][0][7:])\n" +
+            "class Handler(BaseHTTPRequestHandler):\n" +
+            "    def do_GET(self):\n" +
+            "        self.send_response(200)\n" +
+            "        self.end_headers()\n" +
+            "        self.wfile.write(b\"{\\\"value\\\": {\\\"ready\\\": true}}\")\n" +
+            "        self.wfile.flush()\n" +
+            "        if self.path in (\"/crash\", \"/shutdown\"):\n" +
+            "            os._exit(1)\n" +
+            "    def log_message(self, *args):\n" +
+            "        pass\n" +
+            "HTTPServer((\"localhost\", port), Handler).serve_forever()\n" +
+            "' \"$@\"\n";
+
+    private File driverExecutable;
+    private DriverServiceManager manager;
+
+    @BeforeClass
+    public void createFakeDriver() throws IOException, InterruptedException {
+        if (File.separatorChar != '/' || new ProcessBuilder("python3", "--version").start().waitFor() != 0) {
+            throw new SkipException("Fake driver needs a POSIX shell and python3");
+        }
+        Path script = Files.createTempFile("fake-driver", ".sh");
+        Files.write(script, FAKE_DRIVER.getBytes(StandardCharsets.UTF_8));
+        driverExecutable = script.toFile();
+        driverExecutable.setExecutable(true);
+        driverExecutable.deleteOnExit();
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        manager = new DriverServiceManager();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    public void testChromeSessionsShareOneService() {
+        DriverService first = manager.acquireChromeService(driverExecutable);
+        DriverService second = manager.acquireChromeService(driverExecutable);
+
+        Assert.assertSame(first, second);
+        Assert.assertTrue(first.isRunning());
+        Assert.assertEquals(manager.getServiceCount(BrowserType.CHROME_HEADLESS), 1);
+        Assert.assertEquals(manager.getStartCount(), 1);
+    }
+
+    @Test
+    public void testQuitDoesNotStopSharedService() {
+        DriverService service = manager.acquireEdgeService(driverExecutable);
+
+        // DriverCommandExecutor calls stop() on the service when the session quits
+        service.stop();
+
+        Assert.assertTrue(service.isRunning(), "Shared service should outlive the session");
+        Assert.assertSame(manager.acquireEdgeService(driverExecutable), service);
+    }
+
+    @Test
+    public void testGeckoServiceServesOneSessionAtATime() {
+        DriverService first = manager.acquireGeckoService(driverExecutable);
+        DriverService second = manager.acquireGeckoService(driverExecutable);
+        Assert.assertNotSame(first, second, "Concurrent Firefox sessions need separate geckodriver processes");
+
+        first.stop();
+        DriverService third = manager.acquireGeckoService(driverExecutable);
+
+        Assert.assertSame(third, first, "Idle geckodriver should be reused");
+        Assert.assertEquals(manager.getServiceCount(BrowserType.FIREFOX), 2);
+    }
+
+    @Test
+    public void testCrashedServiceIsRestarted() throws Exception {
+        DriverService crashed = manager.acquireChromeService(driverExecutable);
+        crash(crashed);
+
+        DriverService replacement = manager.acquireChromeService(driverExecutable);
+
+        Assert.assertNotSame(replacement, crashed);
+        Assert.assertTrue(replacement.isRunning());
+        Assert.assertEquals(manager.getRestartCount(), 1);
+        Assert.assertEquals(manager.getServiceCount(BrowserType.CHROME), 1);
+    }
+
+    @Test
+    public void testShutdownStopsServices() {
+        DriverService service = manager.acquireChromeService(driverExecutable);
+
+        manager.shutdown();
+
+        Assert.assertFalse(service.isRunning());
+        Assert.assertEquals(manager.getServiceCount(BrowserType.CHROME), 0);
+    }
+
+    private void crash(DriverService service) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL(service.getUrl() + "/crash").openConnection();
+        try {
+            connection.getResponseCode();
+        } catch (IOException e) {
+            // The process may exit before the response is read
+        } finally {
+            connection.disconnect();
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (service.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.framework.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.driver.DriverStartupMetrics.Phase;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for DriverStartupMetrics class
+ */
+public class DriverStartupMetricsTest {
+
+    @BeforeMethod
+    @AfterMethod
+    public void reset() {
+        DriverStartupMetrics.reset();
+    }
+
+    @Test
+    public void testPercentilesUseNearestRank() {
+        for (int millis = 1; millis <= 100; millis++) {
+            DriverStartupMetrics.record(BrowserType.CHROME, true, Phase.SESSION_CREATION,
+                    TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        DriverStartupMetrics.LatencyHistogram histogram =
+                DriverStartupMetrics.getHistogram(BrowserType.CHROME, true, Phase.SESSION_CREATION);
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getPercentile(50), TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(histogram.getPercentile(90), TimeUnit.MILLISECONDS.toNanos(90));
+        Assert.assertEquals(histogram.getPercentile(99), TimeUnit.MILLISECONDS.toNanos(99));
+        Assert.assertEquals(histogram.getMax(), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testHistogramsAreKeyedByBrowserHeadlessAndPhase() {
+        DriverStartupMetrics.record(BrowserType.CHROME, true, Phase.SERVICE_START, 1_000_000);
+        DriverStartupMetrics.record(BrowserType.CHROME, false, Phase.SERVICE_START, 2_000_000);
+        DriverStartupMetrics.record(BrowserType.FIREFOX, true, Phase.SERVICE_START, 3_000_000);
+
+        Assert.assertEquals(DriverStartupMetrics.getHistogram(BrowserType.CHROME, true, Phase.SERVICE_START).getMax(),
+                1_000_000);
+        Assert.assertEquals(DriverStartupMetrics.getHistogram(BrowserType.CHROME, false, Phase.SERVICE_START).getMax(),
+                2_000_000);
+        Assert.assertEquals(DriverStartupMetrics.getHistogram(BrowserType.CHROME, true, Phase.WINDOW_SIZING).getCount(),
+                0);
+    }
+
+    @Test
+    public void testTimeRecordsFailedPhases() {
+        try {
+            DriverStartupMetrics.time(BrowserType.EDGE, false, Phase.SESSION_CREATION, () -> {
+                throw new IllegalStateException("session not created");
+            });
+            Assert.fail("Expected the phase failure to propagate");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        Assert.assertEquals(DriverStartupMetrics.getHistogram(BrowserType.EDGE, false, Phase.SESSION_CREATION)
+                .getCount(), 1);
+    }
+
+    @Test
+    public void testExportWritesJsonAndTable() throws IOException {
+        DriverStartupMetrics.record(BrowserType.FIREFOX, false, Phase.BINARY_RESOLUTION, 1_500_000);
+        DriverStartupMetrics.record(BrowserType.FIREFOX, false, Phase.WINDOW_SIZING, 40_000_000);
+        Path directory = Files.createTempDirectory("startup-metrics-test");
+
+        Assert.assertTrue(DriverStartupMetrics.export(directory));
+
+        JsonNode rows = new ObjectMapper().readTree(directory.resolve("driver-startup.json").toFile());
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).get("phase").asText(), "BINARY_RESOLUTION");
+        Assert.assertEquals(rows.get(0).get("p99Millis").asDouble(), 1.5);
+        String table = new String(Files.readAllBytes(directory.resolve("driver-startup.txt")));
+        Assert.assertTrue(table.contains("window sizing"));
+        Assert.assertTrue(table.contains("40.0"));
+    }
+}
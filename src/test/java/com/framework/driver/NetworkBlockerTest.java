@@ -0,0 +1,98 @@
+package com.framework.driver;
+
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NetworkBlocker class
+ * Uses a mocked DevTools connection and hand-built CDP event payloads
+ */
+public class NetworkBlockerTest {
+
+    private NetworkBlocker newBlocker(DevTools devTools, String profileName) {
+        NetworkBlockingProfile profile = new NetworkBlockingProfile(profileName,
+                Arrays.asList("*analytics*", "*.woff2"), new LinkedHashSet<>(Arrays.asList("Image", "Media")));
+        return new NetworkBlocker(devTools, profile);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEnableSendsBlockedUrlsAndFetchPatterns() {
+        DevTools devTools = mock(DevTools.class);
+        newBlocker(devTools, "enable-test").enable();
+
+        ArgumentCaptor<Command<Void>> commands = ArgumentCaptor.forClass(Command.class);
+        verify(devTools, times(3)).send(commands.capture());
+        List<Command<Void>> sent = commands.getAllValues();
+
+        Assert.assertEquals(sent.get(0).getMethod(), "Network.enable");
+        Assert.assertEquals(sent.get(1).getMethod(), "Network.setBlockedURLs");
+        Assert.assertEquals(sent.get(1).getParams().get("urls"), Arrays.asList("*analytics*", "*.woff2"));
+        Assert.assertEquals(sent.get(2).getMethod(), "Fetch.enable");
+        List<Map<String, Object>> patterns = (List<Map<String, Object>>) sent.get(2).getParams().get("patterns");
+        Assert.assertEquals(patterns.size(), 2);
+        Assert.assertEquals(patterns.get(0).get("resourceType"), "Image");
+        Assert.assertEquals(patterns.get(0).get("requestStage"), "Response");
+    }
+
+    @Test
+    public void testCountsUrlPatternBlocks() {
+        NetworkBlocker blocker = newBlocker(mock(DevTools.class), "url-test");
+
+        blocker.onLoadingFailed(Collections.singletonMap("blockedReason", "inspector"));
+        blocker.onLoadingFailed(Collections.singletonMap("errorText", "net::ERR_CONNECTION_RESET"));
+
+        Assert.assertEquals(NetworkBlocker.getStats("url-test").getBlockedRequests(), 1,
+                "Ordinary network failures should not count as blocked");
+    }
+
+    @Test
+    public void testFailsPausedRequestAndCountsBytes() {
+        DevTools devTools = mock(DevTools.class);
+        NetworkBlocker blocker = newBlocker(devTools, "bytes-test");
+
+        Map<String, Object> header = new HashMap<>();
+        header.put("name", "Content-Length");
+        header.put("value", "2048");
+        Map<String, Object> event = new HashMap<>();
+        event.put("requestId", "interception-1");
+        event.put("responseHeaders", Collections.singletonList(header));
+        blocker.onRequestPaused(event);
+
+        verify(devTools).send(argThat((Command<?> command) -> command.getMethod().equals("Fetch.failRequest")
+                && "interception-1".equals(command.getParams().get("requestId"))));
+        NetworkBlocker.BlockingStats stats = NetworkBlocker.getStats("bytes-test");
+        Assert.assertEquals(stats.getBlockedRequests(), 1);
+        Assert.assertEquals(stats.getBlockedBytes(), 2048);
+        Assert.assertTrue(NetworkBlocker.getSummary().contains("bytes-test: 1 requests, 2 KB"));
+    }
+
+    @Test
+    public void testUnsupportedDriverIsSkipped() {
+        NetworkBlockingProfile profile = new NetworkBlockingProfile("skip-test",
+                Collections.singletonList("*ads*"), Collections.emptySet());
+
+        Assert.assertNull(NetworkBlocker.attach(mock(WebDriver.class), profile));
+    }
+
+    @Test
+    public void testBrowserTypeCdpSupport() {
+        Assert.assertTrue(BrowserType.CHROME_HEADLESS.supportsCdp());
+        Assert.assertTrue(BrowserType.EDGE.supportsCdp());
+        Assert.assertFalse(BrowserType.FIREFOX.supportsCdp());
+        Assert.assertFalse(BrowserType.SAFARI.supportsCdp());
+    }
+}
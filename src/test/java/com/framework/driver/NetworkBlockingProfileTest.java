@@ -0,0 +1,51 @@
+package com.framework.driver;
+
+import com.framework.config.ConfigManager;
+import com.framework.exceptions.ConfigurationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+/**
+ * Unit tests for NetworkBlockingProfile class
+ * Reads the profiles defined in the test config.properties
+ */
+public class NetworkBlockingProfileTest {
+
+    private final ConfigManager configManager = ConfigManager.getInstance();
+
+    @Test
+    public void testLoadsProfileFromConfig() {
+        NetworkBlockingProfile profile = NetworkBlockingProfile.fromConfig("lean", configManager);
+
+        Assert.assertEquals(profile.getName(), "lean");
+        Assert.assertTrue(profile.getUrlPatterns().contains("*google-analytics.com*"));
+        Assert.assertEquals(profile.getResourceTypes(), new LinkedHashSet<>(
+                Arrays.asList("Image", "Font", "Media")));
+    }
+
+    @Test
+    public void testResourceTypesAreCaseInsensitive() {
+        configManager.setProperty("network.blocking.profile.media-only.resource.types", "image, media");
+
+        NetworkBlockingProfile profile = NetworkBlockingProfile.fromConfig("media-only", configManager);
+
+        Assert.assertTrue(profile.getUrlPatterns().isEmpty());
+        Assert.assertTrue(profile.getResourceTypes().contains("Image"));
+        Assert.assertTrue(profile.getResourceTypes().contains("Media"));
+    }
+
+    @Test(expectedExceptions = ConfigurationException.class)
+    public void testUndefinedProfileIsRejected() {
+        NetworkBlockingProfile.fromConfig("does-not-exist", configManager);
+    }
+
+    @Test(expectedExceptions = ConfigurationException.class)
+    public void testUnknownResourceTypeIsRejected() {
+        configManager.setProperty("network.blocking.profile.typo.resource.types", "Images");
+
+        NetworkBlockingProfile.fromConfig("typo", configManager);
+    }
+}
@@ -0,0 +1,160 @@
+package com.framework.driver;
+
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PageChangeSignal class
+ * A scheduler plays the browser: it makes a condition true after a delay and fires the page change event
+ */
+public class PageChangeSignalTest {
+
+    private static final long CHANGE_AFTER_MILLIS = 60;
+    private static final long POLLING_INTERVAL_MILLIS = 500;
+
+    private ScheduledExecutorService browser;
+
+    @BeforeMethod
+    public void setUp() {
+        browser = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        browser.shutdownNow();
+    }
+
+    /**
+     * Waits for a condition that becomes true after CHANGE_AFTER_MILLIS
+     * @return {elapsed millis, condition checks}
+     */
+    private long[] waitForChange(Sleeper sleeper, PageChangeSignal signal) {
+        AtomicBoolean changed = new AtomicBoolean();
+        AtomicInteger checks = new AtomicInteger();
+        browser.schedule(() -> {
+            changed.set(true);
+            signal.signal();
+        }, CHANGE_AFTER_MILLIS, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        new FluentWait<>("page", Clock.systemDefaultZone(), sleeper)
+                .withTimeout(Duration.ofSeconds(5))
+                .pollingEvery(Duration.ofMillis(POLLING_INTERVAL_MILLIS))
+                .until(page -> {
+                    checks.incrementAndGet();
+                    return changed.get();
+                });
+        return new long[] {TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), checks.get()};
+    }
+
+    @Test
+    public void testEventDrivenWaitReturnsSoonAfterChange() {
+        PageChangeSignal signal = new PageChangeSignal("test", 0);
+
+        long[] polling = waitForChange(Sleeper.SYSTEM_SLEEPER, signal);
+        long[] eventDriven = waitForChange(signal.newSleeper(), signal);
+
+        Assert.assertTrue(polling[0] >= POLLING_INTERVAL_MILLIS, "Polling wait took " + polling[0] + " ms");
+        Assert.assertTrue(eventDriven[0] < POLLING_INTERVAL_MILLIS / 2,
+                "Event-driven wait overshot: " + eventDriven[0] + " ms");
+        Assert.assertEquals(eventDriven[1], 2, "One failed check, then one check after the event");
+        Assert.assertEquals(signal.getEventWakeupCount(), 1);
+    }
+
+    @Test
+    public void testFallsBackToPollingWithoutEvents() throws InterruptedException {
+        PageChangeSignal signal = new PageChangeSignal("test", 0);
+
+        long start = System.nanoTime();
+        Assert.assertFalse(signal.awaitChange(signal.getGeneration(), 50));
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 45);
+        Assert.assertEquals(signal.getTimeoutWakeupCount(), 1);
+    }
+
+    @Test
+    public void testChangeDuringCheckIsNotLost() throws InterruptedException {
+        PageChangeSignal signal = new PageChangeSignal("test", 0);
+        Sleeper sleeper = signal.newSleeper();
+
+        // The page changes while the condition is being evaluated, before the wait goes to sleep
+        signal.signal();
+        long start = System.nanoTime();
+        sleeper.sleep(Duration.ofSeconds(5));
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+    }
+
+    @Test
+    public void testMinimumIntervalThrottlesMutationBursts() throws InterruptedException {
+        PageChangeSignal signal = new PageChangeSignal("test", 80);
+        Sleeper sleeper = signal.newSleeper();
+
+        signal.signal();
+        long start = System.nanoTime();
+        sleeper.sleep(Duration.ofSeconds(5));
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 75);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDevToolsBindingCallsSignal() {
+        DevTools devTools = mock(DevTools.class);
+        PageChangeSignal signal = PageChangeSignal.attachDevTools(devTools, 0);
+
+        ArgumentCaptor<Event<Object>> events = ArgumentCaptor.forClass(Event.class);
+        ArgumentCaptor<Consumer<Object>> listeners = ArgumentCaptor.forClass(Consumer.class);
+        verify(devTools, atLeastOnce()).addListener(events.capture(), listeners.capture());
+        ArgumentCaptor<Command<Object>> commands = ArgumentCaptor.forClass(Command.class);
+        verify(devTools, atLeastOnce()).send(commands.capture());
+        Assert.assertEquals(commands.getAllValues().get(0).getMethod(), "Runtime.addBinding");
+
+        List<Event<Object>> registered = events.getAllValues();
+        Consumer<Object> bindingListener = null;
+        Consumer<Object> loadListener = null;
+        for (int i = 0; i < registered.size(); i++) {
+            if ("Runtime.bindingCalled".equals(registered.get(i).getMethod())) {
+                bindingListener = listeners.getAllValues().get(i);
+            } else if ("Page.loadEventFired".equals(registered.get(i).getMethod())) {
+                loadListener = listeners.getAllValues().get(i);
+            }
+        }
+        Assert.assertNotNull(bindingListener);
+        Assert.assertNotNull(loadListener);
+
+        bindingListener.accept(Collections.singletonMap("name", "someOtherBinding"));
+        Assert.assertEquals(signal.getGeneration(), 0);
+        bindingListener.accept(Collections.singletonMap("name", PageChangeSignal.BINDING));
+        loadListener.accept(Collections.emptyMap());
+        Assert.assertEquals(signal.getGeneration(), 2);
+        Assert.assertEquals(signal.getTransport(), "CDP");
+    }
+
+    @Test
+    public void testDriversWithoutEventsKeepPolling() {
+        Assert.assertNull(PageChangeSignal.forDriver(mock(WebDriver.class), 0));
+    }
+}
@@ -0,0 +1,144 @@
+package com.framework.driver;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionReaper class
+ * Uses mocked WebDriver instances and a fake /proc tree
+ */
+public class SessionReaperTest {
+
+    private DriverRegistry registry;
+    private List<WebDriver> disposed;
+    private SessionReaper reaper;
+
+    @BeforeMethod
+    public void setUp() {
+        registry = new DriverRegistry();
+        disposed = new CopyOnWriteArrayList<>();
+        reaper = new SessionReaper(registry, Duration.ofMillis(200), 2, false, disposed::add);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        reaper.shutdown();
+    }
+
+    @Test
+    public void testDeadSessionIsReaped() {
+        WebDriver alive = mock(WebDriver.class);
+        WebDriver dead = mock(WebDriver.class);
+        when(dead.getWindowHandle()).thenThrow(new NoSuchSessionException("browser crashed"));
+        registry.register(alive, BrowserType.CHROME);
+        registry.register(dead, BrowserType.CHROME);
+
+        int reaped = reaper.reap(0);
+
+        Assert.assertEquals(reaped, 1);
+        Assert.assertFalse(registry.isRegistered(dead));
+        Assert.assertTrue(registry.isRegistered(alive));
+        Assert.assertEquals(disposed, List.of(dead));
+        Assert.assertTrue(reaper.consumeDead(dead), "Owning thread should see the dead mark");
+        Assert.assertFalse(reaper.consumeDead(dead), "Dead mark should be consumed once");
+        Assert.assertFalse(reaper.consumeDead(alive));
+    }
+
+    @Test
+    public void testRecentlyUsedSessionIsNotPinged() {
+        WebDriver driver = mock(WebDriver.class);
+        registry.register(driver, BrowserType.FIREFOX);
+
+        reaper.reap(60_000);
+
+        verify(driver, never()).getWindowHandle();
+    }
+
+    @Test
+    public void testHungSessionNeedsRepeatedMisses() {
+        WebDriver hung = mock(WebDriver.class);
+        when(hung.getWindowHandle()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return "handle";
+        });
+        registry.register(hung, BrowserType.EDGE);
+
+        Assert.assertEquals(reaper.reap(0), 0, "A single slow ping should not reap the session");
+        Assert.assertEquals(reaper.reap(0), 1);
+        Assert.assertEquals(reaper.getReapedCount(), 1);
+    }
+
+    @Test
+    public void testPooledSessionIsNotMarkedForOwner() {
+        WebDriver dead = mock(WebDriver.class);
+        when(dead.getWindowHandle()).thenThrow(new NoSuchSessionException("gone"));
+        registry.register(dead, BrowserType.CHROME);
+        registry.assignToPool(dead);
+
+        reaper.reap(0);
+
+        Assert.assertEquals(disposed, List.of(dead));
+        Assert.assertFalse(reaper.consumeDead(dead));
+    }
+
+    @Test
+    public void testOnlyBrowsersOfOwnDriversAreOrphaned() throws IOException {
+        Path proc = Files.createTempDirectory("proc");
+        process(proc, "50", 50, 1, "java");
+        Files.createSymbolicLink(proc.resolve("self"), proc.resolve("50"));
+        process(proc, "100", 100, 50, "/usr/bin/chromedriver", "--port=9515");
+        process(proc, "101", 101, 100, "/opt/google/chrome/chrome", "--enable-automation", "--headless=new");
+        process(proc, "102", 102, 101, "/opt/google/chrome/chrome", "--type=renderer", "--enable-automation");
+        process(proc, "110", 110, 50, "/usr/bin/geckodriver", "--port=4444");
+        process(proc, "111", 111, 110, "/usr/lib/firefox/firefox", "-marionette", "-profile", "/tmp/rust_mozprofile");
+        // Another JVM's driver and browser, and a Puppeteer browser
+        process(proc, "200", 200, 1, "/usr/bin/chromedriver", "--port=9600");
+        process(proc, "201", 201, 200, "/opt/google/chrome/chrome", "--enable-automation");
+        process(proc, "300", 300, 1, "/opt/google/chrome/chrome", "--enable-automation", "--remote-debugging-port=0");
+
+        Map<Long, SessionReaper.OwnedBrowser> owned = new HashMap<>(SessionReaper.findOwnedBrowsers(proc));
+        Assert.assertEquals(owned.keySet(), Set.of(101L, 111L));
+        Assert.assertTrue(SessionReaper.findOrphanedBrowsers(proc, owned).isEmpty());
+
+        // chromedriver died: Chrome is reparented to init; Firefox exited and its pid was reused
+        process(proc, "101", 101, 1, "/opt/google/chrome/chrome", "--enable-automation", "--headless=new");
+        process(proc, "111", 999, 1, "/usr/lib/firefox/firefox", "-marionette");
+
+        Assert.assertEquals(SessionReaper.findOrphanedBrowsers(proc, owned), List.of(101L));
+        Assert.assertTrue(owned.isEmpty());
+    }
+
+    @Test
+    public void testNothingIsKilledWithKillOrphansOff() {
+        reaper.trackOwnedBrowsers();
+
+        Assert.assertEquals(reaper.killOrphanedBrowsers(), 0);
+        Assert.assertEquals(reaper.getOrphansKilled(), 0);
+    }
+
+    private void process(Path proc, String pid, long startTime, long parentPid, String... cmdline)
+            throws IOException {
+        Path dir = Files.createDirectories(proc.resolve(pid));
+        Files.write(dir.resolve("cmdline"), (String.join("\0", cmdline) + "\0").getBytes(StandardCharsets.UTF_8));
+        // proc(5) stat: pid (comm) state ppid, 17 more fields, then starttime as field 22
+        String stat = pid + " (proc name) S " + parentPid + " 1 1 0 -1 4194304 0 0 0 0 0 0 0 0 20 0 1 0 " + startTime;
+        Files.write(dir.resolve("stat"), stat.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.framework.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionResetter class
+ */
+public class SessionResetterTest {
+
+    private WebDriver mockDriver() {
+        return mock(ChromeDriver.class, RETURNS_DEEP_STUBS);
+    }
+
+    @Test
+    public void testResetClosesExtraWindowsAndClearsState() {
+        WebDriver driver = mockDriver();
+        when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>(Arrays.asList("main", "popup")));
+
+        boolean reset = SessionResetter.resetSession(driver);
+
+        Assert.assertTrue(reset, "Reset should succeed");
+        verify((JavascriptExecutor) driver, times(2)).executeAsyncScript(anyString());
+        verify(driver, times(1)).close();
+        verify(driver.manage()).deleteAllCookies();
+        verify((ChromeDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        verify(driver).get("about:blank");
+    }
+
+    @Test
+    public void testResetFailsWithoutBrowserWideClearing() {
+        WebDriver driver = mock(FirefoxDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>(Arrays.asList("main")));
+
+        Assert.assertFalse(SessionResetter.resetSession(driver),
+                "Firefox keeps cookies and storage of other origins, so the session should be quit");
+        verify((JavascriptExecutor) driver, never()).executeAsyncScript(anyString());
+    }
+
+    @Test
+    public void testOnlyChromiumCanBeReset() {
+        Assert.assertTrue(SessionResetter.canReset(BrowserType.CHROME_HEADLESS));
+        Assert.assertTrue(SessionResetter.canReset(BrowserType.EDGE));
+        Assert.assertFalse(SessionResetter.canReset(BrowserType.FIREFOX));
+        Assert.assertFalse(SessionResetter.canReset(BrowserType.SAFARI));
+        Assert.assertTrue(SessionResetter.canReset(mockDriver()));
+        Assert.assertFalse(SessionResetter.canReset(mock(FirefoxDriver.class)));
+    }
+
+    @Test
+    public void testResetFailsOnDeadSession() {
+        WebDriver driver = mockDriver();
+        when(driver.getWindowHandles()).thenThrow(new RuntimeException("invalid session id"));
+
+        Assert.assertFalse(SessionResetter.resetSession(driver), "Reset of a dead session should fail");
+    }
+
+    @Test
+    public void testResetFailsWithoutWindows() {
+        WebDriver driver = mockDriver();
+        when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>());
+
+        Assert.assertFalse(SessionResetter.resetSession(driver), "Reset without windows should fail");
+    }
+}
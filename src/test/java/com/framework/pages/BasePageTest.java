@@ -15,10 +15,8 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -378,9 +376,7 @@ public class BasePageTest {
         when(mockDriver instanceof TakesScreenshot).thenReturn(true);
         TakesScreenshot takesScreenshot = (TakesScreenshot) mockDriver;
         
-        File mockScreenshotFile = mock(File.class);
-        when(takesScreenshot.getScreenshotAs(OutputType.FILE)).thenReturn(mockScreenshotFile);
-        when(mockScreenshotFile.toPath()).thenReturn(Paths.get("test-screenshot.png"));
+        when(takesScreenshot.getScreenshotAs(OutputType.BASE64)).thenReturn("iVBORw0KGgo=");
         
         // Mock ConfigManager for screenshot path
         when(mockConfigManager.getTestConfig()).thenReturn(mock(com.framework.config.TestConfig.class));
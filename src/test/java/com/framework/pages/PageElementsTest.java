@@ -0,0 +1,169 @@
+package com.framework.pages;
+
+import com.framework.utils.LoggerUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PageElements class
+ * The benchmark compares wiring a page and calling its fields with PageFactory and with PageElements;
+ * it asserts lookup counts and only logs the timings
+ */
+public class PageElementsTest {
+
+    private static final int BENCHMARK_PAGES = 20_000;
+    private static final int BENCHMARK_CALLS = 100;
+
+    private WebDriver driver;
+    private WebElement username;
+
+    private static class LoginPage extends BasePage {
+        private static WebElement ignored;
+
+        @FindBy(id = "username")
+        private WebElement usernameField;
+
+        @FindBy(css = "button[type='submit']")
+        private WebElement submitButton;
+
+        @FindBy(css = "#results li")
+        private List<WebElement> results;
+
+        private WebElement password;
+
+        LoginPage(WebDriver driver) {
+            super(driver, 1);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                .defaultAnswer(RETURNS_DEEP_STUBS));
+        username = mock(WebElement.class);
+        when(username.getText()).thenReturn("admin");
+        when(driver.findElement(By.id("username"))).thenReturn(username);
+    }
+
+    @Test
+    public void testFieldsAreWiredWithDeclaredLocators() {
+        LoginPage page = new LoginPage(driver);
+
+        Assert.assertEquals(PageElements.locatorOf(page.usernameField), By.id("username"));
+        Assert.assertEquals(PageElements.locatorOf(page.submitButton), By.cssSelector("button[type='submit']"));
+        Assert.assertNotNull(page.password);
+        Assert.assertNull(LoginPage.ignored);
+        Assert.assertNull(PageElements.locatorOf(username));
+        Assert.assertEquals(page.usernameField.toString(), "Page element for: By.id: username");
+
+        List<WebElement> items = Arrays.asList(mock(WebElement.class), mock(WebElement.class));
+        when(driver.findElements(By.cssSelector("#results li"))).thenReturn(items);
+        Assert.assertEquals(page.results.size(), 2);
+        verifyNoInteractions(username);
+    }
+
+    @Test
+    public void testRepeatedCallsFindElementOnce() {
+        LoginPage page = new LoginPage(driver);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(page.usernameField.getText(), "admin");
+        }
+
+        verify(driver, times(1)).findElement(By.id("username"));
+        Assert.assertEquals(page.elementCache.getHits(), 2);
+    }
+
+    @Test
+    public void testStaleElementIsFoundAgain() {
+        WebElement replaced = mock(WebElement.class);
+        when(replaced.getText()).thenThrow(new StaleElementReferenceException("detached"));
+        when(driver.findElement(By.id("username"))).thenReturn(replaced, username);
+        LoginPage page = new LoginPage(driver);
+
+        Assert.assertEquals(page.usernameField.getText(), "admin");
+        verify(driver, times(2)).findElement(By.id("username"));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testMissingElementThrowsNoSuchElement() {
+        when(driver.findElement(By.cssSelector("button[type='submit']"))).thenThrow(new NoSuchElementException("absent"));
+
+        new LoginPage(driver).submitButton.click();
+    }
+
+    @Test
+    public void testBasePageWaitsUseDeclaredLocator() {
+        Level originalLevel = LogManager.getLogger(BasePage.class).getLevel();
+        Configurator.setLevel(BasePage.class.getName(), Level.INFO);
+        try {
+            when(username.isDisplayed()).thenReturn(true);
+            LoginPage page = new LoginPage(driver);
+
+            Assert.assertEquals(page.getText(page.usernameField), "admin");
+            Assert.assertEquals(page.getText(page.usernameField), "admin");
+
+            verify(driver, times(1)).findElement(By.id("username"));
+            verify((JavascriptExecutor) driver, never()).executeScript(any(String.class), any());
+        } finally {
+            Configurator.setLevel(BasePage.class.getName(), originalLevel);
+        }
+    }
+
+    @Test
+    public void testWiringAndAccessBenchmark() {
+        LoginPage page = new LoginPage(driver);
+        for (int i = 0; i < BENCHMARK_PAGES / 10; i++) {
+            PageFactory.initElements(driver, page);
+            PageElements.init(page);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_PAGES; i++) {
+            PageFactory.initElements(driver, page);
+        }
+        long pageFactoryNanos = System.nanoTime() - start;
+        clearInvocations(driver);
+        for (int i = 0; i < BENCHMARK_CALLS; i++) {
+            page.usernameField.getText();
+        }
+        int pageFactoryLookups = mockingDetails(driver).getInvocations().size();
+
+        start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_PAGES; i++) {
+            PageElements.init(page);
+        }
+        long pageElementsNanos = System.nanoTime() - start;
+        clearInvocations(driver);
+        for (int i = 0; i < BENCHMARK_CALLS; i++) {
+            page.usernameField.getText();
+        }
+        int pageElementsLookups = mockingDetails(driver).getInvocations().size();
+
+        LoggerUtils.getLogger(PageElementsTest.class).info(String.format(
+                "Page wiring: PageFactory %.2f us/page, PageElements %.2f us/page; %d calls on a field: "
+                        + "PageFactory %d lookups, PageElements %d",
+                pageFactoryNanos / 1000.0 / BENCHMARK_PAGES, pageElementsNanos / 1000.0 / BENCHMARK_PAGES,
+                BENCHMARK_CALLS, pageFactoryLookups, pageElementsLookups));
+        Assert.assertEquals(pageFactoryLookups, BENCHMARK_CALLS);
+        Assert.assertEquals(pageElementsLookups, 1);
+    }
+}
@@ -0,0 +1,231 @@
+package com.framework.reporting;
+
+import com.framework.exceptions.ConfigurationException;
+import com.framework.reporting.ScreenshotService.OverflowPolicy;
+import com.framework.utils.LoggerUtils;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScreenshotService class
+ * Overflow is tested with a single writer held on a named pipe until the test reads it.
+ * The benchmark compares the time the test thread spends per screenshot with and without the queue.
+ */
+public class ScreenshotServiceTest {
+
+    private static final int BENCHMARK_SCREENSHOTS = 40;
+    private static final int BENCHMARK_PNG_BYTES = 512 * 1024;
+
+    private final byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private final String base64Png = Base64.getEncoder().encodeToString(png);
+    private Path directory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("screenshots");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Submits a screenshot to a named pipe and waits until the only writer has taken it
+     */
+    private Path holdWriter(ScreenshotService service) throws Exception {
+        Path pipe = directory.resolve("held.png");
+        try {
+            if (new ProcessBuilder("mkfifo", pipe.toString()).start().waitFor() != 0) {
+                throw new SkipException("mkfifo failed");
+            }
+        } catch (IOException e) {
+            throw new SkipException("mkfifo not available");
+        }
+        service.submit(base64Png, pipe);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (service.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(service.getQueueDepth(), 0, "The writer should have taken the held screenshot");
+        return pipe;
+    }
+
+    @Test
+    public void testAsyncWritesAreCompleteAfterFlush() throws IOException {
+        ScreenshotService service = new ScreenshotService(true, 2, 8, OverflowPolicy.BLOCK);
+
+        List<CompletableFuture<Path>> screenshots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            screenshots.add(service.submit(base64Png, directory.resolve("nested/shot" + i + ".png")));
+        }
+
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(screenshots.get(i).getNow(null), directory.resolve("nested/shot" + i + ".png"),
+                    "Flush should wait until every screenshot reports its path");
+            Assert.assertEquals(Files.readAllBytes(directory.resolve("nested/shot" + i + ".png")), png);
+        }
+        Assert.assertEquals(service.getSubmittedCount(), 5);
+        Assert.assertEquals(service.getWrittenCount(), 5);
+        Assert.assertEquals(service.getDroppedCount(), 0);
+        Assert.assertTrue(service.getMaxWriteMillis() >= service.getMeanWriteMillis());
+        Assert.assertTrue(service.getSummary().startsWith("5 screenshots: 5 written, 0 dropped, 0 failed"),
+                service.getSummary());
+        Assert.assertTrue(service.getSummary().endsWith("(async, block)"), service.getSummary());
+    }
+
+    @Test
+    public void testSyncWritesOnCallingThread() throws IOException {
+        ScreenshotService service = new ScreenshotService(false, 2, 8, OverflowPolicy.BLOCK);
+
+        Path target = service.submit(base64Png, directory.resolve("sync.png")).getNow(null);
+
+        Assert.assertEquals(Files.readAllBytes(target), png);
+        Assert.assertEquals(service.getWrittenCount(), 1);
+        Assert.assertTrue(service.getSummary().endsWith("(sync)"), service.getSummary());
+    }
+
+    @Test
+    public void testCaptureTakesBase64OnCallingThread() throws IOException {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(TakesScreenshot.class));
+        when(((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64)).thenReturn(base64Png);
+        ScreenshotService service = new ScreenshotService(true, 1, 4, OverflowPolicy.BLOCK);
+
+        CompletableFuture<Path> screenshot = service.capture(driver, directory, "failure.png");
+
+        verify((TakesScreenshot) driver, times(1)).getScreenshotAs(OutputType.BASE64);
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        Assert.assertEquals(Files.readAllBytes(screenshot.getNow(null)), png);
+    }
+
+    @Test
+    public void testUndecodableScreenshotIsCountedAsFailed() {
+        ScreenshotService service = new ScreenshotService(true, 1, 4, OverflowPolicy.BLOCK);
+
+        CompletableFuture<Path> screenshot = service.submit("not*base64", directory.resolve("broken.png"));
+
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        Assert.assertTrue(screenshot.isDone());
+        Assert.assertNull(screenshot.join(), "A failed write should not report a path");
+        Assert.assertEquals(service.getFailedCount(), 1);
+        Assert.assertEquals(service.getWrittenCount(), 0);
+        Assert.assertFalse(Files.exists(directory.resolve("broken.png")));
+    }
+
+    @Test
+    public void testDropNewestKeepsQueuedScreenshot() throws Exception {
+        ScreenshotService service = new ScreenshotService(true, 1, 1, OverflowPolicy.DROP_NEWEST);
+        Path pipe = holdWriter(service);
+
+        service.submit(base64Png, directory.resolve("queued.png"));
+        CompletableFuture<Path> newest = service.submit(base64Png, directory.resolve("newest.png"));
+        Assert.assertEquals(service.getDroppedCount(), 1);
+        Assert.assertEquals(service.getMaxQueueDepth(), 1);
+        Assert.assertTrue(newest.isDone(), "The caller should know right away that its screenshot was dropped");
+        Assert.assertNull(newest.join());
+        Assert.assertFalse(service.flush(Duration.ofMillis(50)), "The held write should still be pending");
+
+        Assert.assertEquals(Files.readAllBytes(pipe), png);
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        Assert.assertTrue(Files.exists(directory.resolve("queued.png")));
+        Assert.assertFalse(Files.exists(directory.resolve("newest.png")));
+        Assert.assertEquals(service.getWrittenCount(), 2);
+    }
+
+    @Test
+    public void testDropOldestMakesRoomForNewest() throws Exception {
+        ScreenshotService service = new ScreenshotService(true, 1, 1, OverflowPolicy.DROP_OLDEST);
+        Path pipe = holdWriter(service);
+
+        CompletableFuture<Path> queued = service.submit(base64Png, directory.resolve("queued.png"));
+        CompletableFuture<Path> newest = service.submit(base64Png, directory.resolve("newest.png"));
+        Assert.assertEquals(service.getDroppedCount(), 1);
+        Assert.assertTrue(queued.isDone());
+        Assert.assertNull(queued.join(), "The dropped screenshot should not report a path");
+
+        Files.readAllBytes(pipe);
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        Assert.assertEquals(newest.getNow(null), directory.resolve("newest.png"));
+        Assert.assertFalse(Files.exists(directory.resolve("queued.png")));
+        Assert.assertTrue(Files.exists(directory.resolve("newest.png")));
+    }
+
+    @Test
+    public void testCallerWritesWhenQueueIsFull() throws Exception {
+        ScreenshotService service = new ScreenshotService(true, 1, 1, OverflowPolicy.CALLER_WRITES);
+        Path pipe = holdWriter(service);
+
+        service.submit(base64Png, directory.resolve("queued.png"));
+        service.submit(base64Png, directory.resolve("caller.png"));
+        Assert.assertTrue(Files.exists(directory.resolve("caller.png")), "The caller should have written it");
+        Assert.assertEquals(service.getDroppedCount(), 0);
+
+        Files.readAllBytes(pipe);
+        Assert.assertTrue(service.flush(Duration.ofSeconds(5)));
+        Assert.assertEquals(service.getWrittenCount(), 3);
+    }
+
+    @Test
+    public void testOverflowPolicyFromString() {
+        Assert.assertEquals(OverflowPolicy.fromString("block"), OverflowPolicy.BLOCK);
+        Assert.assertEquals(OverflowPolicy.fromString(" Caller-Writes "), OverflowPolicy.CALLER_WRITES);
+        Assert.assertEquals(OverflowPolicy.fromString("drop_oldest"), OverflowPolicy.DROP_OLDEST);
+        Assert.assertThrows(ConfigurationException.class, () -> OverflowPolicy.fromString("discard"));
+        Assert.assertThrows(ConfigurationException.class, () -> OverflowPolicy.fromString(null));
+    }
+
+    @Test
+    public void testTestThreadTimeBenchmark() {
+        byte[] bytes = new byte[BENCHMARK_PNG_BYTES];
+        new Random(42).nextBytes(bytes);
+        String base64 = Base64.getMimeEncoder().encodeToString(bytes);
+        ScreenshotService sync = new ScreenshotService(false, 2, BENCHMARK_SCREENSHOTS, OverflowPolicy.BLOCK);
+        ScreenshotService async = new ScreenshotService(true, 2, BENCHMARK_SCREENSHOTS, OverflowPolicy.BLOCK);
+        sync.submit(base64, directory.resolve("warmup-sync.png"));
+        async.submit(base64, directory.resolve("warmup-async.png"));
+        Assert.assertTrue(async.flush(Duration.ofSeconds(10)));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_SCREENSHOTS; i++) {
+            sync.submit(base64, directory.resolve("sync" + i + ".png"));
+        }
+        long syncNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_SCREENSHOTS; i++) {
+            async.submit(base64, directory.resolve("async" + i + ".png"));
+        }
+        long asyncNanos = System.nanoTime() - start;
+        Assert.assertTrue(async.flush(Duration.ofSeconds(30)));
+
+        LoggerUtils.getLogger(ScreenshotServiceTest.class).info(String.format(
+                "Test thread per %d KB screenshot: written in place %.2f ms, queued %.3f ms; %s",
+                BENCHMARK_PNG_BYTES / 1024, syncNanos / 1e6 / BENCHMARK_SCREENSHOTS,
+                asyncNanos / 1e6 / BENCHMARK_SCREENSHOTS, async.getSummary()));
+        Assert.assertEquals(async.getWrittenCount(), BENCHMARK_SCREENSHOTS + 1);
+        Assert.assertTrue(asyncNanos < syncNanos, "Queueing should cost the test thread less than writing");
+    }
+}
@@ -2,14 +2,22 @@ package com.framework.tests;
 
 import com.framework.config.ConfigManager;
 import com.framework.config.TestConfig;
+import com.framework.driver.DriverBootstrap;
 import com.framework.driver.DriverManager;
+import com.framework.driver.DriverStartupMetrics;
+import com.framework.driver.NetworkBlocker;
+import com.framework.reporting.ScreenshotService;
 import com.framework.reporting.ScreenshotUtils;
+import com.framework.utils.ExecutionContext;
+import com.framework.utils.ImplicitWaitReport;
 import com.framework.utils.TestLogger;
-//import org.openqa.*;
+import com.framework.utils.WaitTelemetry;
+import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
 import java.lang.reflect.Method;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,13 +27,15 @@ import java.util.Map;
  */
 public abstract class BaseTest {
     
-//    protected WebDriver driver;
+    // Lazy handle: the browser starts in the background and is awaited on first use
+    protected WebDriver driver;
     protected ConfigManager configManager;
     protected TestConfig testConfig;
     protected TestLogger testLogger;
     
-    // Thread-safe storage for test data
-    protected static final ThreadLocal<Map<String, Object>> testData = new ThreadLocal<>();
+    // Per-test storage for test data, carried to async work through the execution context
+    protected static final ExecutionContext.ContextLocal<Map<String, Object>> testData =
+            new ExecutionContext.ContextLocal<>("testData");
     
     /**
      * Suite-level setup - runs once before all tests in the suite
@@ -77,10 +87,12 @@ public abstract class BaseTest {
         // Log test start
         testLogger.testStarted(testName, description);
         
-        // Initialize WebDriver
+        // Start WebDriver in the background so browser startup overlaps test data setup
         try {
-            // driver = DriverManager.getInstance().initializeDriver();
-            testLogger.getLogger().info("WebDriver initialized successfully for test: {}", testName);
+            DriverManager driverManager = DriverManager.getInstance();
+            driverManager.initializeDriverAsync();
+            driver = driverManager.getLazyDriver();
+            testLogger.getLogger().info("WebDriver bootstrap started for test: {}", testName);
             
             // Navigate to base URL if configured
             String baseUrl = getBaseUrl();
@@ -123,6 +135,8 @@ public abstract class BaseTest {
             // Log test completion
             testLogger.testCompleted(testName, result, duration);
             
+            logBootstrapTiming(testName);
+            
             // Cleanup test-specific data
             cleanupTestData();
             
@@ -158,6 +172,33 @@ public abstract class BaseTest {
         
         // Cleanup any suite-level resources
         cleanupSuite();
+        
+        // Quit sessions kept alive by session reuse or the driver pool
+        DriverManager.quitAllDrivers();
+        
+        // Write screenshots still queued in the background
+        ScreenshotService screenshots = ScreenshotService.getInstance();
+        screenshots.flush(ScreenshotService.FLUSH_TIMEOUT);
+        if (screenshots.getSubmittedCount() > 0) {
+            testLogger.getLogger().info(screenshots.getSummary());
+        }
+        
+        testLogger.getLogger().info(DriverBootstrap.getSummary());
+        testLogger.getLogger().info(NetworkBlocker.getSummary());
+        if (testConfig.isAdmissionControlEnabled()) {
+            testLogger.getLogger().info(DriverManager.getInstance().getAdmissionController().getSummary());
+        }
+        if (DriverStartupMetrics.export(Paths.get(testConfig.getReportPath()))) {
+            testLogger.getLogger().info("Driver startup latency:{}{}", System.lineSeparator(), DriverStartupMetrics.toTable());
+        }
+        if (WaitTelemetry.export(Paths.get(testConfig.getReportPath()), testConfig.getWaitTelemetryReportLimit())) {
+            testLogger.getLogger().info("Slowest locators:{}{}", System.lineSeparator(),
+                    WaitTelemetry.toTable(testConfig.getWaitTelemetryReportLimit()));
+        }
+        if (ImplicitWaitReport.export(Paths.get(testConfig.getReportPath()))) {
+            testLogger.getLogger().info("Lookups that used to wait implicitly:{}{}", System.lineSeparator(),
+                    ImplicitWaitReport.toTable());
+        }
     }
     
     /**
@@ -168,7 +209,7 @@ public abstract class BaseTest {
         
         try {
             // Capture screenshot if enabled and driver is available
-            if (testConfig.isScreenshotOnFailure() && driver != null) {
+            if (testConfig.isScreenshotOnFailure() && DriverManager.getInstance().isDriverInitialized()) {
                 String screenshotPath = ScreenshotUtils.captureScreenshot(testName, "failure");
                 if (screenshotPath != null) {
                     testLogger.getLogger().info("Failure screenshot captured: {}", screenshotPath);
@@ -189,19 +230,34 @@ public abstract class BaseTest {
     
     /**
      * Cleanup WebDriver instance
+     * With session.reuse.enabled the browser is reset and kept for the next test on this thread
      */
     private void cleanupWebDriver() {
         try {
-            if (driver != null) {
-                DriverManager.getInstance().quitDriver();
-                driver = null;
+            DriverManager driverManager = DriverManager.getInstance();
+            if (driverManager.isDriverInitialized()) {
+                driverManager.releaseDriver();
                 testLogger.getLogger().debug("WebDriver cleaned up successfully");
             }
+            driver = null;
         } catch (Exception e) {
             testLogger.getLogger().error("Error while cleaning up WebDriver: {}", e.getMessage(), e);
         }
     }
     
+    /**
+     * Logs how much setup time the async driver bootstrap saved for this test
+     */
+    private void logBootstrapTiming(String testName) {
+        DriverBootstrap bootstrap = DriverManager.getInstance().getLastBootstrap();
+        if (bootstrap != null && bootstrap.isDone()) {
+            testLogger.getLogger().info("Driver bootstrap for {} took {} ms, test thread blocked {} ms, overlap saved {} ms",
+                    testName, bootstrap.getBootstrapMillis(), bootstrap.getWaitMillis(), 
+                    bootstrap.getOverlapSavedMillis());
+            setTestData("driverBootstrapSavedMs", bootstrap.getOverlapSavedMillis());
+        }
+    }
+    
     /**
      * Get base URL based on current environment
      */
@@ -0,0 +1,118 @@
+package com.framework.utils;
+
+import com.framework.exceptions.ElementNotFoundException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkExtractor and TableData classes
+ * The mocked driver answers the extraction script with the chunks the script would return
+ */
+public class BulkExtractorTest {
+
+    private final By results = By.cssSelector("#results td.name");
+    private final By grid = By.id("grid");
+
+    private WebDriver driver;
+    private JavascriptExecutor js;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        js = (JavascriptExecutor) driver;
+    }
+
+    private static Map<String, Object> chunk(int total, List<?> headers, Object... rows) {
+        Map<String, Object> chunk = new HashMap<>();
+        chunk.put("total", (long) total);
+        chunk.put("headers", headers);
+        chunk.put("rows", Arrays.asList(rows));
+        return chunk;
+    }
+
+    @Test
+    public void testTextsInOneScriptCall() {
+        when(js.executeScript(anyString(), any(), any(), any(), any(), any()))
+                .thenReturn(chunk(3, null, "Alpha", "Beta", "Gamma"));
+        BulkExtractor extractor = new BulkExtractor(driver, 500);
+
+        Assert.assertEquals(extractor.getTexts(results), Arrays.asList("Alpha", "Beta", "Gamma"));
+        Assert.assertEquals(extractor.getScriptCallCount(), 1);
+        verify(js).executeScript(eq(BulkExtractor.EXTRACT_SCRIPT), eq(Arrays.asList("css", "#results td.name")),
+                eq("text"), eq(Collections.emptyList()), eq(0), eq(500));
+        verify(driver, never()).findElements(any());
+    }
+
+    @Test
+    public void testLargeTableIsStreamedInChunks() {
+        List<String> headers = Arrays.asList("Name", "Status");
+        when(js.executeScript(anyString(), any(), eq("table"), any(), eq(0), eq(2)))
+                .thenReturn(chunk(5, headers, Arrays.asList("a", "open"), Arrays.asList("b", "closed")));
+        when(js.executeScript(anyString(), any(), eq("table"), any(), eq(2), eq(2)))
+                .thenReturn(chunk(5, headers, Arrays.asList("c", "open"), Arrays.asList("d", "open")));
+        when(js.executeScript(anyString(), any(), eq("table"), any(), eq(4), eq(2)))
+                .thenReturn(chunk(5, headers, Arrays.asList("e", "closed")));
+        BulkExtractor extractor = new BulkExtractor(driver, 2);
+
+        List<List<String>> streamed = new ArrayList<>();
+        Assert.assertEquals(extractor.forEachTableRow(grid, streamed::add), headers);
+        Assert.assertEquals(streamed.size(), 5);
+        Assert.assertEquals(extractor.getScriptCallCount(), 3);
+
+        TableData table = extractor.extractTable(grid);
+        Assert.assertEquals(table.getRowCount(), 5);
+        Assert.assertEquals(table.getColumn("Status"), Arrays.asList("open", "closed", "open", "open", "closed"));
+        Assert.assertEquals(table.getCell(3, "Name"), "d");
+        Assert.assertEquals(table.asMaps().get(4).get("Status"), "closed");
+    }
+
+    @Test
+    public void testAttributesAreMappedByName() {
+        when(js.executeScript(anyString(), any(), eq("attributes"), any(), any(), any()))
+                .thenReturn(chunk(2, null, Arrays.asList("row-1", "true"), Arrays.asList("row-2", null)));
+
+        List<Map<String, String>> values = new BulkExtractor(driver, 500).getAttributes(results, "id", "data-selected");
+
+        Assert.assertEquals(values.get(0).get("id"), "row-1");
+        Assert.assertEquals(values.get(0).get("data-selected"), "true");
+        Assert.assertNull(values.get(1).get("data-selected"));
+    }
+
+    @Test
+    public void testLinkTextIsResolvedThroughDriver() {
+        By links = By.linkText("Details");
+        List<WebElement> elements = Arrays.asList(mock(WebElement.class), mock(WebElement.class));
+        when(driver.findElements(links)).thenReturn(elements);
+        when(js.executeScript(anyString(), any(), any(), any(), any(), any())).thenReturn(chunk(2, null, "x", "y"));
+
+        Assert.assertEquals(new BulkExtractor(driver, 500).getTexts(links), Arrays.asList("x", "y"));
+        verify(js).executeScript(anyString(), eq(elements), eq("text"), any(), any(), any());
+    }
+
+    @Test(expectedExceptions = ElementNotFoundException.class)
+    public void testMissingTableThrows() {
+        when(js.executeScript(anyString(), any(), any(), any(), any(), any())).thenReturn(null);
+
+        new BulkExtractor(driver, 500).extractTable(grid);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownColumnThrows() {
+        new TableData(Arrays.asList("Name"), Collections.emptyList()).getColumn("Status");
+    }
+}
@@ -0,0 +1,107 @@
+package com.framework.utils;
+
+import com.framework.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ElementCache class and its use in BasePage
+ */
+public class ElementCacheTest {
+
+    private final By username = By.id("username");
+
+    private WebDriver driver;
+    private WebElement element;
+
+    private static class CachingPage extends BasePage {
+        CachingPage(WebDriver driver) {
+            super(driver, 1);
+        }
+
+        ElementCache getCache() {
+            return elementCache;
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(true);
+        when(element.isEnabled()).thenReturn(true);
+        when(element.getText()).thenReturn("admin");
+        when(driver.findElement(username)).thenReturn(element);
+    }
+
+    @Test
+    public void testRepeatedActionsFindElementOnce() {
+        CachingPage page = new CachingPage(driver);
+
+        page.typeText(username, "admin");
+        Assert.assertEquals(page.getText(username), "admin");
+        page.clickElement(username);
+
+        verify(driver, times(1)).findElement(username);
+        Assert.assertEquals(page.getCache().getMisses(), 1);
+        Assert.assertEquals(page.getCache().getHits(), 2);
+    }
+
+    @Test
+    public void testNavigationInvalidates() {
+        CachingPage page = new CachingPage(driver);
+
+        page.getText(username);
+        page.refreshPage();
+        Assert.assertEquals(page.getCache().size(), 0);
+        page.getText(username);
+
+        verify(driver, times(2)).findElement(username);
+    }
+
+    @Test
+    public void testStaleElementIsFoundAgain() {
+        WebElement fresh = mock(WebElement.class);
+        when(fresh.isDisplayed()).thenReturn(true);
+        when(fresh.getText()).thenReturn("fresh");
+        ElementCache cache = new ElementCache(true);
+
+        cache.resolve(username, WebElement::isDisplayed, locator -> element);
+        when(element.isDisplayed()).thenThrow(new StaleElementReferenceException("detached"));
+
+        Assert.assertSame(cache.resolve(username, WebElement::isDisplayed, locator -> fresh), fresh);
+        Assert.assertSame(cache.resolve(username, WebElement::isDisplayed, locator -> element), fresh);
+        Assert.assertEquals(cache.getMisses(), 2);
+        Assert.assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void testElementFailingCheckIsResolvedAgain() {
+        ElementCache cache = new ElementCache(true);
+        cache.resolve(username, WebElement::isDisplayed, locator -> element);
+        when(element.isDisplayed()).thenReturn(false);
+
+        cache.resolve(username, WebElement::isDisplayed, locator -> element);
+
+        Assert.assertEquals(cache.getMisses(), 2);
+        Assert.assertEquals(cache.getHits(), 0);
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysResolves() {
+        ElementCache cache = new ElementCache(false);
+
+        cache.resolve(username, WebElement::isDisplayed, locator -> element);
+        cache.resolve(username, WebElement::isDisplayed, locator -> element);
+
+        Assert.assertEquals(cache.getMisses(), 2);
+        Assert.assertEquals(cache.size(), 0);
+    }
+}
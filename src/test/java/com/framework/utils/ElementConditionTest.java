@@ -0,0 +1,99 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ElementCondition class and the multi-condition waits of WaitUtils
+ */
+public class ElementConditionTest {
+
+    private WebDriver driver;
+    private WaitUtils waitUtils;
+
+    private final ElementCondition title = ElementCondition.visible(By.xpath("//h1"));
+    private final ElementCondition login = ElementCondition.clickable(By.id("loginButton"));
+    private final ElementCondition rows = ElementCondition.countEquals(By.cssSelector("tr"), 3);
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        waitUtils = new WaitUtils(driver, 2).withPolling(PollingStrategy.fixed(10));
+    }
+
+    @Test
+    public void testScriptArguments() {
+        Assert.assertEquals(ElementCondition.attributeContains(By.name("q"), "class", "active").toScriptArguments(),
+                Arrays.asList("name", "q", "attribute", "class", "active", 0));
+        Assert.assertEquals(rows.toScriptArguments(), Arrays.asList("css", "tr", "count", null, null, 3));
+        Assert.assertNull(ElementCondition.visible(By.linkText("Home")).toScriptArguments());
+    }
+
+    @Test
+    public void testWaitForAllUsesOneScriptCallPerPoll() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenReturn(Arrays.asList(true, false, true))
+                .thenReturn(Arrays.asList(true, true, true));
+
+        Map<ElementCondition, Boolean> results = waitUtils.waitForAll(title, login, rows);
+
+        Assert.assertEquals(results.values(), Arrays.asList(true, true, true));
+        Assert.assertEquals(waitUtils.getLastPollCount(), 2);
+        verify((JavascriptExecutor) driver, times(2)).executeScript(anyString(), any());
+        verify(driver, never()).findElement(any());
+    }
+
+    @Test
+    public void testWaitForAnyReturnsWhenOneConditionHolds() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenReturn(Arrays.asList(false, true, false));
+
+        Map<ElementCondition, Boolean> results = waitUtils.waitForAny(title, login, rows);
+
+        Assert.assertFalse(results.get(title));
+        Assert.assertTrue(results.get(login));
+        Assert.assertEquals(waitUtils.getLastPollCount(), 1);
+    }
+
+    @Test
+    public void testWaitForAllReturnsLastResultsOnTimeout() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenReturn(Arrays.asList(true, false, true));
+
+        Map<ElementCondition, Boolean> results = waitUtils.waitForAll(1, title, login, rows);
+
+        Assert.assertTrue(results.get(title));
+        Assert.assertFalse(results.get(login));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnsupportedLocatorFallsBackToDriver() {
+        By home = By.linkText("Home");
+        WebElement link = mock(WebElement.class);
+        when(link.isDisplayed()).thenReturn(true);
+        when(driver.findElement(home)).thenReturn(link);
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenReturn(Collections.singletonList(true));
+
+        Map<ElementCondition, Boolean> results = waitUtils.waitForAll(title, ElementCondition.visible(home));
+
+        Assert.assertEquals(results.values(), Arrays.asList(true, true));
+        verify((JavascriptExecutor) driver).executeScript(anyString(),
+                argThat((List<?> arguments) -> arguments.size() == 1));
+    }
+}
@@ -0,0 +1,146 @@
+package com.framework.utils;
+
+import com.framework.pages.BasePage;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.mockito.invocation.Invocation;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ElementDescription class
+ * The benchmark counts the WebDriver commands of BasePage.clickElement(WebElement) against the
+ * commands the former four-call description and attribute-based locator lookup issued
+ */
+public class ElementDescriptionTest {
+
+    // Methods that each cost a WebDriver round trip
+    private static final Set<String> COMMANDS = new HashSet<>(Arrays.asList("findElement", "findElements",
+            "executeScript", "getTagName", "getAttribute", "getDomAttribute", "getText", "isDisplayed",
+            "isEnabled", "click"));
+
+    private WebDriver driver;
+    private JavascriptExecutor js;
+    private WebElement element;
+    private Level originalLevel;
+
+    private static class DescribedPage extends BasePage {
+        DescribedPage(WebDriver driver) {
+            super(driver, 1);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                .defaultAnswer(RETURNS_DEEP_STUBS));
+        js = (JavascriptExecutor) driver;
+        element = mock(WebElement.class);
+        when(js.executeScript(eq(ElementDescription.DESCRIBE_SCRIPT), any()))
+                .thenReturn(Arrays.asList("button", "submit", "btn primary", "Sign in"));
+        when(driver.findElement(By.id("submit"))).thenReturn(element);
+        when(element.isDisplayed()).thenReturn(true);
+        when(element.isEnabled()).thenReturn(true);
+        when(element.getTagName()).thenReturn("button");
+        when(element.getAttribute("id")).thenReturn("submit");
+        when(element.getAttribute("class")).thenReturn("btn primary");
+        when(element.getText()).thenReturn("Sign in");
+        originalLevel = LogManager.getLogger(BasePage.class).getLevel();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        Configurator.setLevel(BasePage.class.getName(), originalLevel);
+    }
+
+    private int commandCount() {
+        int count = 0;
+        for (Object mock : new Object[] {driver, element}) {
+            for (Invocation invocation : mockingDetails(mock).getInvocations()) {
+                if (COMMANDS.contains(invocation.getMethod().getName())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testDescriptionIsReadOnceAndOnlyWhenUsed() {
+        ElementDescription description = ElementDescription.of(driver, element);
+        verifyNoInteractions(element);
+        verify(js, never()).executeScript(anyString(), any());
+
+        Assert.assertEquals(description.toString(), "button[id='submit'][class='btn primary'][text='Sign in']");
+        Assert.assertEquals(description.toLocator(), By.id("submit"));
+        verify(js, times(1)).executeScript(ElementDescription.DESCRIBE_SCRIPT, element);
+        verifyNoInteractions(element);
+    }
+
+    @Test
+    public void testLocatorFallsBackToFirstClassThenTag() {
+        when(js.executeScript(eq(ElementDescription.DESCRIBE_SCRIPT), any()))
+                .thenReturn(Arrays.asList("li", "", " item  active", ""))
+                .thenReturn(Arrays.asList("li", "", "", ""));
+
+        Assert.assertEquals(ElementDescription.of(driver, element).toLocator(), By.className("item"));
+        Assert.assertEquals(ElementDescription.of(driver, element).toLocator(), By.tagName("li"));
+    }
+
+    @Test
+    public void testUnreadableElement() {
+        when(js.executeScript(eq(ElementDescription.DESCRIBE_SCRIPT), any())).thenThrow(new RuntimeException("gone"));
+        ElementDescription description = ElementDescription.of(driver, element);
+
+        Assert.assertEquals(description.toString(), "UnknownElement");
+        Assert.assertEquals(description.toLocator(), By.tagName("*"));
+    }
+
+    @Test
+    public void testStateCheckReadsNothingWithDebugOff() {
+        Configurator.setLevel(BasePage.class.getName(), Level.INFO);
+
+        Assert.assertTrue(new DescribedPage(driver).isElementDisplayed(element));
+
+        Assert.assertEquals(commandCount(), 1);
+    }
+
+    @Test
+    public void testClickCommandBenchmark() {
+        Configurator.setLevel(BasePage.class.getName(), Level.INFO);
+        DescribedPage page = new DescribedPage(driver);
+        clearInvocations(driver, element);
+
+        page.clickElement(element);
+        int commands = commandCount();
+
+        // The former path: locator from getAttribute("id"), the same wait and click, then four description calls
+        clearInvocations(driver, element);
+        element.getAttribute("id");
+        new WaitUtils(driver, 1).waitForElementClickable(By.id("submit"));
+        element.click();
+        element.getTagName();
+        element.getAttribute("id");
+        element.getAttribute("class");
+        element.getText();
+        int formerCommands = commandCount();
+
+        LoggerUtils.getLogger(ElementDescriptionTest.class).info(
+                "clickElement(WebElement): {} WebDriver commands, formerly {}", commands, formerCommands);
+        Assert.assertEquals(formerCommands - commands, 4);
+    }
+}
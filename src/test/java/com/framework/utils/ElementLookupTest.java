@@ -0,0 +1,103 @@
+package com.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.config.ConfigManager;
+import com.framework.config.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ElementLookup and ImplicitWaitReport classes
+ */
+public class ElementLookupTest {
+
+    private final By banner = By.id("banner");
+
+    private WebDriver driver;
+    private TestConfig config;
+    private boolean originalZeroImplicitWait;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class);
+        when(driver.findElement(banner)).thenThrow(new NoSuchElementException("absent"));
+        when(driver.findElements(banner)).thenReturn(Collections.emptyList());
+        config = ConfigManager.getInstance().getTestConfig();
+        originalZeroImplicitWait = config.isWaitImplicitZeroEnabled();
+        ImplicitWaitReport.reset();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        config.setWaitImplicitZeroEnabled(originalZeroImplicitWait);
+        ImplicitWaitReport.reset();
+    }
+
+    @Test
+    public void testMissesAreReportedWithCallerInZeroMode() {
+        config.setWaitImplicitZeroEnabled(true);
+        WaitUtils waitUtils = new WaitUtils(driver, 5);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertFalse(waitUtils.isElementDisplayed(banner));
+        }
+        Assert.assertEquals(waitUtils.getElementCount(banner), 0);
+
+        Map<String, Long> misses = ImplicitWaitReport.getMisses();
+        Assert.assertEquals(misses.size(), 2, misses.toString());
+        String first = misses.keySet().iterator().next();
+        Assert.assertTrue(first.startsWith("ElementLookupTest.testMissesAreReportedWithCallerInZeroMode:"), first);
+        Assert.assertTrue(first.endsWith(banner.toString()), first);
+        Assert.assertEquals(misses.get(first).longValue(), 2);
+    }
+
+    @Test
+    public void testFoundElementsAreNotReported() {
+        config.setWaitImplicitZeroEnabled(true);
+        By title = By.tagName("h1");
+        WebElement element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(true);
+        when(driver.findElement(title)).thenReturn(element);
+
+        Assert.assertTrue(new WaitUtils(driver, 5).isElementDisplayed(title));
+        Assert.assertTrue(ImplicitWaitReport.getMisses().isEmpty());
+    }
+
+    @Test
+    public void testNothingReportedWithImplicitWait() {
+        config.setWaitImplicitZeroEnabled(false);
+
+        Assert.assertNull(new ElementLookup(driver).probe(banner));
+        Assert.assertTrue(new ElementLookup(driver).probeAll(banner).isEmpty());
+        Assert.assertTrue(ImplicitWaitReport.getMisses().isEmpty());
+    }
+
+    @Test
+    public void testExport() throws IOException {
+        ImplicitWaitReport.record("LoginPage.hasError:42", banner);
+        Path directory = Files.createTempDirectory("implicit-wait");
+
+        Assert.assertTrue(ImplicitWaitReport.export(directory));
+
+        JsonNode rows = new ObjectMapper().readTree(directory.resolve("implicit-wait-report.json").toFile());
+        Assert.assertEquals(rows.get(0).get("callSite").asText(), "LoginPage.hasError:42");
+        Assert.assertEquals(rows.get(0).get("locator").asText(), "By.id: banner");
+        Assert.assertEquals(rows.get(0).get("misses").asLong(), 1);
+        Assert.assertTrue(Files.readString(directory.resolve("implicit-wait-report.txt")).contains("LoginPage.hasError:42"));
+    }
+}
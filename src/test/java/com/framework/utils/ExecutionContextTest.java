@@ -0,0 +1,84 @@
+package com.framework.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for ExecutionContext class
+ */
+public class ExecutionContextTest {
+
+    private static final ExecutionContext.ContextLocal<String> value = new ExecutionContext.ContextLocal<>("value");
+
+    @BeforeMethod
+    public void setUp() {
+        // Start from an empty context, whatever earlier test classes left on this thread
+        ExecutionContext.unbind();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        value.remove();
+        ExecutionContext.unbind();
+    }
+
+    @Test
+    public void testValuesAreIsolatedPerThread() throws Exception {
+        value.set("main");
+
+        String seenByOtherThread = CompletableFuture.supplyAsync(() -> {
+            String before = value.get();
+            value.set("other");
+            return before;
+        }).get(5, TimeUnit.SECONDS);
+
+        Assert.assertNull(seenByOtherThread);
+        Assert.assertEquals(value.get(), "main");
+    }
+
+    @Test
+    public void testWrappedTasksSeeTheCallersContext() throws Exception {
+        value.set("test-1");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertEquals(executor.submit(ExecutionContext.current().wrap(value::get)).get(5, TimeUnit.SECONDS), "test-1");
+            Assert.assertNull(executor.submit(value::get).get(5, TimeUnit.SECONDS),
+                    "The pooled thread should not keep the context after the wrapped task");
+
+            executor.submit(ExecutionContext.current().wrap(() -> value.set("changed"))).get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(value.get(), "changed", "Wrapped tasks share the caller's context");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSetNullRemovesValue() {
+        value.set("value");
+        Assert.assertEquals(ExecutionContext.current().size(), 1);
+
+        value.set(null);
+
+        Assert.assertNull(value.get());
+        Assert.assertEquals(ExecutionContext.current().size(), 0);
+    }
+
+    @Test
+    public void testUnbindStartsFreshContext() {
+        value.set("old");
+        ExecutionContext old = ExecutionContext.current();
+
+        ExecutionContext.unbind();
+
+        Assert.assertNull(value.get());
+        Assert.assertNotSame(ExecutionContext.current(), old);
+        old.wrap(() -> Assert.assertEquals(value.get(), "old")).run();
+    }
+}
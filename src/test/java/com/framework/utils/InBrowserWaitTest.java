@@ -0,0 +1,144 @@
+package com.framework.utils;
+
+import com.framework.config.ConfigManager;
+import com.framework.config.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InBrowserWait class
+ * The mocked driver answers executeAsyncScript the way the injected script calls back
+ */
+public class InBrowserWaitTest {
+
+    private final By header = By.id("header");
+    private final By results = By.cssSelector("#results tr");
+
+    private WebDriver driver;
+    private JavascriptExecutor js;
+    private WebDriver.Timeouts timeouts;
+    private String originalEngine;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        js = (JavascriptExecutor) driver;
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        timeouts = mock(WebDriver.Timeouts.class);
+        when(driver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(timeouts.getScriptTimeout()).thenReturn(Duration.ofSeconds(30));
+        originalEngine = ConfigManager.getInstance().getTestConfig().getWaitEngine();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        ConfigManager.getInstance().getTestConfig().setWaitEngine(originalEngine);
+    }
+
+    private static Map<String, Object> callback(boolean met, Boolean... results) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("met", met);
+        response.put("results", Arrays.asList(results));
+        return response;
+    }
+
+    @Test
+    public void testWholeWaitIsOneScriptCall() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any(), any())).thenReturn(callback(true, true, true));
+        InBrowserWait wait = new InBrowserWait(driver, 250);
+
+        Map<ElementCondition, Boolean> outcome = wait.await(Duration.ofSeconds(10), true,
+                ElementCondition.visible(header), ElementCondition.countEquals(results, 10));
+
+        Assert.assertEquals(outcome.values(), Arrays.asList(true, true));
+        Assert.assertEquals(wait.getScriptCallCount(), 1);
+        verify(js).executeAsyncScript(eq(InBrowserWait.WAIT_SCRIPT), any(), eq(true),
+                longThat(slice -> slice > 9000 && slice <= 10000), eq(250L));
+    }
+
+    @Test
+    public void testLongWaitIsSlicedBelowScriptTimeout() {
+        WebDriver slicedDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        when(slicedDriver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(timeouts.getScriptTimeout()).thenReturn(Duration.ofMillis(1100));
+        when(((JavascriptExecutor) slicedDriver).executeAsyncScript(anyString(), any(), any(), any(), any()))
+                .thenReturn(callback(false, false))
+                .thenReturn(callback(true, true));
+        InBrowserWait wait = new InBrowserWait(slicedDriver, 250);
+
+        Map<ElementCondition, Boolean> outcome = wait.await(Duration.ofSeconds(10), true, ElementCondition.visible(header));
+
+        Assert.assertTrue(outcome.containsValue(true));
+        Assert.assertEquals(wait.getScriptCallCount(), 2);
+        verify((JavascriptExecutor) slicedDriver, times(2))
+                .executeAsyncScript(anyString(), any(), any(), eq(100L), any());
+    }
+
+    @Test
+    public void testNavigationRestartsWaitInNewDocument() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any(), any()))
+                .thenThrow(new JavascriptException("document unloaded while waiting for result"))
+                .thenReturn(callback(true, true));
+        InBrowserWait wait = new InBrowserWait(driver, 10);
+
+        Map<ElementCondition, Boolean> outcome = wait.await(Duration.ofSeconds(5), false, ElementCondition.visible(header));
+
+        Assert.assertTrue(outcome.containsValue(true));
+        Assert.assertEquals(wait.getScriptCallCount(), 2);
+    }
+
+    @Test
+    public void testScriptTimeoutShortensSlice() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any(), any()))
+                .thenThrow(new ScriptTimeoutException("script timeout"))
+                .thenReturn(callback(true, true));
+        InBrowserWait wait = new InBrowserWait(driver, 10);
+
+        Assert.assertTrue(wait.await(Duration.ofSeconds(60), true, ElementCondition.visible(header)).containsValue(true));
+        verify(js).executeAsyncScript(anyString(), any(), any(), eq(29000L), any());
+        verify(js).executeAsyncScript(anyString(), any(), any(), eq(14000L), any());
+    }
+
+    @Test
+    public void testUnsupportedLocatorIsNotRunInBrowser() {
+        Assert.assertTrue(InBrowserWait.supports(driver, ElementCondition.visible(header)));
+        Assert.assertFalse(InBrowserWait.supports(driver, ElementCondition.visible(By.linkText("Home"))));
+        Assert.assertFalse(InBrowserWait.supports(mock(WebDriver.class), ElementCondition.visible(header)));
+    }
+
+    @Test
+    public void testWaitUtilsUsesBrowserEngineWhenConfigured() {
+        TestConfig config = ConfigManager.getInstance().getTestConfig();
+        config.setWaitEngine("browser");
+        WebElement element = mock(WebElement.class);
+        when(driver.findElement(header)).thenReturn(element);
+        when(js.executeAsyncScript(anyString(), any(), any(), any(), any())).thenReturn(callback(true, true));
+        WaitUtils waitUtils = new WaitUtils(driver, 5);
+
+        Assert.assertSame(waitUtils.waitForElementVisible(header), element);
+        Assert.assertTrue(waitUtils.waitForTextToBePresentInElement(header, "Welcome"));
+
+        verify(js, times(2)).executeAsyncScript(anyString(), any(), any(), any(), any());
+        verify(element, never()).isDisplayed();
+        Assert.assertEquals(waitUtils.getLastPollCount(), 1);
+    }
+}
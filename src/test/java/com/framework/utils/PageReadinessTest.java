@@ -0,0 +1,104 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PageReadiness class
+ * The readiness script is stubbed to return status strings
+ */
+public class PageReadinessTest {
+
+    private WebDriver mockDriver;
+    private JavascriptExecutor mockJsExecutor;
+
+    @BeforeMethod
+    public void setUp() {
+        mockDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        mockJsExecutor = (JavascriptExecutor) mockDriver;
+    }
+
+    @Test
+    public void testReadyAfterElementsBecomeInteractive() {
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any()))
+                .thenReturn("document loading", "waiting for By.id: loginButton", "ready");
+
+        PageReadiness readiness = new PageReadiness(mockDriver, 5, false, 500);
+
+        Assert.assertTrue(readiness.waitUntilReady(By.id("loginButton")));
+        verify(mockJsExecutor, times(3)).executeScript(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLocatorsAndNetworkIdleArePassedToScript() {
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any())).thenReturn("ready");
+
+        new PageReadiness(mockDriver, 5, true, 750)
+                .waitUntilReady("https://example.com/app#/orders", By.cssSelector(".grid"), By.name("q"));
+
+        verify(mockJsExecutor).executeScript(anyString(),
+                argThat(locators -> ((List<List<String>>) locators).size() == 2
+                        && ((List<List<String>>) locators).get(0).get(0).equals("css")),
+                eq(750L), eq("https://example.com/app#/orders"));
+    }
+
+    @Test
+    public void testPreviousDocumentCheckIgnoresPlainUrl() {
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any())).thenReturn("ready");
+
+        new PageReadiness(mockDriver, 5, false, 500).waitUntilReady("https://example.com/page");
+
+        verify(mockJsExecutor).executeScript(anyString(), any(), eq(-1L), isNull());
+    }
+
+    @Test
+    public void testNavigationErrorsAreRetried() {
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any()))
+                .thenThrow(new JavascriptException("document unloaded"))
+                .thenReturn("ready");
+
+        Assert.assertTrue(new PageReadiness(mockDriver, 5, false, 500).waitUntilReady());
+    }
+
+    @Test
+    public void testTimeoutReturnsFalse() {
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any())).thenReturn("network busy");
+
+        Assert.assertFalse(new PageReadiness(mockDriver, 1, true, 500).waitUntilReady());
+    }
+
+    @Test
+    public void testUnsupportedLocatorIsCheckedThroughDriver() {
+        By linkText = By.linkText("Contact Us");
+        WebElement link = mock(WebElement.class);
+        when(mockJsExecutor.executeScript(anyString(), any(), any(), any())).thenReturn("ready");
+        when(mockDriver.findElements(linkText)).thenReturn(Collections.emptyList()).thenReturn(Arrays.asList(link));
+        when(link.isDisplayed()).thenReturn(true);
+        when(link.isEnabled()).thenReturn(true);
+
+        Assert.assertTrue(new PageReadiness(mockDriver, 5, false, 500).waitUntilReady(linkText));
+        verify(mockDriver, times(2)).findElements(linkText);
+    }
+
+    @Test
+    public void testToScriptLocator() {
+        Assert.assertEquals(PageReadiness.toScriptLocator(By.id("user"))[0], "id");
+        Assert.assertEquals(PageReadiness.toScriptLocator(By.className("btn-primary"))[1], ".btn-primary");
+        Assert.assertEquals(PageReadiness.toScriptLocator(By.xpath("//h1"))[1], "//h1");
+        Assert.assertNull(PageReadiness.toScriptLocator(By.linkText("Home")));
+    }
+}
@@ -0,0 +1,139 @@
+package com.framework.utils;
+
+import com.framework.config.TestConfig;
+import com.framework.exceptions.ConfigurationException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PollingStrategy class
+ */
+public class PollingStrategyTest {
+
+    @Test
+    public void testFixedDelay() {
+        PollingStrategy strategy = PollingStrategy.fixed(250);
+
+        Assert.assertEquals(strategy.getDelayMillis(1), 250);
+        Assert.assertEquals(strategy.getDelayMillis(10), 250);
+    }
+
+    @Test
+    public void testExponentialDelayIsCapped() {
+        PollingStrategy strategy = PollingStrategy.exponential(50, 2.0, 1000);
+
+        Assert.assertEquals(strategy.getDelayMillis(1), 50);
+        Assert.assertEquals(strategy.getDelayMillis(2), 100);
+        Assert.assertEquals(strategy.getDelayMillis(4), 400);
+        Assert.assertEquals(strategy.getDelayMillis(6), 1000);
+        Assert.assertEquals(strategy.getDelayMillis(100), 1000);
+    }
+
+    @Test
+    public void testFibonacciDelay() {
+        PollingStrategy strategy = PollingStrategy.fibonacci(50, 600);
+
+        long[] expected = {50, 50, 100, 150, 250, 400, 600, 600};
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(strategy.getDelayMillis(i + 1), expected[i], "Sleep " + (i + 1));
+        }
+    }
+
+    @Test
+    public void testJitterStaysWithinSpreadAndCap() {
+        PollingStrategy strategy = PollingStrategy.exponential(100, 2.0, 400).withJitter(0.5);
+
+        for (int i = 0; i < 200; i++) {
+            long first = strategy.nextDelayMillis(1);
+            Assert.assertTrue(first >= 50 && first <= 150, "Jittered delay " + first);
+            Assert.assertTrue(strategy.nextDelayMillis(5) <= 400);
+        }
+    }
+
+    @Test
+    public void testSleeperFollowsStrategyAndCountsPolls() throws InterruptedException {
+        List<Long> sleeps = new ArrayList<>();
+        Sleeper recorder = duration -> sleeps.add(duration.toMillis());
+        PollingStrategy.PollingSleeper sleeper = PollingStrategy.exponential(10, 3.0, 100)
+                .newSleeper(Duration.ofSeconds(10), recorder);
+
+        Assert.assertEquals(sleeper.getPollCount(), 1, "First check is immediate");
+        for (int i = 0; i < 4; i++) {
+            sleeper.sleep(Duration.ofMillis(500));
+        }
+
+        Assert.assertEquals(sleeps, List.of(10L, 30L, 90L, 100L));
+        Assert.assertEquals(sleeper.getPollCount(), 5);
+    }
+
+    @Test
+    public void testSleeperDoesNotSleepPastTimeout() throws InterruptedException {
+        List<Long> sleeps = new ArrayList<>();
+        PollingStrategy.PollingSleeper sleeper = PollingStrategy.fixed(5000)
+                .newSleeper(Duration.ofMillis(200), duration -> sleeps.add(duration.toMillis()));
+
+        sleeper.sleep(Duration.ofMillis(500));
+
+        Assert.assertTrue(sleeps.get(0) <= 200, "Slept " + sleeps.get(0) + " ms");
+    }
+
+    @Test
+    public void testFromConfig() {
+        TestConfig config = new TestConfig();
+        config.setWaitPollingStrategy("Fibonacci");
+        config.setWaitPollingInitialMillis(20);
+        config.setWaitPollingMaxMillis(300);
+
+        PollingStrategy strategy = PollingStrategy.fromConfig(config);
+
+        Assert.assertEquals(strategy.getType(), PollingStrategy.Type.FIBONACCI);
+        Assert.assertEquals(strategy.getInitialMillis(), 20);
+        Assert.assertEquals(strategy.getMaxMillis(), 300);
+    }
+
+    @Test(expectedExceptions = ConfigurationException.class)
+    public void testFromConfigRejectsUnknownStrategy() {
+        TestConfig config = new TestConfig();
+        config.setWaitPollingStrategy("random");
+
+        PollingStrategy.fromConfig(config);
+    }
+
+    @Test
+    public void testBackoffUsesFewerPollsThanFixedInterval() {
+        By locator = By.id("late");
+        WebDriver driver = mock(WebDriver.class);
+        WebElement element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(true);
+        AtomicLong appearsAt = new AtomicLong();
+        when(driver.findElement(locator)).thenAnswer(invocation -> {
+            if (System.currentTimeMillis() < appearsAt.get()) {
+                throw new NoSuchElementException("not yet");
+            }
+            return element;
+        });
+
+        WaitUtils fixed = new WaitUtils(driver, 5).withPolling(PollingStrategy.fixed(20));
+        appearsAt.set(System.currentTimeMillis() + 600);
+        fixed.waitForElementVisible(locator, 5);
+        WaitUtils backoff = new WaitUtils(driver, 5).withPolling(PollingStrategy.exponential(20, 2.0, 1000));
+        appearsAt.set(System.currentTimeMillis() + 600);
+        backoff.waitForElementVisible(locator, 5);
+
+        Assert.assertTrue(fixed.getLastPollCount() > 20, "Fixed polls: " + fixed.getLastPollCount());
+        Assert.assertTrue(backoff.getLastPollCount() <= 7, "Backoff polls: " + backoff.getLastPollCount());
+        Assert.assertTrue(WaitUtils.getTotalPollCount() >= fixed.getLastPollCount() + backoff.getLastPollCount());
+    }
+}
@@ -0,0 +1,127 @@
+package com.framework.utils;
+
+import com.framework.config.ConfigManager;
+import com.framework.exceptions.FrameworkException;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for VirtualThreads class
+ * The benchmark compares blocking HTTP round trips, the shape of a WebDriver command,
+ * on the platform pool used for parallel tests and on virtual threads
+ */
+public class VirtualThreadsTest {
+
+    private static final int BENCHMARK_REQUESTS = 200;
+    private static final int SERVER_DELAY_MILLIS = 20;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private URL endpoint;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/session", exchange -> {
+            try {
+                Thread.sleep(SERVER_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"value\":null}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/session");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void roundTrip() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) endpoint.openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double measureThroughput(ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BENCHMARK_REQUESTS; i++) {
+            futures.add(executor.submit(this::roundTrip));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        return BENCHMARK_REQUESTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @Test
+    public void testSupplyAsyncCarriesExecutionContext() throws Exception {
+        ExecutionContext.ContextLocal<String> testName = new ExecutionContext.ContextLocal<>("testName");
+        testName.set("checkout");
+        try {
+            Assert.assertEquals(VirtualThreads.supplyAsync(testName::get).get(5, TimeUnit.SECONDS), "checkout");
+        } finally {
+            testName.remove();
+        }
+    }
+
+    @Test
+    public void testUnsupportedRuntimeIsReported() {
+        if (VirtualThreads.isSupported()) {
+            Assert.assertTrue(VirtualThreads.newVirtualThreadFactory("test-").newThread(() -> { }).getName().startsWith("test-"));
+        } else {
+            Assert.assertFalse(VirtualThreads.isEnabled());
+            Assert.assertThrows(FrameworkException.class, () -> VirtualThreads.newVirtualThreadFactory("test-"));
+        }
+    }
+
+    @Test
+    public void testThroughputAgainstPlatformPool() throws Exception {
+        int threadCount = ConfigManager.getInstance().getTestConfig().getThreadCount();
+        double platform = measureThroughput(Executors.newFixedThreadPool(threadCount));
+        if (!VirtualThreads.isSupported()) {
+            throw new SkipException(String.format("Platform pool of %d threads: %.0f requests/s; virtual threads need Java 21",
+                    threadCount, platform));
+        }
+
+        double virtual = measureThroughput(VirtualThreads.newVirtualThreadExecutor("benchmark-"));
+
+        LoggerUtils.getLogger(VirtualThreadsTest.class).info(String.format(
+                "Blocking round trips: platform pool of %d threads %.0f requests/s, virtual threads %.0f requests/s",
+                threadCount, platform, virtual));
+        Assert.assertTrue(virtual > platform, "Virtual threads should overlap more blocking calls than the platform pool");
+    }
+}
@@ -0,0 +1,146 @@
+package com.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.config.ConfigManager;
+import com.framework.config.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitTelemetry class
+ */
+public class WaitTelemetryTest {
+
+    private final By header = By.id("header");
+    private final By footer = By.id("footer");
+
+    private TestConfig config;
+    private boolean originalEnabled;
+
+    @BeforeMethod
+    public void setUp() {
+        config = ConfigManager.getInstance().getTestConfig();
+        originalEnabled = config.isWaitTelemetryEnabled();
+        config.setWaitTelemetryEnabled(true);
+        WaitTelemetry.reset();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        config.setWaitTelemetryEnabled(originalEnabled);
+        WaitTelemetry.reset();
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+
+    @Test
+    public void testParallelRecordsAreAllCounted() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    WaitTelemetry.record("waitForElementVisible", header, millis(1), i % 10 == 0, 2);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        WaitTelemetry.LocatorStats stats = WaitTelemetry.getRanked().get(0);
+        Assert.assertEquals(stats.getCalls(), 8000);
+        Assert.assertEquals(stats.getTimeouts(), 800);
+        Assert.assertEquals(stats.getPolls(), 16000);
+        Assert.assertEquals(stats.getTotalNanos(), millis(8000));
+    }
+
+    @Test
+    public void testBucketsAndPercentiles() {
+        Assert.assertEquals(WaitTelemetry.LocatorStats.bucketOf(millis(1)), 0);
+        Assert.assertEquals(WaitTelemetry.LocatorStats.bucketOf(millis(2)), 1);
+        Assert.assertEquals(WaitTelemetry.LocatorStats.bucketOf(millis(3)), 2);
+        Assert.assertEquals(WaitTelemetry.LocatorStats.bucketOf(millis(4)), 2);
+        Assert.assertEquals(WaitTelemetry.LocatorStats.bucketOf(TimeUnit.HOURS.toNanos(1)), 17);
+
+        for (int i = 0; i < 19; i++) {
+            WaitTelemetry.record("waitForElementVisible", header, millis(3), false, 1);
+        }
+        WaitTelemetry.record("waitForElementVisible", header, millis(700), true, 14);
+
+        WaitTelemetry.LocatorStats stats = WaitTelemetry.getRanked().get(0);
+        Assert.assertEquals(stats.getPercentileNanos(50), millis(4));
+        Assert.assertEquals(stats.getPercentileNanos(95), millis(4));
+        Assert.assertEquals(stats.getPercentileNanos(100), millis(700));
+        Assert.assertEquals(stats.getMaxNanos(), millis(700));
+    }
+
+    @Test
+    public void testRankingAndExport() throws IOException {
+        WaitTelemetry.record("waitForElementVisible", header, millis(10), false, 1);
+        WaitTelemetry.record("waitForElementClickable", footer, millis(5000), true, 10);
+        WaitTelemetry.record("waitForElementClickable", footer, millis(20), false, 1);
+
+        List<WaitTelemetry.LocatorStats> ranked = WaitTelemetry.getRanked();
+        Assert.assertEquals(ranked.get(0).getLocator(), footer.toString());
+        Assert.assertEquals(ranked.get(0).getCalls(), 2);
+        Assert.assertEquals(ranked.get(0).getTimeouts(), 1);
+
+        Path directory = Files.createTempDirectory("wait-telemetry");
+        Assert.assertTrue(WaitTelemetry.export(directory, 1));
+
+        JsonNode rows = new ObjectMapper().readTree(directory.resolve("wait-telemetry.json").toFile());
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).get("locator").asText(), footer.toString());
+        Assert.assertEquals(rows.get(0).get("histogram").get("le8192ms").asLong(), 1);
+        String table = Files.readString(directory.resolve("slow-locators.txt"));
+        Assert.assertTrue(table.contains(footer.toString()), table);
+        Assert.assertFalse(table.contains(header.toString()), table);
+    }
+
+    @Test
+    public void testWaitsAndLookupsAreRecorded() {
+        WebDriver driver = mock(WebDriver.class);
+        when(driver.findElement(header)).thenThrow(new NoSuchElementException("absent"));
+        WaitUtils waitUtils = new WaitUtils(driver, 1);
+
+        Assert.assertFalse(waitUtils.waitForTitleContains("Home", 1));
+        Assert.assertFalse(waitUtils.isElementDisplayed(header));
+
+        List<WaitTelemetry.LocatorStats> ranked = WaitTelemetry.getRanked();
+        Assert.assertEquals(ranked.size(), 2);
+        Assert.assertEquals(ranked.get(0).getWaitType(), "waitForTitleContains");
+        Assert.assertEquals(ranked.get(0).getTimeouts(), 1);
+        Assert.assertTrue(ranked.get(0).getPolls() > 1);
+        Assert.assertEquals(ranked.get(1).getWaitType(), "lookup");
+        Assert.assertEquals(ranked.get(1).getLocator(), header.toString());
+    }
+
+    @Test
+    public void testNothingRecordedWhenDisabled() {
+        config.setWaitTelemetryEnabled(false);
+
+        WaitTelemetry.record("waitForElementVisible", header, millis(10), false, 1);
+
+        Assert.assertTrue(WaitTelemetry.getRanked().isEmpty());
+        Assert.assertFalse(WaitTelemetry.export(Path.of("target"), 25));
+    }
+}
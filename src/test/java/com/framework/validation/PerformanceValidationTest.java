@@ -3,6 +3,8 @@ package com.framework.validation;
 import com.framework.config.ConfigManager;
 import com.framework.driver.BrowserType;
 import com.framework.driver.DriverManager;
+import com.framework.driver.DriverStartupMetrics;
+import com.framework.driver.DriverStartupMetrics.Phase;
 import com.framework.tests.BaseTest;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
@@ -21,6 +23,7 @@ public class PerformanceValidationTest extends BaseTest {
     
     private static final int PERFORMANCE_THRESHOLD_MS = 10000; // 10 seconds max for driver init
     private static final int MEMORY_TEST_ITERATIONS = 5;
+    private static final int INIT_ITERATIONS = 3;
     
     @DataProvider(name = "browserPerformanceProvider")
     public Object[][] browserPerformanceProvider() {
@@ -36,47 +39,42 @@ public class PerformanceValidationTest extends BaseTest {
         System.setProperty("browser", browserName);
         ConfigManager.getInstance().reloadConfiguration();
         
-        List<Long> initTimes = new ArrayList<>();
+        DriverManager driverManager = DriverManager.getInstance();
+        BrowserType browserType = driverManager.resolveConfiguredBrowserType();
+        boolean headless = ConfigManager.getInstance().getTestConfig().isHeadless() || browserType.isHeadless();
+        DriverStartupMetrics.LatencyHistogram total = 
+                DriverStartupMetrics.getHistogram(browserType, headless, Phase.TOTAL);
+        int samplesBefore = total.getCount();
         
-        // Test multiple initializations to get average time
-        for (int i = 0; i < 3; i++) {
-            WebDriver testDriver = null;
+        // Start fresh sessions; DriverManager records every phase of each startup
+        driverManager.quitDriver();
+        for (int i = 0; i < INIT_ITERATIONS; i++) {
             try {
-                long startTime = System.currentTimeMillis();
-                
-                testDriver = DriverManager.getInstance().initializeDriver();
-                
-                long endTime = System.currentTimeMillis();
-                long initTime = endTime - startTime;
-                initTimes.add(initTime);
-                
-                testLogger.getLogger().info("Driver initialization #{} for {} took {} ms", 
-                                           i + 1, browserName, initTime);
-                
-                // Validate initialization time is within acceptable threshold
-                Assert.assertTrue(initTime < PERFORMANCE_THRESHOLD_MS, 
-                                String.format("Driver initialization for %s took %d ms, which exceeds threshold of %d ms", 
-                                            browserName, initTime, PERFORMANCE_THRESHOLD_MS));
-                
+                driverManager.initializeDriver();
             } finally {
-                if (testDriver != null) {
-                    try {
-                        testDriver.quit();
-                    } catch (Exception e) {
-                        testLogger.getLogger().warn("Error closing performance test driver: {}", e.getMessage());
-                    }
-                }
+                driverManager.quitDriver();
             }
         }
         
-        // Calculate average initialization time
-        double avgTime = initTimes.stream().mapToLong(Long::longValue).average().orElse(0.0);
-        testLogger.getLogger().info("Average initialization time for {}: {:.2f} ms", browserName, avgTime);
+        total = DriverStartupMetrics.getHistogram(browserType, headless, Phase.TOTAL);
+        testLogger.getLogger().info("Driver startup latency for {}:{}{}", browserName, 
+                                   System.lineSeparator(), DriverStartupMetrics.toTable());
+        if (total.getCount() == samplesBefore) {
+            // Pooled sessions were leased without starting a browser
+            testLogger.getLogger().info("No new {} sessions were started; nothing to validate", browserType);
+            return;
+        }
+        
+        long p90Millis = TimeUnit.NANOSECONDS.toMillis(total.getPercentile(90));
+        long maxMillis = TimeUnit.NANOSECONDS.toMillis(total.getMax());
+        Assert.assertTrue(p90Millis < PERFORMANCE_THRESHOLD_MS, 
+                        String.format("Driver initialization p90 for %s is %d ms, which exceeds threshold of %d ms", 
+                                    browserName, p90Millis, PERFORMANCE_THRESHOLD_MS));
         
         // Log performance metrics
-        setTestData("avgInitTime_" + browserName, avgTime);
-        setTestData("maxInitTime_" + browserName, initTimes.stream().mapToLong(Long::longValue).max().orElse(0L));
-        setTestData("minInitTime_" + browserName, initTimes.stream().mapToLong(Long::longValue).min().orElse(0L));
+        setTestData("p50InitTime_" + browserName, TimeUnit.NANOSECONDS.toMillis(total.getPercentile(50)));
+        setTestData("p90InitTime_" + browserName, p90Millis);
+        setTestData("maxInitTime_" + browserName, maxMillis);
     }
     
     @Test(description = "Validate memory usage and cleanup")